@@ -0,0 +1,120 @@
+package org.example.benchmarks.jmh;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.data.TestDataFactory;
+import org.example.pojo.Activity;
+import org.example.pojo.ActivityCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * JSON round trip of {@link Activity}, which the POST scenarios and the load supplier run for every request.
+ * <p>
+ * The {@code mapper*} benchmarks are the generic {@code ObjectMapper} String path that {@link Activity} used before
+ * {@link ActivityCodec}; the {@code prebuilt*} ones use an {@code ObjectWriter}/{@code ObjectReader} built once.
+ * Bytes are what a request body or a response needs, so the String variants include the UTF-8 conversion.
+ * <p>
+ * The {@code *OnVirtualThread} benchmarks run each call on a virtual thread of its own, as the VIRTUAL_THREADS and
+ * arrival-rate modes do per request, so nothing kept per thread is ever reused; {@code virtualThreadAlone} is the
+ * cost of the thread itself, to subtract.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActivitySerializationBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter WRITER = MAPPER.writerFor(Activity.class);
+    private static final ObjectReader READER = MAPPER.readerFor(Activity.class);
+
+    private final Activity activity = TestDataFactory.createSampleActivity();
+    private final String json = activity.serialize();
+    private final byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public String serialize() {
+        return activity.serialize();
+    }
+
+    @Benchmark
+    public Activity deserialize() {
+        return Activity.deserialize(json);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return ActivityCodec.encode(activity);
+    }
+
+    @Benchmark
+    public Activity codecDecode() {
+        return ActivityCodec.decode(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] mapperEncode() throws JsonProcessingException {
+        return MAPPER.writeValueAsString(activity).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Activity mapperDecode() throws JsonProcessingException {
+        return MAPPER.readValue(new String(jsonBytes, StandardCharsets.UTF_8), Activity.class);
+    }
+
+    @Benchmark
+    public byte[] prebuiltEncode() throws JsonProcessingException {
+        return WRITER.writeValueAsBytes(activity);
+    }
+
+    @Benchmark
+    public Activity prebuiltDecode() throws IOException {
+        return READER.readValue(jsonBytes);
+    }
+
+    @Benchmark
+    public Object virtualThreadAlone() throws InterruptedException {
+        return onNewVirtualThread(() -> null);
+    }
+
+    @Benchmark
+    public Object codecEncodeOnVirtualThread() throws InterruptedException {
+        return onNewVirtualThread(() -> ActivityCodec.encode(activity));
+    }
+
+    @Benchmark
+    public Object serializeOnVirtualThread() throws InterruptedException {
+        return onNewVirtualThread(activity::serialize);
+    }
+
+    /**
+     * What the load engine's default body supplier does per request.
+     */
+    @Benchmark
+    public String createAndSerialize() {
+        return TestDataFactory.createSampleActivity().serialize();
+    }
+
+    private static Object onNewVirtualThread(Supplier<Object> task) throws InterruptedException {
+        Object[] result = new Object[1];
+        Thread thread = Thread.ofVirtual().start(() -> result[0] = task.get());
+        thread.join();
+        return result[0];
+    }
+}
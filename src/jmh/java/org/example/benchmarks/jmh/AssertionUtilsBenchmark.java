@@ -0,0 +1,60 @@
+package org.example.benchmarks.jmh;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.data.TestDataFactory;
+import org.example.pojo.Activity;
+import org.example.utils.AssertionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link AssertionUtils#assertResponseBodyContains} on response bodies the size of a single activity and of the
+ * full activity list. The last expected value only occurs at the end of the body, so it is the worst case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertionUtilsBenchmark {
+
+    @Param({"1", "30", "1000"})
+    public int activities;
+
+    private String responseBody;
+    private String lastTitle;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        List<Activity> list = IntStream.rangeClosed(1, activities).mapToObj(TestDataFactory::createActivity).toList();
+        responseBody = new ObjectMapper().writeValueAsString(list);
+        lastTitle = "Activity " + activities;
+    }
+
+    @Benchmark
+    public String assertFieldNames() {
+        AssertionUtils.assertResponseBodyContains(responseBody, "id", "title", "dueDate", "completed");
+        return responseBody;
+    }
+
+    @Benchmark
+    public String assertValueAtEnd() {
+        AssertionUtils.assertResponseBodyContains(responseBody, "id", "title", "dueDate", "completed", lastTitle);
+        return responseBody;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.benchmarks.jmh;
+
+import com.opencsv.exceptions.CsvException;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.example.utils.FileReaderUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileReaderUtils#readFile} on generated CSV and XLSX files of increasing size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileReaderUtilsBenchmark {
+    private static final List<String> COLUMN_NAMES = List.of("Name", "Age", "City");
+
+    @Param({"csv", "xlsx"})
+    public String format;
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private Path file;
+
+    @Setup
+    public void createFile() throws IOException {
+        file = Files.createTempFile("reader-benchmark", "." + format);
+        if (format.equals("csv")) {
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                writer.write(String.join(",", COLUMN_NAMES) + "\n");
+                for (int i = 0; i < rows; i++) {
+                    writer.write("Name " + i + "," + (20 + i % 50) + ",City " + i % 100 + "\n");
+                }
+            }
+        } else {
+            try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream os = Files.newOutputStream(file)) {
+                Sheet sheet = workbook.createSheet();
+                Row header = sheet.createRow(0);
+                for (int c = 0; c < COLUMN_NAMES.size(); c++) {
+                    header.createCell(c).setCellValue(COLUMN_NAMES.get(c));
+                }
+                for (int i = 0; i < rows; i++) {
+                    Row row = sheet.createRow(i + 1);
+                    row.createCell(0).setCellValue("Name " + i);
+                    row.createCell(1).setCellValue(20 + i % 50);
+                    row.createCell(2).setCellValue("City " + i % 100);
+                }
+                workbook.write(os);
+            }
+        }
+    }
+
+    @TearDown
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> readFile() throws IOException, CsvException {
+        return FileReaderUtils.readFile(file.toString(), COLUMN_NAMES);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.benchmarks.jmh;
+
+import org.example.data.TestDataFactory;
+import org.example.pojo.Activity;
+import org.example.utils.load.BodyCorpus;
+import org.example.utils.load.ResponseValidator;
+import org.example.utils.load.ResponseValidators;
+import org.example.utils.load.TransportRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of checking a load response body: the streaming {@link ResponseValidators} against building a String of the
+ * body and binding it to {@link Activity}, which is what a functional-style check would do per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseValidationBenchmark {
+    private final BodyCorpus corpus = BodyCorpus.generate(1, i -> TestDataFactory.createActivity(7).serialize());
+    private final byte[] body = corpus.next();
+    private final TransportRequest request = TransportRequest.post("http://localhost/api/v1/Activities", body);
+    private final ResponseValidator idEquals = ResponseValidators.fieldEquals("id", 7);
+    private final ResponseValidator idMatchesRequest = ResponseValidators.fieldMatchesRequest("id");
+    private final ResponseValidator idMatchesCorpusRequest = ResponseValidators.fieldMatchesRequest("id", corpus);
+
+    @Benchmark
+    public String streamingFieldEquals() throws IOException {
+        return idEquals.validate(request, body);
+    }
+
+    @Benchmark
+    public String streamingFieldMatchesRequest() throws IOException {
+        return idMatchesRequest.validate(request, body);
+    }
+
+    @Benchmark
+    public String streamingFieldMatchesCorpusRequest() throws IOException {
+        return idMatchesCorpusRequest.validate(request, body);
+    }
+
+    /**
+     * A check on a virtual thread of its own, as in open-loop runs; compare with
+     * {@code ActivitySerializationBenchmark.virtualThreadAlone} for the cost of the thread.
+     */
+    @Benchmark
+    public Object streamingFieldMatchesCorpusRequestOnVirtualThread() throws InterruptedException {
+        Object[] result = new Object[1];
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                result[0] = idMatchesCorpusRequest.validate(request, body);
+            } catch (IOException e) {
+                result[0] = e;
+            }
+        });
+        thread.join();
+        return result[0];
+    }
+
+    @Benchmark
+    public boolean deserializeAndCompare() {
+        return Activity.deserialize(new String(body, StandardCharsets.UTF_8)).getId() == 7;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.benchmarks.jmh;
+
+import org.example.utils.RestApiUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * URL building in {@link RestApiUtils}, which runs once per request in scenarios and load tests. The {@code legacy*}
+ * benchmarks keep the search-and-replace implementation the precompiled {@code UrlTemplate} replaced, as a baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestApiUtilsBenchmark {
+    private final Map<String, String> queryParams = new LinkedHashMap<>(Map.of(
+            "page", "2",
+            "size", "50",
+            "title", "Activity 30 & more"));
+    private final Map<String, String> namedParams = Map.of("id", "15");
+
+    @Benchmark
+    public String urlWithSafeParam() {
+        return RestApiUtils.ACTIVITIES_BY_ID.getUrlWithParams("15");
+    }
+
+    @Benchmark
+    public String urlWithUnsafeParam() {
+        return RestApiUtils.ACTIVITIES_BY_ID.getUrlWithParams("a b/c?d");
+    }
+
+    @Benchmark
+    public String urlWithNamedParam() {
+        return RestApiUtils.ACTIVITIES_BY_ID.getUrlWithParams(namedParams);
+    }
+
+    @Benchmark
+    public String urlWithQueryParams() {
+        return RestApiUtils.ACTIVITIES.getUrlWithQueryParams(queryParams);
+    }
+
+    @Benchmark
+    public String legacyUrlWithSafeParam() {
+        return legacyUrlWithParams(RestApiUtils.ACTIVITIES_BY_ID.getUrl(), "15");
+    }
+
+    @Benchmark
+    public String legacyUrlWithUnsafeParam() {
+        return legacyUrlWithParams(RestApiUtils.ACTIVITIES_BY_ID.getUrl(), "a b/c?d");
+    }
+
+    @Benchmark
+    public String legacyUrlWithQueryParams() {
+        return legacyUrlWithQueryParams(RestApiUtils.ACTIVITIES.getUrl(), queryParams);
+    }
+
+    private static String legacyUrlWithParams(String url, String... params) {
+        StringBuilder resultUrl = new StringBuilder(url);
+        int paramIndex = 0;
+        while (resultUrl.indexOf("{") != -1) {
+            if (paramIndex >= params.length) {
+                throw new IllegalArgumentException("Not enough parameters provided for URL: " + resultUrl);
+            }
+            int closingBraceIndex = resultUrl.indexOf("}", resultUrl.indexOf("{"));
+            resultUrl.replace(resultUrl.indexOf("{"), closingBraceIndex + 1,
+                    URLEncoder.encode(params[paramIndex++], StandardCharsets.UTF_8));
+        }
+        if (paramIndex < params.length) {
+            throw new IllegalArgumentException("Too many parameters provided for URL: " + resultUrl);
+        }
+        return resultUrl.toString();
+    }
+
+    private static String legacyUrlWithQueryParams(String url, Map<String, String> queryParams) {
+        StringBuilder urlWithParams = new StringBuilder(url).append('?');
+        queryParams.forEach((key, value) ->
+                urlWithParams.append(URLEncoder.encode(key, StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8))
+                        .append('&')
+        );
+        urlWithParams.setLength(urlWithParams.length() - 1);
+        return urlWithParams.toString();
+    }
+}
@@ -23,3 +23,32 @@ Feature: Api Feature
 
   Scenario: Perform gradual load test on API
     Given I perform a gradual load test on "ACTIVITIES" starting with 10 users up to 20 users incrementing by 10 every 10 seconds with 10 requests with status 200
+
+  Scenario: Run a spike load profile against the local stub
+    Given the API is served by a local stub with a median latency of 5 ms and p99 of 50 ms
+    And I run a "spike" load profile on "ACTIVITIES" from 2 to 10 users for 10 seconds with status 200
+
+  Scenario: Run a ramp load profile against the local stub
+    Given the API is served by a local stub with a median latency of 5 ms and p99 of 50 ms
+    And I run a "ramp" load profile on "ACTIVITIES" from 1 to 20 users for 4 seconds with status 200
+    Then the p50 response time is below 1000 ms
+    And throughput is at least 5 requests per second
+    And the error rate is below 0.5%
+    And p99 latency and throughput have not regressed by more than 50 percent
+
+  Scenario: Find the maximum sustainable load on the local stub
+    Given the API is served by a local stub with a median latency of 5 ms and p99 of 50 ms
+    And I search for the maximum sustainable users on "ACTIVITIES" with p99 below 300 ms and errors below 0.1 percent up to 16 users probing 2 seconds each with status 200
+
+  Scenario: Balance a ramp load profile over three local stubs
+    Given the API is served by 3 local stubs with median latencies in steps of 5 ms balanced by "ewma"
+    And I run a "ramp" load profile on "ACTIVITIES" from 1 to 12 users for 4 seconds with status 200
+    Then the error rate is below 0.5%
+
+  Scenario: Verify many activities in one pass against the local stub
+    Given the API is served by a local stub with a median latency of 20 ms and p99 of 100 ms
+    Then activities 1 to 30 of "ACTIVITIES_BY_ID" are returned with status 200
+    And these ids of "ACTIVITIES_BY_ID" are returned with status 200:
+      | 3  |
+      | 14 |
+      | 27 |
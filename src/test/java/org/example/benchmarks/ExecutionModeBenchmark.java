@@ -0,0 +1,75 @@
+package org.example.benchmarks;
+
+import org.example.stub.ActivityStubServer;
+import org.example.stub.LatencyDistribution;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.load.ExecutionMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Side-by-side comparison of the platform-thread pool and the virtual-thread executor in
+ * {@link RestApiLoadUtils#runLoadTest}. Both modes drive the same in-process HTTP server, which answers every
+ * request after a fixed delay, so the numbers reflect what the generator can sustain rather than the network.
+ * <p>
+ * Run with {@code mvn -Pload-benchmark test-compile exec:java}; tune it with {@code -Dbench.users=100,1000,10000},
+ * {@code -Dbench.requestsPerUser=5} and {@code -Dbench.serverDelayMs=100}.
+ */
+public class ExecutionModeBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionModeBenchmark.class);
+
+    public static void main(String[] args) {
+        int[] userCounts = Arrays.stream(System.getProperty("bench.users", "100,1000,5000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int requestsPerUser = Integer.getInteger("bench.requestsPerUser", 5);
+        int serverDelayMs = Integer.getInteger("bench.serverDelayMs", 100);
+
+        try (ActivityStubServer server = new ActivityStubServer()
+                .latency(LatencyDistribution.fixed(Duration.ofMillis(serverDelayMs)))
+                .start()) {
+            String url = server.getUrl("/Activities");
+            // Warm up class loading and JIT for both paths before measuring
+            for (ExecutionMode mode : ExecutionMode.values()) {
+                RestApiLoadUtils.runLoadTest(url, () -> "{}", 10, 5, 200, mode);
+            }
+
+            StringBuilder table = new StringBuilder(String.format("%n%-17s %7s %10s %10s %10s %12s %11s%n",
+                    "mode", "users", "requests", "req/s", "p99 (ms)", "peak threads", "heap (MB)"));
+            for (int users : userCounts) {
+                for (ExecutionMode mode : ExecutionMode.values()) {
+                    table.append(measure(mode, url, users, requestsPerUser)).append(System.lineSeparator());
+                }
+            }
+            LOGGER.info("Execution mode benchmark (server delay {} ms, {} requests per user):{}",
+                    serverDelayMs, requestsPerUser, table);
+        }
+    }
+
+    private static String measure(ExecutionMode mode, String url, int users, int requestsPerUser) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        threads.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        RestApiLoadUtils.LoadTestResult result;
+        try {
+            result = RestApiLoadUtils.runLoadTest(url, () -> "{}", users, requestsPerUser, 200, mode);
+        } catch (OutOfMemoryError e) {
+            return String.format("%-17s %7d %s", mode, users, "failed: " + e.getMessage());
+        }
+        double elapsedSecs = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        return String.format("%-17s %7d %10d %10.1f %10.2f %12d %11d",
+                mode, users, result.totalRequests, result.totalRequests / elapsedSecs, result.p99Micros / 1000.0,
+                threads.getPeakThreadCount(), memory.getHeapMemoryUsage().getUsed() / (1024 * 1024));
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.benchmarks;
+
+import org.example.stub.StubServerProcess;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.load.ExecutionMode;
+import org.example.utils.load.JdkHttpTransport;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.RestAssuredTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Compares the CPU cost of the load transports. Each transport drives the same stub server with the same number of
+ * virtual-thread users; the key figure is requests per CPU-second, i.e. how many requests one fully busy generator
+ * core can issue. That figure is based on this JVM's process CPU time, so the stub runs in a separate JVM
+ * ({@link StubServerProcess}) and none of its handler threads, JIT or GC is charged to the transport.
+ * <p>
+ * Run with {@code mvn -Pload-benchmark test-compile exec:java -Dbenchmark.main=org.example.benchmarks.TransportBenchmark};
+ * tune it with {@code -Dbench.users=200}, {@code -Dbench.requestsPerUser=50} and {@code -Dbench.serverDelayMs=5}.
+ */
+public class TransportBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransportBenchmark.class);
+
+    public static void main(String[] args) {
+        int users = Integer.getInteger("bench.users", 200);
+        int requestsPerUser = Integer.getInteger("bench.requestsPerUser", 50);
+        int serverDelayMs = Integer.getInteger("bench.serverDelayMs", 5);
+        List<LoadTransport> transports = List.of(RestAssuredTransport.INSTANCE, new JdkHttpTransport());
+
+        try (StubServerProcess server = StubServerProcess.start(Duration.ofMillis(serverDelayMs))) {
+            StringBuilder table = new StringBuilder(String.format("%n%-12s %10s %10s %10s %16s%n",
+                    "transport", "requests", "req/s", "p99 (ms)", "req/CPU-second"));
+            for (LoadTransport transport : transports) {
+                LoadOptions options = LoadOptions.defaults()
+                        .executionMode(ExecutionMode.VIRTUAL_THREADS)
+                        .transport(transport);
+                // Warm up connection pools and JIT before measuring
+                RestApiLoadUtils.runLoadTest(server.getUrl("/Activities"), () -> "{}", users, Math.max(requestsPerUser / 5, 1), 200, options);
+                RestApiLoadUtils.LoadTestResult result =
+                        RestApiLoadUtils.runLoadTest(server.getUrl("/Activities"), () -> "{}", users, requestsPerUser, 200, options);
+                table.append(String.format("%-12s %10d %10.1f %10.2f %16.1f%n", transport.name(), result.totalRequests,
+                        result.requestsPerSecond(), result.p99Micros / 1000.0, result.requestsPerCpuSecond()));
+                transport.close();
+            }
+            LOGGER.info("Transport benchmark ({} users, {} requests per user, server delay {} ms):{}",
+                    users, requestsPerUser, serverDelayMs, table);
+        }
+    }
+}
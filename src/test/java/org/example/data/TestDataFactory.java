@@ -12,4 +12,16 @@ public class TestDataFactory {
         activity.setCompleted(false);
         return activity;
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a distinct activity per id, for load tests that should not send the same payload every time.
+     */
+    public static Activity createActivity(int id) {
+        Activity activity = new Activity();
+        activity.setId(id);
+        activity.setTitle("Activity " + id);
+        activity.setDueDate("2024-07-30T11:58:38.538Z");
+        activity.setCompleted(id % 2 == 0);
+        return activity;
+    }
+}
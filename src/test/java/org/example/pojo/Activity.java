@@ -1,11 +1,10 @@
 package org.example.pojo;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 /**
@@ -13,7 +12,6 @@ import java.util.Objects;
  */
 public class Activity {
     private static final Logger LOGGER = LoggerFactory.getLogger(Activity.class);
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private int id;
     private String title;
@@ -64,25 +62,57 @@ public class Activity {
         this.completed = completed;
     }
 
+    /**
+     * Returns this activity as JSON. Prefer {@link #toJsonBytes()} when the JSON is sent as a request body.
+     */
     @JsonIgnore
     public String serialize() {
         try {
-            return OBJECT_MAPPER.writeValueAsString(this);
-        } catch (JsonProcessingException e) {
+            return ActivityCodec.encodeToString(this);
+        } catch (UncheckedIOException e) {
             LOGGER.error("Failed to serialize Activity: {}", this, e);
             throw new RuntimeException("Serialization failed", e);
         }
     }
 
+    /**
+     * Returns this activity as UTF-8 JSON, encoded by {@link ActivityCodec} without an intermediate String.
+     */
+    public byte[] toJsonBytes() {
+        try {
+            return ActivityCodec.encode(this);
+        } catch (UncheckedIOException e) {
+            LOGGER.error("Failed to serialize Activity: {}", this, e);
+            throw new RuntimeException("Serialization failed", e);
+        }
+    }
+
+    /**
+     * Decodes an activity with {@link ActivityCodec}. Unlike a default {@code ObjectMapper}, fields that
+     * {@code Activity} does not have are ignored instead of failing, so responses with extra fields still parse;
+     * known fields of the wrong JSON type still fail.
+     */
     public static Activity deserialize(String jsonString) {
         try {
-            return OBJECT_MAPPER.readValue(jsonString, Activity.class);
-        } catch (JsonProcessingException e) {
+            return ActivityCodec.decode(jsonString);
+        } catch (UncheckedIOException e) {
             LOGGER.error("Failed to deserialize Activity from JSON: {}", jsonString, e);
             throw new RuntimeException("Deserialization failed", e);
         }
     }
 
+    /**
+     * Decodes an activity straight from response bytes, e.g. {@code Activity.fromJson(response.asByteArray())}.
+     */
+    public static Activity fromJson(byte[] json) {
+        try {
+            return ActivityCodec.decode(json);
+        } catch (UncheckedIOException e) {
+            LOGGER.error("Failed to deserialize Activity from {} bytes of JSON", json.length, e);
+            throw new RuntimeException("Deserialization failed", e);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,211 @@
+package org.example.pojo;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.utils.PooledJsonFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads and writes {@link Activity} JSON straight from and to bytes with Jackson's streaming API, for bodies built
+ * per request and responses parsed under load. Nothing goes through an intermediate {@code String}, no reflection
+ * or serializer lookup happens per call, and the field names are encoded once. Jackson's working buffers come from
+ * a {@link PooledJsonFactory}, so they are reused on virtual threads started per request too.
+ * <p>
+ * The output is byte-for-byte what {@code ObjectMapper} writes for an {@link Activity}. Decoding ignores fields it
+ * does not know, so responses with extra fields still parse, but rejects known fields of the wrong JSON type: the id
+ * must be an integer, {@code completed} a boolean and the title and due date strings or {@code null}.
+ */
+public class ActivityCodec {
+    private static final JsonFactory JSON_FACTORY = new PooledJsonFactory();
+    private static final ObjectReader LIST_READER = new ObjectMapper().readerForListOf(Activity.class);
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString COMPLETED = new SerializedString("completed");
+
+    public static byte[] encode(Activity activity) {
+        ResultBytes out = new ResultBytes();
+        encode(activity, out);
+        return out.bytes;
+    }
+
+    /**
+     * Writes the activity to {@code out}, which is flushed but not closed.
+     */
+    public static void encode(Activity activity, OutputStream out) {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            write(activity, generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode " + activity, e);
+        }
+    }
+
+    /**
+     * Encodes straight to characters, for callers that need the JSON as a String anyway.
+     */
+    public static String encodeToString(Activity activity) {
+        ResultChars out = new ResultChars();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            write(activity, generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode " + activity, e);
+        }
+        return out.text;
+    }
+
+    private static void write(Activity activity, JsonGenerator generator) throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+        generator.writeFieldName(ID);
+        generator.writeNumber(activity.getId());
+        generator.writeFieldName(TITLE);
+        generator.writeString(activity.getTitle());
+        generator.writeFieldName(DUE_DATE);
+        generator.writeString(activity.getDueDate());
+        generator.writeFieldName(COMPLETED);
+        generator.writeBoolean(activity.isCompleted());
+        generator.writeEndObject();
+    }
+
+    public static Activity decode(byte[] json) {
+        return decode(json, 0, json.length);
+    }
+
+    public static Activity decode(byte[] json, int offset, int length) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json, offset, length)) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode an Activity", e);
+        }
+    }
+
+    public static Activity decode(String json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode an Activity", e);
+        }
+    }
+
+    /**
+     * Reads one activity from {@code in}, which is not closed. The parser reads ahead into its own buffer, so where
+     * the stream stands afterwards is undefined: pass a stream that holds just this one activity.
+     */
+    public static Activity decode(InputStream in) {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode an Activity", e);
+        }
+    }
+
+    /**
+     * Decodes a JSON array of activities, e.g. the body of {@code GET /Activities}.
+     */
+    public static List<Activity> decodeList(byte[] json) {
+        try {
+            return LIST_READER.readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode a list of Activities", e);
+        }
+    }
+
+    private static Activity read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object but found " + parser.currentToken());
+        }
+        Activity activity = new Activity();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> {
+                    expect(parser, field, value == JsonToken.VALUE_NUMBER_INT);
+                    // Throws for integers outside the int range rather than truncating them
+                    activity.setId(parser.getIntValue());
+                }
+                case "title" -> activity.setTitle(readString(parser, field, value));
+                case "dueDate" -> activity.setDueDate(readString(parser, field, value));
+                case "completed" -> {
+                    expect(parser, field, value == JsonToken.VALUE_TRUE || value == JsonToken.VALUE_FALSE);
+                    activity.setCompleted(parser.getBooleanValue());
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new IOException("Expected the end of the object but found " + parser.currentToken());
+        }
+        return activity;
+    }
+
+    private static String readString(JsonParser parser, String field, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, field, value == JsonToken.VALUE_STRING);
+        return parser.getText();
+    }
+
+    private static void expect(JsonParser parser, String field, boolean typeMatches) throws IOException {
+        if (!typeMatches) {
+            throw new JsonParseException(parser, "Unexpected " + parser.currentToken() + " for field '" + field + "'");
+        }
+    }
+
+    /**
+     * Keeps what the generator writes. The generator fills its own pooled buffer and hands it over in one write when
+     * it is closed, so for a typical activity the result is a single exact-size copy and nothing is kept per thread.
+     */
+    private static final class ResultBytes extends OutputStream {
+        private byte[] bytes = new byte[0];
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int length = bytes.length;
+            bytes = Arrays.copyOf(bytes, length + len);
+            System.arraycopy(b, off, bytes, length, len);
+        }
+    }
+
+    /**
+     * Character counterpart of {@link ResultBytes}.
+     */
+    private static final class ResultChars extends Writer {
+        private String text = "";
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            String written = new String(cbuf, off, len);
+            text = text.isEmpty() ? written : text + written;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,12 +1,40 @@
 package org.example.runners;
 
+import org.example.utils.tests.ActivityCodecTest;
+import org.example.utils.tests.ActivityStubServerTest;
+import org.example.utils.tests.AssertionUtilsTest;
+import org.example.utils.tests.BodyCorpusTest;
+import org.example.utils.tests.BulkFetchTest;
+import org.example.utils.tests.CapacitySearchTest;
+import org.example.utils.tests.DistributedLoadTest;
+import org.example.utils.tests.EndpointRegistryTest;
+import org.example.utils.tests.ErrorCountsTest;
 import org.example.utils.tests.FileReaderUtilTest;
+import org.example.utils.tests.HtmlLoadReportTest;
+import org.example.utils.tests.HttpConnectionPoolTest;
+import org.example.utils.tests.LiveMetricsSamplerTest;
+import org.example.utils.tests.LoadProfileTest;
+import org.example.utils.tests.LocalServerLoadTest;
+import org.example.utils.tests.MixedWorkloadTest;
+import org.example.utils.tests.RegressionGateTest;
+import org.example.utils.tests.RequestJournalTest;
+import org.example.utils.tests.ResponseCacheTest;
+import org.example.utils.tests.ResponseValidatorsTest;
 import org.example.utils.tests.RestApiLoadUtilsTest;
 import org.example.utils.tests.RestApiUtilsTest;
+import org.example.utils.tests.SaturationAnalyzerTest;
+import org.example.utils.tests.UrlTemplateTest;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
 @Suite
-@SelectClasses({FileReaderUtilTest.class, RestApiLoadUtilsTest.class, RestApiUtilsTest.class})
+@SelectClasses({FileReaderUtilTest.class, RestApiLoadUtilsTest.class, RestApiUtilsTest.class,
+        LocalServerLoadTest.class, SaturationAnalyzerTest.class, LiveMetricsSamplerTest.class,
+        LoadProfileTest.class, BodyCorpusTest.class, ActivityStubServerTest.class,
+        DistributedLoadTest.class, MixedWorkloadTest.class, CapacitySearchTest.class,
+        ErrorCountsTest.class, ResponseValidatorsTest.class, RequestJournalTest.class,
+        HtmlLoadReportTest.class, RegressionGateTest.class,
+        AssertionUtilsTest.class, HttpConnectionPoolTest.class, UrlTemplateTest.class,
+        EndpointRegistryTest.class, ResponseCacheTest.class, BulkFetchTest.class, ActivityCodecTest.class})
 public class UnitTestsSuite {
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package org.example.steps;
 
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -7,20 +11,135 @@ import io.cucumber.java.en.When;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.example.pojo.Activity;
+import org.example.stub.ActivityStubServer;
+import org.example.stub.LatencyDistribution;
 import org.example.utils.AssertionUtils;
+import org.example.utils.BulkFetch;
+import org.example.utils.HttpConnectionPool;
+import org.example.utils.ResponseCache;
 import org.example.utils.RestApiLoadUtils;
 import org.example.utils.RestApiUtils;
+import org.example.utils.balancing.BalancingPolicy;
+import org.example.utils.balancing.EndpointRegistry;
+import org.example.utils.balancing.NodeStats;
+import org.example.utils.load.BodyCorpus;
+import org.example.utils.load.CapacitySearch;
+import org.example.utils.load.HtmlLoadReport;
+import org.example.utils.load.IntervalSnapshot;
+import org.example.utils.load.LiveMetricsSampler;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadProfile;
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.ResponseValidators;
+import org.example.utils.load.Slo;
+import org.example.utils.load.baseline.BaselineStore;
+import org.example.utils.load.baseline.RegressionGate;
+import org.example.utils.load.baseline.RunRecord;
+import org.example.utils.load.journal.RequestJournal;
 import org.example.data.TestDataFactory;
 import org.junit.jupiter.api.Assertions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class ApiSteps {
     private static final Logger LOGGER = LoggerFactory.getLogger(ApiSteps.class);
+    private static final String LIVE_METRICS_INTERVAL_PROPERTY = "load.liveMetrics.intervalSecs";
+    private static final String BASELINE_SAMPLE_INTERVAL_PROPERTY = "load.baseline.sampleIntervalMillis";
+    private static final Path LIVE_METRICS_DIR = Path.of("target", "load-metrics");
+    private static final String BODY_CORPUS_SIZE_PROPERTY = "load.bodyCorpusSize";
+    private static final String VALIDATION_SAMPLE_RATE_PROPERTY = "load.validationSampleRate";
+    private static final String JOURNAL_PROPERTY = "load.journal";
+    private static final Path JOURNAL_DIR = Path.of("target", "load-journal");
+    private static final Path REPORT_DIR = Path.of("target", "load-reports");
+    private static final String BASELINE_RUNS_PROPERTY = "load.baseline.runs";
+    private static final String BASELINE_PIN_PROPERTY = "load.baseline.pin";
+    private final BaselineStore baselineStore = BaselineStore.fromSystemProperties();
     private Response response;
+    private final List<ActivityStubServer> stubs = new ArrayList<>();
+    private final LoadTestContext context;
+    private Scenario scenario;
+
+    public ApiSteps(LoadTestContext context) {
+        this.context = context;
+    }
+
+    @Before
+    public void rememberScenario(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    @Before
+    public void useSharedConnectionPool() {
+        HttpConnectionPool.shared();
+    }
+
+    /**
+     * Logs how much the opt-in GET response cache ({@code -Dapi.responseCache=true}) saved over the whole run.
+     */
+    @AfterAll
+    public static void reportResponseCache() {
+        ResponseCache cache = RestApiUtils.getResponseCache();
+        if (cache != null) {
+            LOGGER.info("Response cache: {}", cache.stats());
+        }
+    }
+
+    @Given("the API is served by a local stub")
+    public void startLocalStub() {
+        startLocalStub(LatencyDistribution.none());
+    }
+
+    @Given("the API is served by a local stub with a median latency of {int} ms and p99 of {int} ms")
+    public void startLocalStubWithLatency(int medianMs, int p99Ms) {
+        startLocalStub(LatencyDistribution.logNormal(Duration.ofMillis(medianMs), Duration.ofMillis(p99Ms)));
+    }
+
+    private void startLocalStub(LatencyDistribution latency) {
+        ActivityStubServer stub = new ActivityStubServer().latency(latency).start();
+        stubs.add(stub);
+        RestApiUtils.setBaseUrl(stub.getBaseUrl());
+    }
+
+    /**
+     * Starts one stub per node, each slower than the one before by the median latency, and balances over them
+     * with the given policy, e.g. {@code round-robin}, {@code least-outstanding} or {@code ewma}.
+     */
+    @Given("the API is served by {int} local stubs with median latencies in steps of {int} ms balanced by {string}")
+    public void startBalancedLocalStubs(int nodes, int medianStepMs, String policy) {
+        List<String> baseUrls = new ArrayList<>();
+        for (int i = 1; i <= nodes; i++) {
+            Duration median = Duration.ofMillis((long) medianStepMs * i);
+            ActivityStubServer stub = new ActivityStubServer()
+                    .latency(LatencyDistribution.logNormal(median, median.multipliedBy(3)))
+                    .start();
+            stubs.add(stub);
+            baseUrls.add(stub.getBaseUrl());
+        }
+        RestApiUtils.setEndpointRegistry(EndpointRegistry.of(baseUrls, BalancingPolicy.fromName(policy)));
+    }
+
+    @After
+    public void stopLocalStub() {
+        if (stubs.isEmpty()) {
+            return;
+        }
+        for (ActivityStubServer stub : stubs) {
+            LOGGER.info("Local stub {} served {} requests", stub.getBaseUrl(), stub.getRequestCount());
+            stub.close();
+        }
+        stubs.clear();
+        RestApiUtils.resetBaseUrl();
+    }
 
     @When("the status code is {int}")
     public void verifyStatusCode(int expectedStatusCode) {
@@ -56,21 +175,20 @@ public class ApiSteps {
         LOGGER.info("Performing POST request to endpoint: {}", endpointName);
         RestApiUtils endpoint = RestApiUtils.getApiEndpoint(endpointName);
         Activity activity = TestDataFactory.createSampleActivity();
-        String jsonBody = activity.serialize();
-        LOGGER.debug("POST request body: {}", jsonBody);
+        byte[] jsonBody = activity.toJsonBytes();
+        LOGGER.debug("POST request body: {}", activity);
 
-        response = RestAssured.given()
+        response = RestApiUtils.send(endpoint.getUrl(), url -> RestAssured.given()
                 .contentType("application/json")
                 .body(jsonBody)
-                .post(endpoint.getUrl());
+                .post(url));
         LOGGER.info("Received response with status code: {}", response.getStatusCode());
     }
 
     @Then("check response body information is correct")
     public void verifyResponseBodyInformation() {
         LOGGER.info("Checking if the response body information is correct");
-        String responseBody = getResponse().getBody().asString();
-        Activity responseActivity = Activity.deserialize(responseBody);
+        Activity responseActivity = Activity.fromJson(getResponse().asByteArray());
 
         Activity expectedActivity = TestDataFactory.createSampleActivity();
         Assertions.assertEquals(expectedActivity.getId(), responseActivity.getId(), "Activity ID does not match");
@@ -83,8 +201,35 @@ public class ApiSteps {
     @Given("I perform a GET request to {string} with {int}")
     public void performGetRequestWithId(String endpointName, int id) {
         RestApiUtils endpoint = RestApiUtils.getApiEndpoint(endpointName);
-        String urlWithId = endpoint.getUrlWithParams(String.valueOf(id));
-        response = RestAssured.get(urlWithId);
+        response = RestApiUtils.performGetRequestWithParams(endpoint, String.valueOf(id));
+    }
+
+    @Then("activities {int} to {int} of {string} are returned with status {int}")
+    public void verifyIdRange(int firstId, int lastId, String endpointName, int statusCode) {
+        List<String> ids = IntStream.rangeClosed(firstId, lastId).mapToObj(String::valueOf).toList();
+        verifyIds(RestApiUtils.getApiEndpoint(endpointName), ids, statusCode);
+    }
+
+    @Then("these ids of {string} are returned with status {int}:")
+    public void verifyIdTable(String endpointName, int statusCode, List<String> ids) {
+        verifyIds(RestApiUtils.getApiEndpoint(endpointName), ids, statusCode);
+    }
+
+    /**
+     * Fetches all ids concurrently ({@code -Dapi.bulk.parallelism} at a time) and fails with every id that did not
+     * return {@code statusCode} or, for 200, whose body has another id.
+     */
+    private void verifyIds(RestApiUtils endpoint, List<String> ids, int statusCode) {
+        List<String> failures = new ArrayList<>();
+        for (BulkFetch.Result result : BulkFetch.fetchAll(endpoint, ids, BulkFetch.defaultParallelism())) {
+            if (!result.isOk(statusCode)) {
+                failures.add(result.toString());
+            } else if (statusCode == 200 && !result.id.equals(result.response.jsonPath().getString("id"))) {
+                failures.add(result.id + " (body has id " + result.response.jsonPath().getString("id") + ")");
+            }
+        }
+        Assertions.assertTrue(failures.isEmpty(), failures.size() + " of " + ids.size() + " ids of " + endpoint
+                + " failed: " + String.join(", ", failures));
     }
 
     private Response getResponse() {
@@ -97,16 +242,28 @@ public class ApiSteps {
         RestApiUtils endpoint = RestApiUtils.getApiEndpoint(url);
         Supplier<String> requestBodySupplier = () -> TestDataFactory.createSampleActivity().serialize();
 
-        RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTestWithGradualIncrease(
-                endpoint.getUrl(),
-                initialUsers,
-                maxUsers,
-                requestsPerUser,
-                incrementStep,
-                incrementIntervalSecs,
-                requestBodySupplier,
-                statusCode
-        );
+        RestApiLoadUtils.RampResult result;
+        LiveMetricsSampler sampler = newLiveMetricsSampler(endpoint);
+        try (sampler;
+             RequestJournal journal = newRequestJournal(endpoint)) {
+            result = RestApiLoadUtils.runLoadTestWithGradualIncrease(
+                    endpoint.getUrl(),
+                    initialUsers,
+                    maxUsers,
+                    requestsPerUser,
+                    incrementStep,
+                    incrementIntervalSecs,
+                    requestBodySupplier,
+                    statusCode,
+                    newLoadOptions(sampler, journal)
+            );
+        }
+        attachLoadReport(endpoint, new HtmlLoadReport("Gradual load test on " + endpoint.getUrl())
+                .result(result)
+                .timeSeries(sampler.getSnapshots())
+                .steps(result.steps));
+        context.recordResult("Gradual load test on " + endpoint, result);
+        recordRun(endpoint, result, sampler.getSamples());
 
         LOGGER.info("Load test completed. Total requests: {}, Failed requests: {}, Success rate: {}%",
                 result.totalRequests,
@@ -116,7 +273,194 @@ public class ApiSteps {
                 result.totalResponseTime / result.totalRequests,
                 result.minResponseTime,
                 result.maxResponseTime);
+        result.steps.forEach(step -> LOGGER.info("Step: {}", step));
+        LOGGER.info("{}", result.findSaturationPoint());
+        LOGGER.info("Failures by cause: {}", result.errorSummary());
+        LOGGER.info("Connection pool: {}", HttpConnectionPool.shared().metrics());
+    }
+
+    @Given("I run a {string} load profile on {string} from {int} to {int} users for {int} seconds with status {int}")
+    public void performLoadProfile(String profileName, String url, int fromUsers, int toUsers, int durationSecs, int statusCode) {
+        RestApiUtils endpoint = RestApiUtils.getApiEndpoint(url);
+        LoadProfile profile = LoadProfile.named(profileName, fromUsers, toUsers, Duration.ofSeconds(durationSecs));
+        Supplier<String> requestBodySupplier = () -> TestDataFactory.createSampleActivity().serialize();
+
+        RestApiLoadUtils.ProfileResult result;
+        LiveMetricsSampler sampler = newLiveMetricsSampler(endpoint);
+        try (sampler;
+             RequestJournal journal = newRequestJournal(endpoint)) {
+            result = RestApiLoadUtils.runLoadProfile(endpoint.getUrl(), requestBodySupplier, profile, statusCode,
+                    newLoadOptions(sampler, journal));
+        }
+        attachLoadReport(endpoint, new HtmlLoadReport("Load profile " + result.profileName + " on " + endpoint.getUrl())
+                .result(result)
+                .timeSeries(sampler.getSnapshots())
+                .stages(result.stages));
+        context.recordResult("Load profile " + result.profileName + " on " + endpoint, result);
+        recordRun(endpoint, result, sampler.getSamples());
+
+        LOGGER.info("Load profile {} completed. Total requests: {}, Failed requests: {}, {}",
+                result.profileName, result.totalRequests, result.failedRequests, result.percentileSummary());
+        result.stages.forEach(stage -> LOGGER.info("Stage: {}", stage));
+        LOGGER.info("Failures by cause: {}", result.errorSummary());
+        LOGGER.info("Connection pool: {}", HttpConnectionPool.shared().metrics());
+    }
+
+    @Given("I search for the maximum sustainable users on {string} with p99 below {int} ms and errors below {double} percent up to {int} users probing {int} seconds each with status {int}")
+    public void searchMaxSustainableUsers(String url, int p99Ms, double maxErrorPercent, int maxUsers,
+                                          int probeSecs, int statusCode) {
+        RestApiUtils endpoint = RestApiUtils.getApiEndpoint(url);
+        Slo slo = Slo.p99Below(Duration.ofMillis(p99Ms), maxErrorPercent / 100);
+        CapacitySearch search = new CapacitySearch(slo, CapacitySearch.Mode.USERS)
+                .levels(1, maxUsers)
+                .probeDuration(Duration.ofSeconds(probeSecs));
+        Supplier<String> requestBodySupplier = () -> TestDataFactory.createSampleActivity().serialize();
+
+        CapacitySearch.Result result;
+        LiveMetricsSampler sampler = newLiveMetricsSampler(endpoint);
+        try (sampler;
+             RequestJournal journal = newRequestJournal(endpoint)) {
+            result = RestApiLoadUtils.runCapacitySearch(endpoint.getUrl(), requestBodySupplier, statusCode, search,
+                    newLoadOptions(sampler, journal));
+        }
+        HtmlLoadReport report = new HtmlLoadReport("Capacity search on " + endpoint.getUrl() + " for " + slo)
+                .timeSeries(sampler.getSnapshots())
+                .probes(result.probes);
+        attachLoadReport(endpoint, result.foundSustainableLevel() ? report.result(result.getBestProbe().result) : report);
+        if (result.foundSustainableLevel()) {
+            // The SLO already bounds the error rate of the best probe
+            context.recordResult("Best capacity probe on " + endpoint, result.getBestProbe().result);
+            context.markErrorRateAsserted();
+        }
+
+        Assertions.assertTrue(result.foundSustainableLevel(), "No load level met " + slo);
+    }
+
+    @Then("p99 latency and throughput have not regressed by more than {int} percent")
+    public void verifyNoRegression(int maxRegressionPercent) {
+        RunRecord lastRun = context.getLastRun();
+        Assertions.assertNotNull(lastRun, "No load run to compare; run a load step first");
+        List<RunRecord> reference = baselineStore.pinned(lastRun.scenario, lastRun.endpoint, lastRun.host)
+                .map(List::of)
+                .orElseGet(() -> previousRuns(lastRun, Integer.getInteger(BASELINE_RUNS_PROPERTY, 5)));
+        RegressionGate.Verdict verdict = new RegressionGate()
+                .maxP99Increase(maxRegressionPercent / 100.0)
+                .maxThroughputDrop(maxRegressionPercent / 100.0)
+                .check(lastRun, reference);
+        LOGGER.info("Regression check of {}: {}", lastRun, verdict);
+
+        Assertions.assertFalse(verdict.isInconclusive(), "Too few interval samples to check for a regression, "
+                + "lower -D" + BASELINE_SAMPLE_INTERVAL_PROPERTY + " or run longer: " + verdict);
+        Assertions.assertTrue(verdict.passed(), "Performance regressed: " + verdict);
+    }
+
+    /**
+     * Stores a successful run under the scenario, endpoint and API host, pinning it as the baseline with
+     * {@code -Dload.baseline.pin=true}. Failed runs are not stored, so they cannot skew later comparisons.
+     */
+    private void recordRun(RestApiUtils endpoint, RestApiLoadUtils.LoadTestResult result,
+                           List<IntervalSnapshot> snapshots) {
+        String scenarioName = scenario == null ? "default" : scenario.getName();
+        RunRecord run = RunRecord.from(scenarioName, endpoint.name(), apiHosts(), result, snapshots);
+        context.recordRun(run);
+        if (!result.success) {
+            return;
+        }
+        baselineStore.append(run);
+        if (Boolean.getBoolean(BASELINE_PIN_PROPERTY)) {
+            baselineStore.pin(run);
+            LOGGER.info("Pinned {} as the baseline", run);
+        }
+    }
+
+    private List<RunRecord> previousRuns(RunRecord current, int runs) {
+        List<RunRecord> history = baselineStore.history(current.scenario, current.endpoint, current.host, runs + 1).stream()
+                .filter(run -> run.timestamp != current.timestamp)
+                .toList();
+        return history.subList(Math.max(0, history.size() - runs), history.size());
+    }
+
+    /**
+     * Returns the hosts of the API nodes, e.g. {@code localhost} for the stubs, to keep the run history of each
+     * environment apart. Ports are left out because stubs listen on a new one every run.
+     */
+    private static String apiHosts() {
+        return RestApiUtils.getEndpointRegistry().getNodes().stream()
+                .map(node -> URI.create(node.getBaseUrl()).getHost())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining("+"));
+    }
+
+    /**
+     * Logs live metrics every {@code -Dload.liveMetrics.intervalSecs} (default 5 s) and keeps a sample every
+     * {@code -Dload.baseline.sampleIntervalMillis} (default 250 ms) for the run history, so even a run of a few
+     * seconds gives the regression check enough samples to test.
+     */
+    private LiveMetricsSampler newLiveMetricsSampler(RestApiUtils endpoint) {
+        Duration interval = Duration.ofSeconds(Integer.getInteger(LIVE_METRICS_INTERVAL_PROPERTY, 5));
+        Duration resolution = Duration.ofMillis(Long.getLong(BASELINE_SAMPLE_INTERVAL_PROPERTY, 250));
+        Path output = LIVE_METRICS_DIR.resolve(endpoint.name().toLowerCase() + "-" + System.currentTimeMillis() + ".jsonl");
+        LOGGER.info("Writing live load metrics every {} s to {}", interval.toSeconds(), output);
+        return new LiveMetricsSampler(interval, output).resolution(resolution).start();
+    }
+
+    /**
+     * Writes {@code report} under {@code target/load-reports} and attaches it to the running scenario, so it shows
+     * next to the step in the Cucumber report. With several API nodes the report also has the per-node results.
+     */
+    private void attachLoadReport(RestApiUtils endpoint, HtmlLoadReport report) {
+        EndpointRegistry registry = RestApiUtils.getEndpointRegistry();
+        if (registry.size() > 1) {
+            List<NodeStats> nodes = registry.stats();
+            nodes.forEach(node -> LOGGER.info("Node {}", node));
+            report.nodes(nodes);
+        }
+        String html = report.render();
+        Path output = REPORT_DIR.resolve(endpoint.name().toLowerCase() + "-" + System.currentTimeMillis() + ".html");
+        report.writeTo(output);
+        LOGGER.info("Load report written to {}", output);
+        if (scenario != null) {
+            scenario.attach(html.getBytes(StandardCharsets.UTF_8), "text/html", output.getFileName().toString());
+        }
+    }
+
+    /**
+     * Returns a journal of every request with {@code -Dload.journal=true}, or {@code null} to skip it.
+     */
+    private RequestJournal newRequestJournal(RestApiUtils endpoint) {
+        if (!Boolean.getBoolean(JOURNAL_PROPERTY)) {
+            return null;
+        }
+        Path output = JOURNAL_DIR.resolve(endpoint.name().toLowerCase() + "-" + System.currentTimeMillis() + ".journal");
+        LOGGER.info("Journaling every request to {}", output);
+        return RequestJournal.create(output);
+    }
+
+    /**
+     * Options shared by the load steps. Requests are spread over the API nodes and the per-node results restart.
+     * A {@code -Dload.validationSampleRate} share of the responses (default 10%) is checked to echo the posted
+     * activity id; 0 checks status codes only.
+     */
+    private LoadOptions newLoadOptions(LiveMetricsSampler sampler, RequestJournal journal) {
+        double sampleRate = Double.parseDouble(System.getProperty(VALIDATION_SAMPLE_RATE_PROPERTY, "0.1"));
+        EndpointRegistry registry = RestApiUtils.getEndpointRegistry();
+        registry.resetStats();
+        BodyCorpus corpus = newActivityCorpus();
+        LoadOptions options = LoadOptions.defaults()
+                .transport(registry.balance(LoadTransport.fromSystemProperty()))
+                .listener(sampler)
+                .bodySource(corpus)
+                .validator(ResponseValidators.fieldMatchesRequest("id", corpus), sampleRate);
+        return journal == null ? options : options.listener(journal);
+    }
 
-        Assertions.assertTrue(result.success, "Load test failed");
+    /**
+     * Serializes distinct activities once, so the load loop does not run Jackson for every request.
+     * Returns {@code null} with {@code -Dload.bodyCorpusSize=0}, which falls back to the per-request supplier.
+     */
+    private BodyCorpus newActivityCorpus() {
+        int size = Integer.getInteger(BODY_CORPUS_SIZE_PROPERTY, 256);
+        return size <= 0 ? null : BodyCorpus.generate(size, i -> TestDataFactory.createActivity(i + 1).serialize());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package org.example.steps;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.baseline.RunRecord;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Scenario state shared by the step classes: the result of the last load run, so later steps can assert on it.
+ * Cucumber's PicoContainer creates one instance per scenario and injects it into every step class that asks for
+ * it in its constructor.
+ */
+public class LoadTestContext {
+    private String description;
+    private LoadTestResult lastResult;
+    private RunRecord lastRun;
+    private boolean errorRateAsserted;
+
+    /**
+     * Makes {@code result} the one later steps assert on. A previous run that failed without the scenario stating an
+     * error budget for it fails here, so it cannot be silently replaced.
+     */
+    public void recordResult(String description, LoadTestResult result) {
+        verifyNoFailedRequestsUnlessErrorRateAsserted();
+        this.description = description;
+        this.lastResult = result;
+        this.lastRun = null;
+        this.errorRateAsserted = false;
+    }
+
+    public void recordRun(RunRecord run) {
+        this.lastRun = run;
+    }
+
+    public boolean hasResult() {
+        return lastResult != null;
+    }
+
+    /**
+     * Returns the last load run's result, failing the step if no load step has run yet in this scenario.
+     */
+    public LoadTestResult getLastResult() {
+        if (lastResult == null) {
+            throw new IllegalStateException("No load test has run in this scenario yet");
+        }
+        return lastResult;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public RunRecord getLastRun() {
+        return lastRun;
+    }
+
+    /**
+     * Records that the scenario stated its own error budget, which replaces the default of zero failed requests.
+     */
+    public void markErrorRateAsserted() {
+        this.errorRateAsserted = true;
+    }
+
+    /**
+     * Applies the default expectation of a load run, no failed requests, unless the scenario stated an error budget.
+     */
+    public void verifyNoFailedRequestsUnlessErrorRateAsserted() {
+        if (lastResult != null && !errorRateAsserted) {
+            Assertions.assertTrue(lastResult.success, description + " failed: " + lastResult.errorSummary());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.steps;
+
+import io.cucumber.java.After;
+import io.cucumber.java.en.Then;
+import org.example.utils.AssertionUtils;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Performance expectations on the last load run of the scenario, e.g.
+ * <pre>
+ * Then the p99 response time is below 250 ms
+ * And throughput is at least 400 requests per second
+ * And the error rate is below 0.5%
+ * </pre>
+ * Without an error rate step, a load run must have no failed requests at all, as before.
+ */
+public class PerformanceSteps {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PerformanceSteps.class);
+
+    private final LoadTestContext context;
+
+    public PerformanceSteps(LoadTestContext context) {
+        this.context = context;
+    }
+
+    @Then("the p{double} response time is below {int} ms")
+    public void verifyPercentileBelow(double percentile, int maxMillis) {
+        LoadTestResult result = context.getLastResult();
+        LOGGER.info("Verifying that the p{} response time of {} is below {} ms",
+                percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile),
+                context.getDescription(), maxMillis);
+        AssertionUtils.assertPercentileBelow(result, percentile, maxMillis);
+    }
+
+    @Then("throughput is at least {int} requests per second")
+    public void verifyThroughputAtLeast(int minRequestsPerSecond) {
+        LoadTestResult result = context.getLastResult();
+        LOGGER.info("Verifying that the throughput of {} is at least {} requests per second",
+                context.getDescription(), minRequestsPerSecond);
+        AssertionUtils.assertThroughputAtLeast(result, minRequestsPerSecond);
+    }
+
+    @Then("the error rate is below {double}%")
+    public void verifyErrorRateBelow(double maxErrorPercent) {
+        LoadTestResult result = context.getLastResult();
+        LOGGER.info("Verifying that the error rate of {} is below {}%", context.getDescription(), maxErrorPercent);
+        context.markErrorRateAsserted();
+        AssertionUtils.assertErrorRateBelow(result, maxErrorPercent);
+    }
+
+    @After
+    public void verifyNoFailedRequestsByDefault() {
+        context.verifyNoFailedRequestsUnlessErrorRateAsserted();
+    }
+}
@@ -0,0 +1,235 @@
+package org.example.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.data.TestDataFactory;
+import org.example.pojo.Activity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for the Activities API, so scenarios and load tests can run offline with reproducible
+ * server behaviour. It serves {@code /api/v1/Activities} and {@code /api/v1/Activities/{id}} with the JSON shape of
+ * {@link Activity}, echoes POST and PUT bodies like the public fake API does, and can inject latency and errors.
+ * GET responses carry an {@code ETag} and answer a matching {@code If-None-Match} with 304 Not Modified.
+ * <p>
+ * Responses are pre-serialized, and delayed responses are completed from a scheduler instead of a sleeping handler
+ * thread, so the stub stays cheap enough that a load run on the same machine measures the generator, not the stub.
+ */
+public class ActivityStubServer implements AutoCloseable {
+    public static final String BASE_PATH = "/api/v1";
+    public static final int ACTIVITY_COUNT = 30;
+    private static final String ACTIVITIES_PATH = BASE_PATH + "/Activities";
+    private static final byte[] ERROR_BODY = "{\"title\":\"Injected stub error\",\"status\":500}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NOT_FOUND_BODY = "{\"title\":\"Not Found\",\"status\":404}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActivityStubServer.class);
+
+    private LatencyDistribution latency = LatencyDistribution.none();
+    private double errorRate;
+    private int errorStatusCode = 500;
+    private int port;
+    private int handlerThreads = 4;
+
+    private HttpServer server;
+    private ExecutorService handlers;
+    private ScheduledExecutorService responder;
+    private byte[] activitiesBody;
+    private byte[][] activityBodies;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    public ActivityStubServer latency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Answers this fraction of requests (0 to 1) with {@code errorStatusCode} instead of the normal response.
+     */
+    public ActivityStubServer errorRate(double errorRate, int errorStatusCode) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1");
+        }
+        this.errorRate = errorRate;
+        this.errorStatusCode = errorStatusCode;
+        return this;
+    }
+
+    public ActivityStubServer errorRate(double errorRate) {
+        return errorRate(errorRate, 500);
+    }
+
+    /**
+     * Listens on a fixed port instead of a free one.
+     */
+    public ActivityStubServer port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    public ActivityStubServer handlerThreads(int handlerThreads) {
+        this.handlerThreads = handlerThreads;
+        return this;
+    }
+
+    public ActivityStubServer start() {
+        List<Activity> activities = new ArrayList<>();
+        activityBodies = new byte[ACTIVITY_COUNT + 1][];
+        ObjectMapper objectMapper = new ObjectMapper();
+        try {
+            for (int id = 1; id <= ACTIVITY_COUNT; id++) {
+                Activity activity = TestDataFactory.createActivity(id);
+                activities.add(activity);
+                activityBodies[id] = objectMapper.writeValueAsBytes(activity);
+            }
+            activitiesBody = objectMapper.writeValueAsBytes(activities);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize stub activities", e);
+        }
+
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 16_384);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the Activities stub", e);
+        }
+        handlers = Executors.newFixedThreadPool(handlerThreads);
+        responder = Executors.newScheduledThreadPool(2);
+        server.setExecutor(handlers);
+        server.createContext(ACTIVITIES_PATH, this::handle);
+        server.start();
+        LOGGER.info("Activities stub listening on {} (error rate {})", getBaseUrl(), errorRate);
+        return this;
+    }
+
+    /**
+     * Returns the URL to use in place of the public API's base URL, e.g. {@code http://127.0.0.1:40123/api/v1}.
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    public String getUrl(String path) {
+        return getBaseUrl() + path;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.sum();
+    }
+
+    /**
+     * Returns how many conditional GETs were answered with 304 Not Modified.
+     */
+    public long getNotModifiedCount() {
+        return notModified.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+        Random random = ThreadLocalRandom.current();
+
+        int status;
+        byte[] body;
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            injectedErrors.increment();
+            status = errorStatusCode;
+            body = ERROR_BODY;
+        } else {
+            status = 200;
+            body = route(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), requestBody);
+            if (body == NOT_FOUND_BODY) {
+                status = 404;
+            }
+        }
+
+        // The bodies never change, so a hash of the bytes is a valid strong validator
+        if (status == 200 && "GET".equals(exchange.getRequestMethod())) {
+            String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.increment();
+                status = 304;
+            }
+        }
+
+        byte[] responseBody = status == 304 ? new byte[0] : body;
+        long delay = latency.sampleNanos(random);
+        if (delay <= 0) {
+            respond(exchange, status, responseBody);
+        } else {
+            int finalStatus = status;
+            responder.schedule(() -> respond(exchange, finalStatus, responseBody), delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private byte[] route(String method, String path, byte[] requestBody) {
+        String rest = path.substring(ACTIVITIES_PATH.length());
+        if (rest.isEmpty() || rest.equals("/")) {
+            return switch (method) {
+                case "GET" -> activitiesBody;
+                case "POST" -> requestBody;
+                default -> NOT_FOUND_BODY;
+            };
+        }
+
+        int id;
+        try {
+            id = Integer.parseInt(rest.substring(1));
+        } catch (NumberFormatException e) {
+            return NOT_FOUND_BODY;
+        }
+        return switch (method) {
+            case "GET" -> id >= 1 && id <= ACTIVITY_COUNT ? activityBodies[id] : NOT_FOUND_BODY;
+            case "PUT" -> requestBody;
+            case "DELETE" -> new byte[0];
+            default -> NOT_FOUND_BODY;
+        };
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Failed to send stub response", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            responder.shutdownNow();
+            handlers.shutdownNow();
+            server = null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.stub;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Injected response delay of the {@link ActivityStubServer}.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    /** z-score of the 99th percentile of a standard normal distribution. */
+    double Z_99 = 2.3263;
+
+    /**
+     * Returns the next delay in nanoseconds.
+     */
+    long sampleNanos(Random random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution fixed(Duration delay) {
+        long nanos = delay.toNanos();
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long range = max.toNanos() - minNanos;
+        if (range < 0) {
+            throw new IllegalArgumentException("Maximum latency must not be below the minimum");
+        }
+        return random -> minNanos + (range == 0 ? 0 : (long) (random.nextDouble() * range));
+    }
+
+    /**
+     * Memoryless delays with the given mean, as seen when requests queue behind independent work.
+     */
+    static LatencyDistribution exponential(Duration mean) {
+        double meanNanos = mean.toNanos();
+        return random -> (long) (-meanNanos * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * Right-skewed delays with the given median and 99th percentile, the usual shape of real service latency.
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        if (p99.compareTo(median) < 0 || median.isZero() || median.isNegative()) {
+            throw new IllegalArgumentException("Median must be positive and not above the 99th percentile");
+        }
+        double medianNanos = median.toNanos();
+        double sigma = Math.log((double) p99.toNanos() / medianNanos) / Z_99;
+        return random -> (long) (medianNanos * Math.exp(sigma * random.nextGaussian()));
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.stub;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs an {@link ActivityStubServer} in a separate JVM on this machine, with the current classpath. Measurements
+ * that use the process CPU time of the generator, such as {@code LoadTestResult.requestsPerCpuSecond()}, then do
+ * not include the stub's handler threads or its share of JIT and GC. The stub's console output goes to
+ * {@code target/stub-server/stub.log}.
+ */
+public class StubServerProcess implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StubServerProcess.class);
+    private static final Path WORK_DIR = Path.of("target", "stub-server");
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(30);
+    private static final int STOP_TIMEOUT = 5; // seconds
+
+    private final Process process;
+    private final String baseUrl;
+
+    private StubServerProcess(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Starts a stub that answers every request after {@code latency} and waits until it accepts connections.
+     */
+    public static StubServerProcess start(Duration latency) {
+        Process process;
+        Path urlFile;
+        try {
+            Files.createDirectories(WORK_DIR);
+            urlFile = WORK_DIR.resolve("stub-" + System.nanoTime() + ".url");
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            process = new ProcessBuilder(java,
+                    "-cp", classPath(),
+                    StubServerProcess.class.getName(),
+                    urlFile.toString(),
+                    String.valueOf(latency.toMillis()))
+                    .redirectErrorStream(true)
+                    .redirectOutput(WORK_DIR.resolve("stub.log").toFile())
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the stub process", e);
+        }
+        try {
+            String baseUrl = awaitUrl(process, urlFile);
+            LOGGER.info("Activities stub process {} listening on {}", process.pid(), baseUrl);
+            return new StubServerProcess(process, baseUrl);
+        } catch (RuntimeException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the classpath this code was loaded from. Under {@code exec:java} that is the plugin's class loader,
+     * not {@code java.class.path}, which only holds Maven's own launcher.
+     */
+    private static String classPath() {
+        if (StubServerProcess.class.getClassLoader() instanceof URLClassLoader loader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : loader.getURLs()) {
+                try {
+                    entries.add(Path.of(url.toURI()).toString());
+                } catch (URISyntaxException e) {
+                    throw new IllegalStateException("Unsupported classpath entry " + url, e);
+                }
+            }
+            return String.join(File.pathSeparator, entries);
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static String awaitUrl(Process process, Path urlFile) {
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (Files.exists(urlFile)) {
+                try {
+                    String url = Files.readString(urlFile, StandardCharsets.UTF_8);
+                    Files.delete(urlFile);
+                    return url;
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read the stub URL from " + urlFile, e);
+                }
+            }
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Stub process exited with code " + process.exitValue()
+                        + ", see " + WORK_DIR.resolve("stub.log"));
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        throw new IllegalStateException("Stub process did not start within " + START_TIMEOUT.toSeconds() + " s");
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getUrl(String path) {
+        return baseUrl + path;
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(STOP_TIMEOUT, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Entry point of the stub JVM: {@code <url file> <latency ms>}. Writes the base URL to the file once the stub
+     * listens, and serves until the process is stopped.
+     */
+    public static void main(String[] args) throws IOException {
+        ActivityStubServer server = new ActivityStubServer()
+                .latency(LatencyDistribution.fixed(Duration.ofMillis(Long.parseLong(args[1]))))
+                .start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        // Written to a temporary file and moved, so the parent never reads a partial URL
+        Path urlFile = Path.of(args[0]);
+        Path partial = urlFile.resolveSibling(urlFile.getFileName() + ".tmp");
+        Files.writeString(partial, server.getBaseUrl(), StandardCharsets.UTF_8);
+        Files.move(partial, urlFile, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
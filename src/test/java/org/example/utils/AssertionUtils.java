@@ -2,6 +2,7 @@ package org.example.utils;
 
 import org.junit.jupiter.api.Assertions;
 import io.restassured.response.Response;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
 
 public class AssertionUtils {
 
@@ -19,4 +20,33 @@ public class AssertionUtils {
         Assertions.assertEquals(expectedStatusCode, response.getStatusCode(),
                 "Status code does not match. Expected: " + expectedStatusCode + ", Actual: " + response.getStatusCode());
     }
-}
\ No newline at end of file
+
+    public static void assertPercentileBelow(LoadTestResult result, double percentile, long maxMillis) {
+        long actualMicros = result.getPercentileMicros(percentile);
+        Assertions.assertTrue(actualMicros < maxMillis * 1000,
+                String.format("p%s response time is %.2f ms, expected below %d ms", formatNumber(percentile),
+                        actualMicros / 1000.0, maxMillis));
+    }
+
+    public static void assertThroughputAtLeast(LoadTestResult result, double minRequestsPerSecond) {
+        Assertions.assertTrue(result.requestsPerSecond() >= minRequestsPerSecond,
+                String.format("Throughput is %.1f requests per second, expected at least %s",
+                        result.requestsPerSecond(), formatNumber(minRequestsPerSecond)));
+    }
+
+    /**
+     * @param maxErrorPercent the highest accepted share of failed requests, e.g. {@code 0.5} for 0.5%
+     */
+    public static void assertErrorRateBelow(LoadTestResult result, double maxErrorPercent) {
+        double errorPercent = result.totalRequests == 0 ? 0 : result.failedRequests * 100.0 / result.totalRequests;
+        Assertions.assertTrue(result.totalRequests > 0, "No requests were sent");
+        Assertions.assertTrue(errorPercent < maxErrorPercent,
+                String.format("Error rate is %.3f%% (%d of %d requests; %s), expected below %s%%", errorPercent,
+                        result.failedRequests, result.totalRequests, result.errorSummary(),
+                        formatNumber(maxErrorPercent)));
+    }
+
+    private static String formatNumber(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
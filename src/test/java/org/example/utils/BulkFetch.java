@@ -0,0 +1,125 @@
+package org.example.utils;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Fetches many resources of one endpoint at once, e.g. every activity in an id range, with at most
+ * {@code parallelism} requests in flight. Each request goes through
+ * {@link RestApiUtils#performGetRequestWithParams}, so node balancing and the response cache apply as usual.
+ * <p>
+ * Requests run on virtual threads, so waiting for a slow response costs no platform thread.
+ */
+public class BulkFetch {
+    public static final String PARALLELISM_PROPERTY = "api.bulk.parallelism";
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkFetch.class);
+
+    /**
+     * Returns the parallelism set with {@code -Dapi.bulk.parallelism}, 16 by default.
+     */
+    public static int defaultParallelism() {
+        return Integer.getInteger(PARALLELISM_PROPERTY, 16);
+    }
+
+    /**
+     * Starts fetching every id and returns the future result of each one, in the order of {@code ids}; duplicate ids
+     * are fetched once. The futures never complete exceptionally: a failed request completes with a {@link Result}
+     * holding the error.
+     */
+    public static Map<String, CompletableFuture<Result>> fetchAsync(RestApiUtils endpoint, Collection<String> ids,
+                                                                    int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        HttpConnectionPool.shared().ensureCapacity(parallelism);
+        Semaphore permits = new Semaphore(parallelism);
+        Map<String, CompletableFuture<Result>> results = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (String id : ids) {
+            results.computeIfAbsent(id, key ->
+                    CompletableFuture.supplyAsync(() -> fetchOne(endpoint, key, permits), executor));
+        }
+        // Only stops new submissions; unlike close() it does not wait for the fetches already submitted
+        executor.shutdown();
+        return results;
+    }
+
+    /**
+     * Fetches every id and returns the results in the order of {@code ids}, each one as soon as it and all ids
+     * before it have been fetched.
+     */
+    public static Stream<Result> fetch(RestApiUtils endpoint, Collection<String> ids, int parallelism) {
+        return fetchAsync(endpoint, ids, parallelism).values().stream().map(CompletableFuture::join);
+    }
+
+    /**
+     * Fetches every id and waits for all of them.
+     */
+    public static List<Result> fetchAll(RestApiUtils endpoint, Collection<String> ids, int parallelism) {
+        long start = System.nanoTime();
+        List<Result> results = fetch(endpoint, ids, parallelism).toList();
+        LOGGER.info("Fetched {} ids of {} with parallelism {} in {} ms", results.size(), endpoint, parallelism,
+                (System.nanoTime() - start) / 1_000_000);
+        return results;
+    }
+
+    private static Result fetchOne(RestApiUtils endpoint, String id, Semaphore permits) {
+        permits.acquireUninterruptibly();
+        long start = System.nanoTime();
+        try {
+            Response response = RestApiUtils.performGetRequestWithParams(endpoint, id);
+            return new Result(id, response, null, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            return new Result(id, null, e, System.nanoTime() - start);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * The outcome of fetching one id: a response, or the error that prevented one.
+     */
+    public static class Result {
+        public final String id;
+        public final Response response;
+        public final Throwable error;
+        public final long elapsedNanos;
+
+        public Result(String id, Response response, Throwable error, long elapsedNanos) {
+            this.id = id;
+            this.response = response;
+            this.error = error;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the HTTP status, or 0 when no response was received.
+         */
+        public int getStatusCode() {
+            return response == null ? 0 : response.getStatusCode();
+        }
+
+        public boolean isOk(int expectedStatusCode) {
+            return error == null && getStatusCode() == expectedStatusCode;
+        }
+
+        @Override
+        public String toString() {
+            if (error != null) {
+                return id + " (" + error.getClass().getSimpleName() + ": " + error.getMessage() + ")";
+            }
+            return id + " (status " + getStatusCode() + ")";
+        }
+    }
+}
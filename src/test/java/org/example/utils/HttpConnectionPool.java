@@ -0,0 +1,352 @@
+package org.example.utils;
+
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One pooled HTTP connection manager shared by every RestAssured call: the functional steps, {@link RestApiUtils}
+ * and the {@code restassured} load transport.
+ * <p>
+ * Out of the box RestAssured gives each request a new Apache HttpClient with its own single-connection manager,
+ * so every request opens a fresh connection and leaves one in TIME_WAIT. The shared pool keeps connections alive
+ * between requests. RestAssured still creates a new lightweight client per request, because it changes client
+ * parameters per request, but all clients lease from this pool. Idle and expired connections are evicted in the
+ * background, and the pool counts connections created and reused and the time callers wait for a lease.
+ * <p>
+ * The pool is built on HttpClient 4's deprecated {@code DefaultHttpClient} and {@code PoolingClientConnectionManager}
+ * on purpose: RestAssured 5's {@link HttpClientConfig.HttpClientFactory} must return an {@code AbstractHttpClient}
+ * and configures it through the legacy {@code HttpParams}, so the non-deprecated {@code HttpClientBuilder} API
+ * cannot be plugged in. The deprecation warnings are suppressed only where that API is used.
+ */
+public class HttpConnectionPool implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpConnectionPool.class);
+
+    private final Settings settings;
+    private final InstrumentedConnectionManager manager;
+    private final ScheduledExecutorService evictor;
+
+    public HttpConnectionPool(Settings settings) {
+        this.settings = settings;
+        this.manager = new InstrumentedConnectionManager(settings.timeToLive);
+        manager.setMaxTotal(settings.maxTotal);
+        manager.setDefaultMaxPerRoute(settings.maxPerRoute);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionMillis = settings.evictionInterval.toMillis();
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, evictionMillis, evictionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the pool every RestAssured call uses, creating it from system properties and installing it into
+     * {@link RestAssured#config} on first use.
+     */
+    public static HttpConnectionPool shared() {
+        return SharedHolder.POOL;
+    }
+
+    /**
+     * Makes every RestAssured request lease its connection from this pool.
+     */
+    public HttpConnectionPool installIntoRestAssured() {
+        RestAssured.config = RestAssured.config.httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(this::newHttpClient));
+        LOGGER.info("RestAssured uses a shared connection pool: {}", settings);
+        return this;
+    }
+
+    /**
+     * Grows the pool so that {@code concurrency} workers hitting one host never wait for a connection. The pool
+     * never shrinks, so back-to-back runs keep their warm connections.
+     */
+    public synchronized void ensureCapacity(int concurrency) {
+        if (concurrency > manager.getDefaultMaxPerRoute()) {
+            manager.setDefaultMaxPerRoute(concurrency);
+        }
+        if (concurrency > manager.getMaxTotal()) {
+            manager.setMaxTotal(concurrency);
+        }
+    }
+
+    /**
+     * Returns a client leasing from this pool. Response bodies are read in full before the client returns, so the
+     * connection goes straight back to the pool even if the caller only looks at the status code. RestAssured
+     * otherwise holds the connection until the body stream is exhausted, which would drain the pool.
+     */
+    @SuppressWarnings("deprecation") // RestAssured requires an AbstractHttpClient, see the class comment
+    public DefaultHttpClient newHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(manager);
+        client.setKeepAliveStrategy(keepAliveStrategy(settings.keepAlive));
+        // Fail a request that cannot get a connection instead of hanging its worker forever
+        client.getParams().setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, settings.leaseTimeout.toMillis());
+        // A pooled connection the server closed while it sat idle fails with no response at all; the stale check
+        // catches most of these and a single retry covers the race where the server closes it mid-send
+        HttpConnectionParams.setStaleCheckingEnabled(client.getParams(), true);
+        client.setHttpRequestRetryHandler((IOException exception, int executionCount, HttpContext context) ->
+                exception instanceof NoHttpResponseException && executionCount <= 1);
+        client.addResponseInterceptor((HttpResponse response, HttpContext context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.isStreaming()) {
+                response.setEntity(new BufferedHttpEntity(entity));
+            }
+        });
+        return client;
+    }
+
+    public Metrics metrics() {
+        PoolStats stats = manager.getTotalStats();
+        return new Metrics(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax(),
+                manager.created.sum(), manager.reused.sum(), manager.leases.sum(), manager.totalWaitNanos.sum(),
+                manager.maxWaitNanos.get());
+    }
+
+    /**
+     * Honours the server's {@code Keep-Alive: timeout=n} header and falls back to {@code keepAlive}.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(Duration keepAlive) {
+        return (HttpResponse response, HttpContext context) -> {
+            HeaderElementIterator elements = new BasicHeaderElementIterator(
+                    response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (elements.hasNext()) {
+                HeaderElement element = elements.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Long.parseLong(element.getValue()) * 1000;
+                    } catch (NumberFormatException ignored) {
+                        // Fall back to the configured keep-alive
+                    }
+                }
+            }
+            return keepAlive.toMillis();
+        };
+    }
+
+    private void evictIdleConnections() {
+        try {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(settings.idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to evict idle connections", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        manager.shutdown();
+    }
+
+    /**
+     * Pool limits and connection lifetimes. Every value can be set with a {@code -Dhttp.pool.*} system property.
+     */
+    public static class Settings {
+        private int maxTotal = 50;
+        private int maxPerRoute = 20;
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        private Duration timeToLive = Duration.ofMinutes(5);
+        private Duration evictionInterval = Duration.ofSeconds(5);
+        private Duration leaseTimeout = Duration.ofSeconds(30);
+
+        public static Settings defaults() {
+            return new Settings();
+        }
+
+        public static Settings fromSystemProperties() {
+            Settings defaults = defaults();
+            return defaults
+                    .maxTotal(Integer.getInteger("http.pool.maxTotal", defaults.maxTotal))
+                    .maxPerRoute(Integer.getInteger("http.pool.maxPerRoute", defaults.maxPerRoute))
+                    .keepAlive(Duration.ofSeconds(Long.getLong("http.pool.keepAliveSecs", defaults.keepAlive.toSeconds())))
+                    .idleTimeout(Duration.ofSeconds(Long.getLong("http.pool.idleTimeoutSecs", defaults.idleTimeout.toSeconds())))
+                    .timeToLive(Duration.ofSeconds(Long.getLong("http.pool.timeToLiveSecs", defaults.timeToLive.toSeconds())))
+                    .leaseTimeout(Duration.ofSeconds(Long.getLong("http.pool.leaseTimeoutSecs", defaults.leaseTimeout.toSeconds())));
+        }
+
+        public Settings maxTotal(int maxTotal) {
+            this.maxTotal = requirePositive(maxTotal, "maxTotal");
+            return this;
+        }
+
+        public Settings maxPerRoute(int maxPerRoute) {
+            this.maxPerRoute = requirePositive(maxPerRoute, "maxPerRoute");
+            return this;
+        }
+
+        /**
+         * Sets how long an idle connection is kept when the server does not send a {@code Keep-Alive} timeout.
+         */
+        public Settings keepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection may sit idle in the pool before the evictor closes it.
+         */
+        public Settings idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the maximum age of a connection, so long soaks follow DNS and load balancer changes.
+         */
+        public Settings timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public Settings evictionInterval(Duration evictionInterval) {
+            if (evictionInterval.isZero() || evictionInterval.isNegative()) {
+                throw new IllegalArgumentException("Eviction interval must be positive");
+            }
+            this.evictionInterval = evictionInterval;
+            return this;
+        }
+
+        /**
+         * Sets how long a request waits for a free connection before failing with a
+         * {@link ConnectionPoolTimeoutException}.
+         */
+        public Settings leaseTimeout(Duration leaseTimeout) {
+            this.leaseTimeout = leaseTimeout;
+            return this;
+        }
+
+        private static int requirePositive(int value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("maxTotal=%d, maxPerRoute=%d, keepAlive=%ds, idleTimeout=%ds, timeToLive=%ds, "
+                            + "leaseTimeout=%ds", maxTotal, maxPerRoute, keepAlive.toSeconds(), idleTimeout.toSeconds(),
+                    timeToLive.toSeconds(), leaseTimeout.toSeconds());
+        }
+    }
+
+    /**
+     * Point-in-time pool state plus counters since the pool was created.
+     */
+    public static class Metrics {
+        public final int leased;
+        public final int pending;
+        public final int available;
+        public final int max;
+        public final long created;
+        public final long reused;
+        public final long leases;
+        public final long totalWaitNanos;
+        public final long maxWaitNanos;
+
+        public Metrics(int leased, int pending, int available, int max, long created, long reused, long leases,
+                       long totalWaitNanos, long maxWaitNanos) {
+            this.leased = leased;
+            this.pending = pending;
+            this.available = available;
+            this.max = max;
+            this.created = created;
+            this.reused = reused;
+            this.leases = leases;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        public double reuseRate() {
+            return leases == 0 ? 0 : (double) reused / leases;
+        }
+
+        public double averageWaitMillis() {
+            return leases == 0 ? 0 : totalWaitNanos / 1e6 / leases;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d leased, %d pending, %d available of %d; %d created, %d reused (%.1f%%); "
+                            + "wait avg=%.3f ms, max=%.3f ms", leased, pending, available, max, created, reused,
+                    reuseRate() * 100, averageWaitMillis(), maxWaitNanos / 1e6);
+        }
+    }
+
+    private static class SharedHolder {
+        static final HttpConnectionPool POOL = new HttpConnectionPool(Settings.fromSystemProperties())
+                .installIntoRestAssured();
+    }
+
+    /**
+     * Counts each lease as created or reused and times how long callers wait for it. A pooled connection is
+     * already open when it is leased again; a new one is opened only after the lease.
+     */
+    @SuppressWarnings("deprecation") // the connection manager DefaultHttpClient accepts, see the class comment
+    private static class InstrumentedConnectionManager extends PoolingClientConnectionManager {
+        private final LongAdder created = new LongAdder();
+        private final LongAdder reused = new LongAdder();
+        private final LongAdder leases = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        InstrumentedConnectionManager(Duration timeToLive) {
+            super(SchemeRegistryFactory.createDefault(), timeToLive.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    ManagedClientConnection connection = request.getConnection(timeout, unit);
+                    long waited = System.nanoTime() - start;
+                    leases.increment();
+                    totalWaitNanos.add(waited);
+                    maxWaitNanos.accumulateAndGet(waited, Math::max);
+                    (connection.isOpen() ? reused : created).increment();
+                    return connection;
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+    }
+}
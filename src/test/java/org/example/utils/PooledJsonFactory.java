@@ -0,0 +1,29 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * A {@link JsonFactory} whose parsers and generators take their buffers from a few shared {@link BufferRecycler}s
+ * instead of one per thread.
+ * <p>
+ * Jackson keeps a recycler per thread, which pays off for platform workers but not for the virtual thread started
+ * per request in the VIRTUAL_THREADS and arrival-rate modes: each of those allocates a fresh set of buffers of
+ * several KB and drops it. A recycler swaps its buffers in and out atomically, so sharing one is safe; a parser that
+ * finds a buffer already taken by a concurrent one allocates its own, exactly as it would have without sharing.
+ */
+public class PooledJsonFactory extends JsonFactory {
+    private static final long serialVersionUID = 1L;
+    private static final BufferRecycler[] RECYCLERS = new BufferRecycler[Runtime.getRuntime().availableProcessors()];
+
+    static {
+        for (int i = 0; i < RECYCLERS.length; i++) {
+            RECYCLERS[i] = new BufferRecycler();
+        }
+    }
+
+    @Override
+    public BufferRecycler _getBufferRecycler() {
+        return RECYCLERS[(int) Math.floorMod(Thread.currentThread().threadId(), (long) RECYCLERS.length)];
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.utils;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps successful GET responses for a while, so scenarios that read the same unchanged resource do not each go to
+ * the network. Enabled with {@code -Dapi.responseCache=true}; entries live {@code -Dapi.responseCache.ttlSecs}
+ * (default 60) and at most {@code -Dapi.responseCache.maxEntries} (default 256) are kept, least recently used first
+ * out.
+ * <p>
+ * An expired entry with an {@code ETag} is revalidated with {@code If-None-Match} rather than dropped: a 304 answer
+ * renews it without transferring the body again.
+ * <p>
+ * Cached {@link Response}s are shared between callers, so they must only be read. Concurrent misses for the same URL
+ * each fetch it; the cache is meant for functional scenarios, not for load runs.
+ */
+public class ResponseCache {
+    public static final String ENABLED_PROPERTY = "api.responseCache";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCache.class);
+    private static final int NOT_MODIFIED = 304;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    public ResponseCache(Duration ttl, int maxEntries) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > ResponseCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache configured by {@code -Dapi.responseCache*}, or {@code null} when it is not enabled.
+     */
+    public static ResponseCache fromSystemProperties() {
+        if (!Boolean.getBoolean(ENABLED_PROPERTY)) {
+            return null;
+        }
+        Duration ttl = Duration.ofSeconds(Long.getLong("api.responseCache.ttlSecs", 60));
+        int maxEntries = Integer.getInteger("api.responseCache.maxEntries", 256);
+        LOGGER.info("Caching GET responses for {} s, at most {} entries", ttl.toSeconds(), maxEntries);
+        return new ResponseCache(ttl, maxEntries);
+    }
+
+    /**
+     * Sends a conditional or plain GET for a URL.
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+        /**
+         * @param ifNoneMatch the cached entry's {@code ETag} to revalidate, or {@code null} for a plain GET
+         */
+        Response fetch(String url, String ifNoneMatch);
+    }
+
+    /**
+     * Returns the cached response for {@code url} while it is fresh, and otherwise fetches, revalidates or
+     * replaces it. Only 200 responses are stored.
+     */
+    public Response get(String url, Fetcher fetcher) {
+        Entry cached;
+        synchronized (this) {
+            cached = entries.get(url);
+        }
+        long start = System.nanoTime();
+        if (cached != null && start - cached.storedAt < ttlNanos) {
+            hits.increment();
+            savedNanos.add(cached.fetchNanos);
+            return cached.response;
+        }
+
+        Response response = fetcher.fetch(url, cached == null ? null : cached.etag);
+        long elapsed = System.nanoTime() - start;
+        if (cached != null && response.getStatusCode() == NOT_MODIFIED) {
+            revalidations.increment();
+            savedNanos.add(Math.max(0, cached.fetchNanos - elapsed));
+            put(url, new Entry(cached.response, cached.etag, cached.fetchNanos, System.nanoTime()));
+            return cached.response;
+        }
+
+        misses.increment();
+        if (response.getStatusCode() == 200) {
+            // Read the body now, so every later caller gets it from memory
+            response.asByteArray();
+            put(url, new Entry(response, response.getHeader("ETag"), elapsed, System.nanoTime()));
+        } else if (cached != null) {
+            remove(url);
+        }
+        return response;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), revalidations.sum(), misses.sum(), evictions.sum(), savedNanos.sum());
+    }
+
+    private synchronized void put(String url, Entry entry) {
+        entries.put(url, entry);
+    }
+
+    private synchronized void remove(String url) {
+        entries.remove(url);
+    }
+
+    private static class Entry {
+        final Response response;
+        final String etag;
+        final long fetchNanos;
+        final long storedAt;
+
+        Entry(Response response, String etag, long fetchNanos, long storedAt) {
+            this.response = response;
+            this.etag = etag;
+            this.fetchNanos = fetchNanos;
+            this.storedAt = storedAt;
+        }
+    }
+
+    public static class Stats {
+        public final long hits;
+        public final long revalidations;
+        public final long misses;
+        public final long evictions;
+        /**
+         * Time the hits and revalidations saved, taking each entry's original fetch time as what a miss would cost.
+         */
+        public final long savedNanos;
+
+        public Stats(long hits, long revalidations, long misses, long evictions, long savedNanos) {
+            this.hits = hits;
+            this.revalidations = revalidations;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.savedNanos = savedNanos;
+        }
+
+        public long lookups() {
+            return hits + revalidations + misses;
+        }
+
+        /**
+         * Share of lookups answered without transferring a body: fresh hits plus successful revalidations.
+         */
+        public double hitRate() {
+            return lookups() == 0 ? 0 : (double) (hits + revalidations) / lookups();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d revalidated, %d misses (%.1f%% hit rate), %d evicted; saved %.1f ms",
+                    hits, revalidations, misses, hitRate() * 100, evictions, savedNanos / 1e6);
+        }
+    }
+}
@@ -1,20 +1,54 @@
 package org.example.utils;
 
-import io.restassured.RestAssured;
-import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import org.example.utils.load.BodySource;
+import org.example.utils.load.CapacitySearch;
+import org.example.utils.load.ConcurrencySlots;
+import org.example.utils.load.ErrorCounts;
+import org.example.utils.load.ExecutionMode;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadProfile;
+import org.example.utils.load.LoadProfileScheduler;
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.OperationResult;
+import org.example.utils.load.RequestRunner;
+import org.example.utils.load.ResponseValidator;
+import org.example.utils.load.SaturationAnalyzer;
+import org.example.utils.load.StageResult;
+import org.example.utils.load.StatsCollector;
+import org.example.utils.load.StatsRecorder;
+import org.example.utils.load.StepResult;
+import org.example.utils.load.StripedStatsCollector;
+import org.example.utils.load.WorkerStats;
+import org.example.utils.load.Workload;
+import org.example.utils.load.WorkloadOperation;
+import org.example.utils.load.distributed.LoadCoordinator;
+import org.example.utils.load.distributed.LocalWorkerProcesses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
 
 public class RestApiLoadUtils {
     private static final Logger logger = LoggerFactory.getLogger(RestApiLoadUtils.class);
-    private static final int AWAIT_TERMINATION_TIMEOUT = 60; // seconds
+    private static final int WORKER_SHUTDOWN_TIMEOUT = 5; // seconds
+    private static final double MAX_LATE_REQUEST_RATIO = 0.01;
+    private static final double[] REPORTED_PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final int DISTRIBUTED_BODY_SAMPLE = 64;
 
-    @SuppressWarnings("ClassCanBeRecord")
     public static class LoadTestResult {
         public final boolean success;
         public final int totalRequests;
@@ -22,39 +56,373 @@ public class RestApiLoadUtils {
         public final long totalResponseTime;
         public final long maxResponseTime;
         public final long minResponseTime;
+        /** Exact totals behind the millisecond fields, or those fields in nanoseconds when built from them. */
+        public final long totalResponseNanos;
+        public final long maxResponseNanos;
+        public final long minResponseNanos;
+        /** Response-time distribution in microseconds. */
+        public final Histogram latencyHistogram;
+        public final long p50Micros;
+        public final long p90Micros;
+        public final long p99Micros;
+        public final long p999Micros;
+        public final long maxMicros;
+        public final String transportName;
+        /** Wall-clock duration of the run in nanoseconds, or 0 when unknown. */
+        public final long elapsedNanos;
+        /**
+         * CPU time this JVM used during the run in nanoseconds, or 0 when unknown. It is process-wide, so it includes
+         * JIT, GC and an in-process stub server; see {@link #requestsPerCpuSecond()}.
+         */
+        public final long cpuTimeNanos;
+        /**
+         * Failed requests by cause, most frequent first: {@code "HTTP <status>"} for unexpected status codes and the
+         * exception class name for requests that got no response.
+         */
+        public final Map<String, Long> errorBreakdown;
 
         public LoadTestResult(boolean success, int totalRequests, int failedRequests, long totalResponseTime, long maxResponseTime, long minResponseTime) {
+            this(success, totalRequests, failedRequests, totalResponseTime, maxResponseTime, minResponseTime, WorkerStats.newHistogram());
+        }
+
+        public LoadTestResult(boolean success, int totalRequests, int failedRequests, long totalResponseTime,
+                              long maxResponseTime, long minResponseTime, Histogram latencyHistogram) {
+            this(success, totalRequests, failedRequests, totalResponseTime, maxResponseTime, minResponseTime,
+                    latencyHistogram, "", 0, 0);
+        }
+
+        public LoadTestResult(boolean success, int totalRequests, int failedRequests, long totalResponseTime,
+                              long maxResponseTime, long minResponseTime, Histogram latencyHistogram,
+                              String transportName, long elapsedNanos, long cpuTimeNanos) {
+            this(success, totalRequests, failedRequests, totalResponseTime, maxResponseTime, minResponseTime,
+                    latencyHistogram, transportName, elapsedNanos, cpuTimeNanos, Map.of());
+        }
+
+        public LoadTestResult(boolean success, int totalRequests, int failedRequests, long totalResponseTime,
+                              long maxResponseTime, long minResponseTime, Histogram latencyHistogram,
+                              String transportName, long elapsedNanos, long cpuTimeNanos,
+                              Map<String, Long> errorBreakdown) {
+            this(success, totalRequests, failedRequests, latencyHistogram, totalResponseTime * 1_000_000,
+                    maxResponseTime * 1_000_000, minResponseTime * 1_000_000, transportName, elapsedNanos,
+                    cpuTimeNanos, errorBreakdown);
+        }
+
+        private LoadTestResult(boolean success, int totalRequests, int failedRequests, Histogram latencyHistogram,
+                               long totalResponseNanos, long maxResponseNanos, long minResponseNanos,
+                               String transportName, long elapsedNanos, long cpuTimeNanos,
+                               Map<String, Long> errorBreakdown) {
             this.success = success;
             this.totalRequests = totalRequests;
             this.failedRequests = failedRequests;
-            this.totalResponseTime = totalResponseTime;
-            this.maxResponseTime = maxResponseTime;
-            this.minResponseTime = minResponseTime;
+            this.totalResponseTime = totalResponseNanos / 1_000_000; // Convert to milliseconds
+            this.maxResponseTime = maxResponseNanos / 1_000_000; // Convert to milliseconds
+            this.minResponseTime = minResponseNanos / 1_000_000; // Convert to milliseconds
+            this.totalResponseNanos = totalResponseNanos;
+            this.maxResponseNanos = maxResponseNanos;
+            this.minResponseNanos = minResponseNanos;
+            this.latencyHistogram = latencyHistogram;
+            this.p50Micros = getPercentileMicros(50.0);
+            this.p90Micros = getPercentileMicros(90.0);
+            this.p99Micros = getPercentileMicros(99.0);
+            this.p999Micros = getPercentileMicros(99.9);
+            this.maxMicros = latencyHistogram.getTotalCount() == 0 ? 0 : latencyHistogram.getMaxValue();
+            this.transportName = transportName;
+            this.elapsedNanos = elapsedNanos;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.errorBreakdown = Collections.unmodifiableMap(new LinkedHashMap<>(errorBreakdown));
+        }
+
+        public LoadTestResult(boolean success, WorkerStats stats) {
+            this(success, stats, "", 0, 0);
+        }
+
+        public LoadTestResult(boolean success, WorkerStats stats, String transportName, long elapsedNanos, long cpuTimeNanos) {
+            this(success, stats.getRequests(), stats.getFailures(), stats.getHistogram(), stats.getTotalResponseNanos(),
+                    stats.getMaxResponseNanos(), stats.getMinResponseNanos(), transportName, elapsedNanos, cpuTimeNanos,
+                    stats.getErrorCounts().toMap());
+        }
+
+        public double requestsPerSecond() {
+            return elapsedNanos == 0 ? 0 : totalRequests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * Returns how many requests one fully busy generator core handles per second, based on the CPU time the
+         * whole process used. This is the figure to compare transports by, independently of the server's speed, as
+         * long as the server runs in another process: an {@link org.example.stub.ActivityStubServer} in this JVM is
+         * charged to the generator. {@code TransportBenchmark} therefore uses a
+         * {@link org.example.stub.StubServerProcess}.
+         */
+        public double requestsPerCpuSecond() {
+            return cpuTimeNanos <= 0 ? 0 : totalRequests * 1_000_000_000.0 / cpuTimeNanos;
+        }
+
+        public final long getPercentileMicros(double percentile) {
+            return latencyHistogram.getTotalCount() == 0 ? 0 : latencyHistogram.getValueAtPercentile(percentile);
+        }
+
+        /**
+         * Returns the change of each reported percentile against {@code baseline}, in microseconds.
+         * Positive values mean this run was slower.
+         */
+        public Map<Double, Long> percentileDeltaMicros(LoadTestResult baseline) {
+            Map<Double, Long> deltas = new LinkedHashMap<>();
+            for (double percentile : REPORTED_PERCENTILES) {
+                deltas.put(percentile, getPercentileMicros(percentile) - baseline.getPercentileMicros(percentile));
+            }
+            deltas.put(100.0, maxMicros - baseline.maxMicros);
+            return deltas;
+        }
+
+        /**
+         * Encodes the full histogram as compressed Base64 so it can be stored and compared with later runs.
+         */
+        public String encodeHistogram() {
+            return encodeHistogram(latencyHistogram);
+        }
+
+        public static String encodeHistogram(Histogram histogram) {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+        }
+
+        public static Histogram decodeHistogram(String encoded) {
+            try {
+                return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("Invalid encoded histogram", e);
+            }
+        }
+
+        /**
+         * Formats {@link #errorBreakdown} as {@code "HTTP 500 x12, java.net.ConnectException x3"}.
+         */
+        public String errorSummary() {
+            if (errorBreakdown.isEmpty()) {
+                return "no errors";
+            }
+            StringBuilder summary = new StringBuilder();
+            errorBreakdown.forEach((cause, count) -> summary.append(summary.isEmpty() ? "" : ", ")
+                    .append(cause).append(" x").append(count));
+            return summary.toString();
+        }
+
+        public String percentileSummary() {
+            return String.format("p50=%d us, p90=%d us, p99=%d us, p99.9=%d us, max=%d us",
+                    p50Micros, p90Micros, p99Micros, p999Micros, maxMicros);
+        }
+    }
+
+    /**
+     * Result of an open-loop run. Response times are measured from each request's intended send time,
+     * so they include any time the request spent waiting for the generator to catch up.
+     */
+    public static class ArrivalRateResult extends LoadTestResult {
+        public final int targetRequestsPerSecond;
+        public final double achievedRequestsPerSecond;
+        public final int lateRequests;
+        public final long maxScheduleLag;
+        public final long totalServiceTime;
+        public final boolean keptUpWithSchedule;
+
+        public ArrivalRateResult(boolean success, WorkerStats stats, String transportName, long elapsedNanos,
+                                 long cpuTimeNanos, int targetRequestsPerSecond, double achievedRequestsPerSecond,
+                                 boolean keptUpWithSchedule) {
+            super(success, stats, transportName, elapsedNanos, cpuTimeNanos);
+            this.targetRequestsPerSecond = targetRequestsPerSecond;
+            this.achievedRequestsPerSecond = achievedRequestsPerSecond;
+            this.lateRequests = stats.getLateRequests();
+            this.maxScheduleLag = stats.getMaxScheduleLagNanos() / 1_000_000; // Convert to milliseconds
+            this.totalServiceTime = stats.getTotalServiceNanos() / 1_000_000; // Convert to milliseconds
+            this.keptUpWithSchedule = keptUpWithSchedule;
+        }
+    }
+
+    /**
+     * Result of a gradual ramp: the fields inherited from {@link LoadTestResult} cover all increments together,
+     * and {@link #steps} holds the result of each increment in order.
+     */
+    public static class RampResult extends LoadTestResult {
+        public final List<StepResult> steps;
+
+        public RampResult(boolean success, int totalRequests, int failedRequests, long totalResponseTime,
+                          long maxResponseTime, long minResponseTime, Histogram latencyHistogram,
+                          String transportName, long elapsedNanos, long cpuTimeNanos, List<StepResult> steps) {
+            super(success, totalRequests, failedRequests, totalResponseTime, maxResponseTime, minResponseTime,
+                    latencyHistogram, transportName, elapsedNanos, cpuTimeNanos, errorBreakdownOf(steps));
+            this.steps = List.copyOf(steps);
+        }
+
+        private static Map<String, Long> errorBreakdownOf(List<StepResult> steps) {
+            ErrorCounts counts = new ErrorCounts();
+            steps.forEach(step -> counts.addAll(step.getResult().errorBreakdown));
+            return counts.toMap();
+        }
+
+        public SaturationAnalyzer.SaturationPoint findSaturationPoint() {
+            return new SaturationAnalyzer().analyze(steps);
+        }
+
+        public SaturationAnalyzer.SaturationPoint findSaturationPoint(double latencyFactor, double minScalingEfficiency) {
+            return new SaturationAnalyzer(latencyFactor, minScalingEfficiency).analyze(steps);
+        }
+    }
+
+    /**
+     * Result of a {@link LoadProfile} run: the fields inherited from {@link LoadTestResult} cover the whole profile,
+     * and {@link #stages} holds the result of each stage in order.
+     */
+    public static class ProfileResult extends LoadTestResult {
+        public final String profileName;
+        public final List<StageResult> stages;
+
+        public ProfileResult(boolean success, WorkerStats stats, String transportName, long elapsedNanos,
+                             long cpuTimeNanos, String profileName, List<StageResult> stages) {
+            super(success, stats, transportName, elapsedNanos, cpuTimeNanos);
+            this.profileName = profileName;
+            this.stages = List.copyOf(stages);
+        }
+    }
+
+    /**
+     * Result of a mixed {@link Workload} run: the fields inherited from {@link LoadTestResult} cover all requests,
+     * and {@link #operations} holds the result of each operation in workload order.
+     */
+    public static class MixedWorkloadResult extends LoadTestResult {
+        public final String workloadName;
+        public final List<OperationResult> operations;
+
+        public MixedWorkloadResult(boolean success, WorkerStats stats, String transportName, long elapsedNanos,
+                                   long cpuTimeNanos, String workloadName, List<OperationResult> operations) {
+            super(success, stats, transportName, elapsedNanos, cpuTimeNanos);
+            this.workloadName = workloadName;
+            this.operations = List.copyOf(operations);
+        }
+
+        public OperationResult getOperation(String name) {
+            for (OperationResult operation : operations) {
+                if (operation.getOperation().getName().equals(name)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("No operation named " + name + " in workload " + workloadName);
+        }
+    }
+
+    /**
+     * Runs the stages of {@code profile} back to back on one set of workers, e.g. a ramp, spike, soak or step-down.
+     * Unlike the request-count based methods, the run length is set by the stage durations.
+     */
+    public static ProfileResult runLoadProfile(String url, Supplier<String> requestBodySupplier, LoadProfile profile,
+                                               int expectedStatusCode) {
+        return runLoadProfile(url, requestBodySupplier, profile, expectedStatusCode, LoadOptions.defaults());
+    }
+
+    public static ProfileResult runLoadProfile(String url, Supplier<String> requestBodySupplier, LoadProfile profile,
+                                               int expectedStatusCode, LoadOptions options) {
+        return new LoadProfileScheduler(url, requestBodySupplier, expectedStatusCode, options).run(profile);
+    }
+
+    /**
+     * Finds the highest number of users or arrival rate at which the server still meets the search's {@link Slo},
+     * running one short {@link LoadProfile} probe per level tried after a discarded warm-up. Probes share the
+     * options' transport, body source and listeners.
+     */
+    public static CapacitySearch.Result runCapacitySearch(String url, Supplier<String> requestBodySupplier,
+                                                          int expectedStatusCode, CapacitySearch search,
+                                                          LoadOptions options) {
+        LoadProfile warmUp = search.warmUpProfile();
+        if (warmUp != null) {
+            logger.info("Warming up for {} s before the capacity search", search.getWarmUpDuration().toSeconds());
+            runLoadProfile(url, requestBodySupplier, warmUp, expectedStatusCode, options);
+        }
+        return search.search(level -> runLoadProfile(url, requestBodySupplier, search.probeProfile(level),
+                expectedStatusCode, options));
+    }
+
+    /**
+     * Runs {@code profile} split across {@code workerCount} worker JVMs started on this machine and merges their
+     * results. Workers send bodies from a sample of {@link #DISTRIBUTED_BODY_SAMPLE} bodies taken from the options'
+     * body source or {@code requestBodySupplier}. To add workers on other hosts, use
+     * {@link LoadCoordinator} and {@link org.example.utils.load.distributed.LoadWorker} directly.
+     */
+    public static ProfileResult runDistributedLoadProfile(String url, Supplier<String> requestBodySupplier,
+                                                          LoadProfile profile, int expectedStatusCode,
+                                                          int workerCount, LoadOptions options) {
+        BodySource bodySource = options.getBodySource(requestBodySupplier);
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < DISTRIBUTED_BODY_SAMPLE; i++) {
+            bodies.add(new String(bodySource.next(), StandardCharsets.UTF_8));
+        }
+        try (LoadCoordinator coordinator = LoadCoordinator.onLoopback()) {
+            LocalWorkerProcesses workers = LocalWorkerProcesses.start(workerCount, coordinator.getAddress());
+            try {
+                return coordinator.run(url, profile, bodies, expectedStatusCode, workerCount, options);
+            } catch (RuntimeException e) {
+                // A worker that died before registering only shows up as an accept timeout; name it
+                List<String> exited = workers.exited();
+                if (!exited.isEmpty()) {
+                    logger.error("Load workers exited early, see target/load-workers: {}", exited);
+                }
+                throw e;
+            } finally {
+                workers.close();
+            }
         }
     }
 
-    public static LoadTestResult runLoadTestWithGradualIncrease(String url, int initialThreadCount,
+    public static RampResult runLoadTestWithGradualIncrease(String url, int initialThreadCount,
                                                                 int maxThreadCount, int requestsPerThread,
                                                                 int incrementStep, int incrementIntervalSecs,
                                                                 Supplier<String> requestBodySupplier,
                                                                 int expectedStatusCode) {
+        return runLoadTestWithGradualIncrease(url, initialThreadCount, maxThreadCount, requestsPerThread, incrementStep,
+                incrementIntervalSecs, requestBodySupplier, expectedStatusCode, LoadOptions.defaults());
+    }
+
+    public static RampResult runLoadTestWithGradualIncrease(String url, int initialThreadCount,
+                                                                int maxThreadCount, int requestsPerThread,
+                                                                int incrementStep, int incrementIntervalSecs,
+                                                                Supplier<String> requestBodySupplier,
+                                                                int expectedStatusCode, ExecutionMode executionMode) {
+        return runLoadTestWithGradualIncrease(url, initialThreadCount, maxThreadCount, requestsPerThread, incrementStep,
+                incrementIntervalSecs, requestBodySupplier, expectedStatusCode,
+                LoadOptions.defaults().executionMode(executionMode));
+    }
+
+    public static RampResult runLoadTestWithGradualIncrease(String url, int initialThreadCount,
+                                                                int maxThreadCount, int requestsPerThread,
+                                                                int incrementStep, int incrementIntervalSecs,
+                                                                Supplier<String> requestBodySupplier,
+                                                                int expectedStatusCode, LoadOptions options) {
         int totalRequests = 0;
         int totalFailedRequests = 0;
         long totalResponseTime = 0;
         long maxResponseTime = Long.MIN_VALUE;
         long minResponseTime = Long.MAX_VALUE;
+        Histogram latencyHistogram = WorkerStats.newHistogram();
+        long elapsedNanos = 0;
+        long cpuTimeNanos = 0;
+        List<StepResult> steps = new ArrayList<>();
 
         for (int threadCount = initialThreadCount; threadCount <= maxThreadCount; threadCount += incrementStep) {
             logger.info("Starting new increment with {} threads each making {} requests.", threadCount, requestsPerThread);
-            LoadTestResult incrementResult = runLoadTest(url, requestBodySupplier, threadCount, requestsPerThread, expectedStatusCode);
+            LoadTestResult incrementResult = runLoadTest(url, requestBodySupplier, threadCount, requestsPerThread,
+                    expectedStatusCode, options);
 
             totalRequests += incrementResult.totalRequests;
             totalFailedRequests += incrementResult.failedRequests;
             totalResponseTime += incrementResult.totalResponseTime;
             maxResponseTime = Math.max(maxResponseTime, incrementResult.maxResponseTime);
             minResponseTime = Math.min(minResponseTime, incrementResult.minResponseTime);
+            latencyHistogram.add(incrementResult.latencyHistogram);
+            elapsedNanos += incrementResult.elapsedNanos;
+            cpuTimeNanos += incrementResult.cpuTimeNanos;
+            StepResult step = new StepResult(threadCount, incrementResult);
+            steps.add(step);
 
-            logger.info("Completed increment with {} threads. Failed requests: {}", threadCount, incrementResult.failedRequests);
+            logger.info("Completed increment: {}", step);
 
             try {
                 Thread.sleep(incrementIntervalSecs * 1000L);
@@ -66,74 +434,324 @@ public class RestApiLoadUtils {
         }
 
         boolean overallSuccess = totalFailedRequests == 0;
-        return new LoadTestResult(overallSuccess, totalRequests, totalFailedRequests, totalResponseTime, maxResponseTime, minResponseTime);
+        RampResult result = new RampResult(overallSuccess, totalRequests, totalFailedRequests, totalResponseTime,
+                maxResponseTime, minResponseTime, latencyHistogram, options.getTransport().name(),
+                elapsedNanos, cpuTimeNanos, steps);
+        if (!steps.isEmpty()) {
+            logger.info("{}", result.findSaturationPoint());
+        }
+        return result;
     }
 
     public static LoadTestResult runLoadTest(String url, Supplier<String> requestBodySupplier, int threadCount, int callCountPerThread, int expectedStatusCode) {
-        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
-        AtomicInteger failureCount = new AtomicInteger(0);
-        AtomicInteger totalRequests = new AtomicInteger(0);
-        AtomicLong totalResponseTime = new AtomicLong(0);
-        AtomicLong maxResponseTime = new AtomicLong(0);
-        AtomicLong minResponseTime = new AtomicLong(Long.MAX_VALUE);
+        return runLoadTest(url, requestBodySupplier, threadCount, callCountPerThread, expectedStatusCode,
+                LoadOptions.defaults());
+    }
+
+    public static LoadTestResult runLoadTest(String url, Supplier<String> requestBodySupplier, int threadCount,
+                                             int callCountPerThread, int expectedStatusCode, ExecutionMode executionMode) {
+        return runLoadTest(url, requestBodySupplier, threadCount, callCountPerThread, expectedStatusCode,
+                LoadOptions.defaults().executionMode(executionMode));
+    }
+
+    public static LoadTestResult runLoadTest(String url, Supplier<String> requestBodySupplier, int threadCount,
+                                             int callCountPerThread, int expectedStatusCode, LoadOptions options) {
+        ExecutionMode executionMode = options.getExecutionMode();
+        LoadTransport transport = options.getTransport();
+        transport.prepare(threadCount);
+        RequestRunner runner = new RequestRunner(transport, url, options.getBodySource(requestBodySupplier),
+                expectedStatusCode, options.getListeners())
+                .validateWith(options.getValidator(), options.getValidationSampleRate());
+        ExecutorService executor = executionMode.newExecutor(threadCount);
+        StatsCollector statsCollector = executionMode.newStatsCollector(threadCount);
 
         CountDownLatch latch = new CountDownLatch(threadCount * callCountPerThread);
+        long awaitTimeoutNanos = options.getAwaitTimeout().toNanos();
+        boolean completed = false;
+        long runStart = System.nanoTime();
+        long cpuStart = processCpuTimeNanos();
 
         try {
             for (int i = 0; i < threadCount; i++) {
+                int worker = i;
+                StatsRecorder stats = statsCollector.forWorker(i);
                 executor.submit(() -> {
                     for (int j = 0; j < callCountPerThread; j++) {
                         long startTime = System.nanoTime();
                         try {
-                            String requestBody = requestBodySupplier.get();
-                            Response response = RestAssured.given()
-                                    .header("Content-Type", "application/json")
-                                    .body(requestBody)
-                                    .post(url);
-                            long responseTime = System.nanoTime() - startTime;
-                            totalResponseTime.addAndGet(responseTime);
-                            maxResponseTime.updateAndGet(current -> Math.max(current, responseTime));
-                            minResponseTime.updateAndGet(current -> Math.min(current, responseTime));
-
-                            if (response.getStatusCode() != expectedStatusCode) {
-                                logger.error("Request failed with status code: {}, Expected: {}, Response Time: {} ms",
-                                        response.getStatusCode(), expectedStatusCode, responseTime / 1_000_000);
-                                failureCount.incrementAndGet();
-                            } else {
-                                logger.debug("Request succeeded with status code: {}, Response Time: {} ms",
-                                        response.getStatusCode(), responseTime / 1_000_000);
-                            }
-                        } catch (Exception e) {
-                            logger.error("Request failed due to an error: {}", e.getMessage(), e);
-                            failureCount.incrementAndGet();
+                            runner.execute(worker, startTime, stats);
                         } finally {
-                            totalRequests.incrementAndGet();
                             latch.countDown();
                         }
                     }
                 });
             }
 
-            boolean completed = latch.await(AWAIT_TERMINATION_TIMEOUT, TimeUnit.SECONDS);
+            completed = latch.await(awaitTimeoutNanos, TimeUnit.NANOSECONDS);
             if (completed) {
                 logger.info("All load test tasks completed within the timeout period.");
             } else {
-                logger.warn("Load test tasks did not all complete within the timeout period. Some tasks may have been interrupted.");
+                logger.warn("Load test cut off after {} s with {} requests outstanding; raise -D{} for longer runs.",
+                        TimeUnit.NANOSECONDS.toSeconds(awaitTimeoutNanos), latch.getCount(), LoadOptions.AWAIT_TIMEOUT_PROPERTY);
+            }
+        } catch (InterruptedException e) {
+            logger.error("Load test interrupted while waiting for completion.", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            stopWorkers(executor);
+        }
+
+        WorkerStats merged = statsCollector.merge();
+        LoadTestResult result = new LoadTestResult(completed && merged.getFailures() == 0, merged, transport.name(),
+                System.nanoTime() - runStart, processCpuTimeNanos() - cpuStart);
+        logFailures(result);
+        return result;
+    }
+
+    /**
+     * Closed-loop run of a mixed {@link Workload}: {@code threadCount} users each send {@code callCountPerThread}
+     * requests, picking the operation of every request by weight. Latency and errors are tracked per operation as
+     * well as in aggregate, so the endpoint that degrades first under mixed load stands out.
+     */
+    public static MixedWorkloadResult runMixedWorkload(Workload workload, int threadCount, int callCountPerThread) {
+        return runMixedWorkload(workload, threadCount, callCountPerThread, LoadOptions.defaults());
+    }
+
+    public static MixedWorkloadResult runMixedWorkload(Workload workload, int threadCount, int callCountPerThread,
+                                                       LoadOptions options) {
+        List<WorkloadOperation> operations = workload.getOperations();
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Workload " + workload.getName() + " has no operations");
+        }
+        ExecutionMode executionMode = options.getExecutionMode();
+        LoadTransport transport = options.getTransport();
+        transport.prepare(threadCount);
+        RequestRunner[] runners = new RequestRunner[operations.size()];
+        StatsCollector[] statsCollectors = new StatsCollector[operations.size()];
+        for (int i = 0; i < runners.length; i++) {
+            WorkloadOperation operation = operations.get(i);
+            ResponseValidator validator = operation.getValidator() != null ? operation.getValidator()
+                    : options.getValidator();
+            runners[i] = new RequestRunner(transport, operation::newRequest, operation.getExpectedStatusCode(),
+                    options.getListeners())
+                    .validateWith(validator, options.getValidationSampleRate())
+                    .operation(i);
+            statsCollectors[i] = executionMode.newStatsCollector(threadCount);
+        }
+        ExecutorService executor = executionMode.newExecutor(threadCount);
+
+        CountDownLatch latch = new CountDownLatch(threadCount * callCountPerThread);
+        long awaitTimeoutNanos = options.getAwaitTimeout().toNanos();
+        boolean completed = false;
+        long runStart = System.nanoTime();
+        long cpuStart = processCpuTimeNanos();
+
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                int worker = i;
+                StatsRecorder[] stats = new StatsRecorder[runners.length];
+                for (int op = 0; op < runners.length; op++) {
+                    stats[op] = statsCollectors[op].forWorker(i);
+                }
+                executor.submit(() -> {
+                    for (int j = 0; j < callCountPerThread; j++) {
+                        int op = workload.nextOperationIndex();
+                        long startTime = System.nanoTime();
+                        try {
+                            runners[op].execute(worker, startTime, stats[op]);
+                        } finally {
+                            latch.countDown();
+                        }
+                    }
+                });
+            }
+
+            completed = latch.await(awaitTimeoutNanos, TimeUnit.NANOSECONDS);
+            if (!completed) {
+                logger.warn("Mixed workload cut off after {} s with {} requests outstanding; raise -D{} for longer runs.",
+                        TimeUnit.NANOSECONDS.toSeconds(awaitTimeoutNanos), latch.getCount(), LoadOptions.AWAIT_TIMEOUT_PROPERTY);
+            }
+        } catch (InterruptedException e) {
+            logger.error("Load test interrupted while waiting for completion.", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            stopWorkers(executor);
+        }
+
+        long elapsedNanos = System.nanoTime() - runStart;
+        long cpuTimeNanos = processCpuTimeNanos() - cpuStart;
+        WorkerStats merged = new WorkerStats();
+        List<OperationResult> results = new ArrayList<>();
+        for (int i = 0; i < runners.length; i++) {
+            WorkerStats operationStats = statsCollectors[i].merge();
+            merged.add(operationStats);
+            // CPU time cannot be attributed to single operations
+            results.add(new OperationResult(operations.get(i), new LoadTestResult(operationStats.getFailures() == 0,
+                    operationStats, transport.name(), elapsedNanos, 0)));
+        }
+        MixedWorkloadResult result = new MixedWorkloadResult(completed && merged.getFailures() == 0, merged,
+                transport.name(), elapsedNanos, cpuTimeNanos, workload.getName(), results);
+        results.forEach(operation -> logger.info("{}", operation));
+        logFailures(result);
+        return result;
+    }
+
+    /**
+     * Runs an open-loop test that sends {@code targetRequestsPerSecond} requests per second for
+     * {@code durationSecs} seconds, independently of how fast the server answers. Requests are
+     * scheduled by wall-clock time and handed to at most {@code maxConcurrency} workers; when all
+     * workers are busy, the request waits and that wait is counted in its response time.
+     */
+    public static ArrivalRateResult runConstantArrivalRateTest(String url, Supplier<String> requestBodySupplier,
+                                                               int targetRequestsPerSecond, int durationSecs,
+                                                               int maxConcurrency, int expectedStatusCode) {
+        return runConstantArrivalRateTest(url, requestBodySupplier, targetRequestsPerSecond, durationSecs,
+                maxConcurrency, expectedStatusCode, LoadOptions.defaults());
+    }
+
+    public static ArrivalRateResult runConstantArrivalRateTest(String url, Supplier<String> requestBodySupplier,
+                                                               int targetRequestsPerSecond, int durationSecs,
+                                                               int maxConcurrency, int expectedStatusCode,
+                                                               ExecutionMode executionMode) {
+        return runConstantArrivalRateTest(url, requestBodySupplier, targetRequestsPerSecond, durationSecs,
+                maxConcurrency, expectedStatusCode, LoadOptions.defaults().executionMode(executionMode));
+    }
+
+    /**
+     * Variant of {@link #runConstantArrivalRateTest(String, Supplier, int, int, int, int)} with explicit options.
+     * With a non-blocking transport the scheduler sends requests itself and no worker thread waits on a response;
+     * {@code maxConcurrency} then caps the number of requests in flight.
+     */
+    public static ArrivalRateResult runConstantArrivalRateTest(String url, Supplier<String> requestBodySupplier,
+                                                               int targetRequestsPerSecond, int durationSecs,
+                                                               int maxConcurrency, int expectedStatusCode,
+                                                               LoadOptions options) {
+        if (targetRequestsPerSecond <= 0 || durationSecs <= 0 || maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Target rate, duration and concurrency must be positive");
+        }
+
+        int plannedRequests = Math.multiplyExact(targetRequestsPerSecond, durationSecs);
+        ExecutionMode executionMode = options.getExecutionMode();
+        LoadTransport transport = options.getTransport();
+        transport.prepare(maxConcurrency);
+        RequestRunner runner = new RequestRunner(transport, url, options.getBodySource(requestBodySupplier),
+                expectedStatusCode, options.getListeners())
+                .validateWith(options.getValidator(), options.getValidationSampleRate());
+        ExecutorService executor = executionMode.newExecutor(maxConcurrency);
+        // Non-blocking completions run on the transport's own threads, which are not bounded by maxConcurrency
+        StatsCollector statsCollector = transport.isNonBlocking()
+                ? new StripedStatsCollector(Runtime.getRuntime().availableProcessors() * 4)
+                : executionMode.newStatsCollector(maxConcurrency);
+        // A thread-per-task executor does not bound concurrency by itself
+        ConcurrencySlots concurrencyLimit = new ConcurrencySlots(maxConcurrency);
+
+        CountDownLatch latch = new CountDownLatch(plannedRequests);
+        long runStart = System.nanoTime();
+        long runEnd = runStart;
+        long cpuStart = processCpuTimeNanos();
+
+        try {
+            for (int i = 0; i < plannedRequests; i++) {
+                // Derive each send time from the run start so rounding errors do not accumulate
+                long intendedStart = runStart + i * 1_000_000_000L / targetRequestsPerSecond;
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                if (transport.isNonBlocking()) {
+                    int slot = concurrencyLimit.acquire();
+                    runner.executeAsync(slot, intendedStart, statsCollector, () -> {
+                        concurrencyLimit.release(slot);
+                        latch.countDown();
+                    });
+                    continue;
+                }
+
+                executor.submit(() -> {
+                    int slot;
+                    try {
+                        slot = concurrencyLimit.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        latch.countDown();
+                        return;
+                    }
+                    StatsRecorder stats = statsCollector.forCurrentThread();
+                    long actualStart = System.nanoTime();
+                    long scheduleLag = actualStart - intendedStart;
+                    stats.recordScheduleLag(scheduleLag, scheduleLag > RequestRunner.SCHEDULE_LAG_TOLERANCE_NANOS);
+                    try {
+                        runner.execute(slot, intendedStart, stats);
+                        stats.recordServiceTime(System.nanoTime() - actualStart);
+                    } finally {
+                        concurrencyLimit.release(slot);
+                        latch.countDown();
+                    }
+                });
+            }
+
+            boolean completed = latch.await(options.getAwaitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            runEnd = System.nanoTime();
+            if (completed) {
+                logger.info("All {} scheduled requests completed within the timeout period.", plannedRequests);
+            } else {
+                logger.warn("Scheduled requests cut off with {} of {} outstanding; raise -D{} for slower servers.",
+                        latch.getCount(), plannedRequests, LoadOptions.AWAIT_TIMEOUT_PROPERTY);
             }
         } catch (InterruptedException e) {
             logger.error("Load test interrupted while waiting for completion.", e);
             Thread.currentThread().interrupt();
+            runEnd = System.nanoTime();
         } finally {
-            executor.shutdownNow();
+            stopWorkers(executor);
+        }
+
+        WorkerStats merged = statsCollector.merge();
+        int completedRequests = merged.getRequests();
+        double elapsedSecs = Math.max(runEnd - runStart, 1) / 1_000_000_000.0;
+        double achievedRate = completedRequests / elapsedSecs;
+        boolean keptUp = merged.getLateRequests() <= plannedRequests * MAX_LATE_REQUEST_RATIO;
+        if (!keptUp) {
+            logger.warn("Load generator could not keep up with {} req/s: {} of {} requests started more than {} ms late (max lag {} ms).",
+                    targetRequestsPerSecond, merged.getLateRequests(), plannedRequests,
+                    TimeUnit.NANOSECONDS.toMillis(RequestRunner.SCHEDULE_LAG_TOLERANCE_NANOS), merged.getMaxScheduleLagNanos() / 1_000_000);
+        }
+
+        ArrivalRateResult result = new ArrivalRateResult(merged.getFailures() == 0 && completedRequests == plannedRequests,
+                merged, transport.name(), runEnd - runStart, processCpuTimeNanos() - cpuStart,
+                targetRequestsPerSecond, achievedRate, keptUp);
+        logFailures(result);
+        return result;
+    }
+
+    /**
+     * Returns the CPU time used by this JVM so far, or 0 when the platform does not report it.
+     */
+    public static long processCpuTimeNanos() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return Math.max(os.getProcessCpuTime(), 0);
         }
+        return 0;
+    }
+
+    private static void logFailures(LoadTestResult result) {
+        if (result.failedRequests > 0) {
+            logger.warn("{} of {} requests failed: {}", result.failedRequests, result.totalRequests, result.errorSummary());
+        }
+    }
 
-        return new LoadTestResult(
-                failureCount.get() == 0,
-                totalRequests.get(),
-                failureCount.get(),
-                totalResponseTime.get() / 1_000_000, // Convert to milliseconds
-                maxResponseTime.get() / 1_000_000, // Convert to milliseconds
-                minResponseTime.get() / 1_000_000 // Convert to milliseconds
-        );
+    /**
+     * Stops the workers and waits briefly for them to exit, so their stats can be merged safely.
+     */
+    private static void stopWorkers(ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(WORKER_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                logger.warn("Some load test workers are still running; their last requests may be missing from the result.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
-}
\ No newline at end of file
+}
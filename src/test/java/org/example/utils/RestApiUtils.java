@@ -3,54 +3,91 @@ package org.example.utils;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import org.example.utils.balancing.EndpointRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @JsonFormat(shape = JsonFormat.Shape.OBJECT)
 public enum RestApiUtils {
     ACTIVITIES("/Activities"),
     ACTIVITIES_BY_ID("/Activities/{id}");
 
-    private static final String BASE_URL = "https://fakerestapi.azurewebsites.net/api/v1";
+    public static final String DEFAULT_BASE_URL = "https://fakerestapi.azurewebsites.net/api/v1";
+    public static final String BASE_URL_PROPERTY = "api.baseUrl";
     private static final Logger LOGGER = LoggerFactory.getLogger(RestApiUtils.class);
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writerFor(RestApiUtils.class);
     private static final ConcurrentHashMap<RestApiUtils, String> URL_CACHE = new ConcurrentHashMap<>();
+    private static volatile EndpointRegistry endpointRegistry =
+            EndpointRegistry.fromSystemProperties(System.getProperty(BASE_URL_PROPERTY, DEFAULT_BASE_URL));
+    private static volatile ResponseCache responseCache = ResponseCache.fromSystemProperties();
 
     private final String path;
+    private final UrlTemplate template;
 
     RestApiUtils(String path) {
         this.path = path;
+        this.template = UrlTemplate.compile(path);
     }
 
     public String getUrl() {
-        return URL_CACHE.computeIfAbsent(this, key -> BASE_URL + key.path);
+        return URL_CACHE.computeIfAbsent(this, key -> getBaseUrl() + key.path);
     }
 
-    public String getUrlWithParams(String... params) {
-        StringBuilder resultUrl = new StringBuilder(getUrl());
-        int paramIndex = 0;
-
-        while (resultUrl.indexOf("{") != -1) {
-            if (paramIndex >= params.length) {
-                throw new IllegalArgumentException("Not enough parameters provided for URL: " + resultUrl);
-            }
-            int closingBraceIndex = resultUrl.indexOf("}", resultUrl.indexOf("{"));
-            resultUrl.replace(resultUrl.indexOf("{"), closingBraceIndex + 1,
-                    URLEncoder.encode(params[paramIndex++], StandardCharsets.UTF_8));
-        }
+    /**
+     * Returns the base URL that endpoint URLs are built against: the first node of the {@link EndpointRegistry}.
+     */
+    public static String getBaseUrl() {
+        return endpointRegistry.getPrimaryBaseUrl();
+    }
 
-        if (paramIndex < params.length) {
-            throw new IllegalArgumentException("Too many parameters provided for URL: " + resultUrl);
-        }
+    public static EndpointRegistry getEndpointRegistry() {
+        return endpointRegistry;
+    }
+
+    /**
+     * Spreads requests made through {@link #send} and balanced load transports over the registry's nodes.
+     */
+    public static void setEndpointRegistry(EndpointRegistry registry) {
+        LOGGER.info("Using API nodes: {}", registry);
+        endpointRegistry = registry;
+        URL_CACHE.clear();
+    }
+
+    /**
+     * Points every endpoint at another server, e.g. the local {@code ActivityStubServer}.
+     */
+    public static void setBaseUrl(String newBaseUrl) {
+        setEndpointRegistry(EndpointRegistry.single(newBaseUrl));
+    }
+
+    /**
+     * Restores the nodes from {@code -Dapi.baseUrls} or {@code -Dapi.baseUrl}, or the public fake API when neither
+     * is set.
+     */
+    public static void resetBaseUrl() {
+        setEndpointRegistry(EndpointRegistry.fromSystemProperties(
+                System.getProperty(BASE_URL_PROPERTY, DEFAULT_BASE_URL)));
+    }
+
+    /**
+     * Fills the path placeholders in order, e.g. {@code ACTIVITIES_BY_ID.getUrlWithParams("15")}.
+     */
+    public String getUrlWithParams(String... params) {
+        return template.expand(getBaseUrl(), params);
+    }
 
-        return resultUrl.toString();
+    /**
+     * Fills the path placeholders by name, e.g. {@code ACTIVITIES_BY_ID.getUrlWithParams(Map.of("id", "15"))}.
+     */
+    public String getUrlWithParams(Map<String, String> namedParams) {
+        return template.expand(getBaseUrl(), namedParams);
     }
 
     public String getUrlWithQueryParams(Map<String, String> queryParams) {
@@ -58,21 +95,28 @@ public enum RestApiUtils {
             return getUrl();
         }
 
-        StringBuilder urlWithParams = new StringBuilder(getUrl()).append('?');
-        queryParams.forEach((key, value) ->
-                urlWithParams.append(URLEncoder.encode(key, StandardCharsets.UTF_8))
-                        .append('=')
-                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8))
-                        .append('&')
-        );
-        urlWithParams.setLength(urlWithParams.length() - 1); // Remove trailing "&"
+        // Encode first so the builder can be sized exactly: "?" plus "key=value" pairs joined by "&"
+        String url = getUrl();
+        String[] encoded = new String[queryParams.size() * 2];
+        int length = url.length() + queryParams.size() * 2;
+        int i = 0;
+        for (Map.Entry<String, String> param : queryParams.entrySet()) {
+            encoded[i] = UrlTemplate.encode(param.getKey());
+            encoded[i + 1] = UrlTemplate.encode(param.getValue());
+            length += encoded[i].length() + encoded[i + 1].length();
+            i += 2;
+        }
 
+        StringBuilder urlWithParams = new StringBuilder(length).append(url);
+        for (i = 0; i < encoded.length; i += 2) {
+            urlWithParams.append(i == 0 ? '?' : '&').append(encoded[i]).append('=').append(encoded[i + 1]);
+        }
         return urlWithParams.toString();
     }
 
     public String toJson() {
         try {
-            return OBJECT_MAPPER.writeValueAsString(this);
+            return JSON_WRITER.writeValueAsString(this);
         } catch (JsonProcessingException e) {
             LOGGER.error("Error converting API endpoint to JSON", e);
             throw new RuntimeException("Failed to convert API endpoint to JSON", e);
@@ -89,6 +133,52 @@ public enum RestApiUtils {
 
     public static Response performGetRequest(RestApiUtils endpoint) {
         LOGGER.info("Performing GET request to: {}", endpoint.getUrl());
-        return RestAssured.get(endpoint.getUrl());
+        return performGetRequest(endpoint.getUrl());
+    }
+
+    /**
+     * GETs the endpoint with its path placeholders filled in order, e.g. an activity by id.
+     */
+    public static Response performGetRequestWithParams(RestApiUtils endpoint, String... params) {
+        String url = endpoint.getUrlWithParams(params);
+        LOGGER.info("Performing GET request to: {}", url);
+        return performGetRequest(url);
+    }
+
+    /**
+     * GETs {@code url}, through the {@link ResponseCache} when one is enabled.
+     */
+    private static Response performGetRequest(String url) {
+        ResponseCache cache = responseCache;
+        if (cache == null) {
+            return send(url, target -> RestAssured.get(target));
+        }
+        return cache.get(url, (cacheKey, ifNoneMatch) -> send(cacheKey, target -> ifNoneMatch == null
+                ? RestAssured.get(target)
+                : RestAssured.given().header("If-None-Match", ifNoneMatch).get(target)));
+    }
+
+    /**
+     * Returns the GET response cache, or {@code null} when responses are not cached.
+     */
+    public static ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Caches GETs made through {@link #performGetRequest} in {@code cache}; {@code null} turns caching off.
+     */
+    public static void setResponseCache(ResponseCache cache) {
+        responseCache = cache;
+    }
+
+    /**
+     * Sends a request built by {@code request} to the node the {@link EndpointRegistry} picks, e.g.
+     * {@code send(ACTIVITIES.getUrl(), url -> RestAssured.given().body(json).post(url))}. 5xx responses count as
+     * failures in the node's results.
+     */
+    public static Response send(String url, Function<String, Response> request) {
+        HttpConnectionPool.shared();
+        return endpointRegistry.execute(url, request, response -> response.getStatusCode() >= 500);
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package org.example.utils;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A path template such as {@code /Activities/{id}} split once into literal and placeholder segments, so expanding it
+ * is a single pass into an exactly sized buffer instead of repeated searching and replacing.
+ * <p>
+ * Values are form-encoded with {@link URLEncoder}, which is skipped for values made only of characters it leaves
+ * unchanged, e.g. numeric ids.
+ */
+public class UrlTemplate {
+    private final String template;
+    // literals.length == names.length + 1; literal i comes before placeholder i
+    private final String[] literals;
+    private final String[] names;
+    private final Set<String> distinctNames;
+    private final int literalLength;
+
+    private UrlTemplate(String template, String[] literals, String[] names) {
+        this.template = template;
+        this.literals = literals;
+        this.names = names;
+        this.distinctNames = Set.copyOf(List.of(names));
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static UrlTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        int open;
+        while ((open = template.indexOf('{', from)) != -1) {
+            int close = template.indexOf('}', open);
+            if (close == -1) {
+                throw new IllegalArgumentException("Unclosed placeholder in URL template: " + template);
+            }
+            literals.add(template.substring(from, open));
+            names.add(template.substring(open + 1, close));
+            from = close + 1;
+        }
+        literals.add(template.substring(from));
+        return new UrlTemplate(template, literals.toArray(String[]::new), names.toArray(String[]::new));
+    }
+
+    public int getPlaceholderCount() {
+        return names.length;
+    }
+
+    public List<String> getPlaceholderNames() {
+        return List.of(names);
+    }
+
+    /**
+     * Appends {@code values} to {@code prefix} in placeholder order.
+     */
+    public String expand(String prefix, String... values) {
+        if (values.length < names.length) {
+            throw new IllegalArgumentException("Not enough parameters provided for URL: " + prefix + template);
+        }
+        if (values.length > names.length) {
+            throw new IllegalArgumentException("Too many parameters provided for URL: " + prefix + template);
+        }
+        String[] encoded = new String[names.length];
+        int length = prefix.length() + literalLength;
+        for (int i = 0; i < names.length; i++) {
+            encoded[i] = encode(values[i]);
+            length += encoded[i].length();
+        }
+        return join(prefix, encoded, length);
+    }
+
+    /**
+     * Appends {@code values} to {@code prefix}, looking each placeholder up by name.
+     */
+    public String expand(String prefix, Map<String, String> values) {
+        String[] encoded = new String[names.length];
+        int length = prefix.length() + literalLength;
+        for (int i = 0; i < names.length; i++) {
+            String value = values.get(names[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing parameter '" + names[i] + "' for URL: " + prefix + template);
+            }
+            encoded[i] = encode(value);
+            length += encoded[i].length();
+        }
+        // Every placeholder was found above, so any extra key is one the template does not have
+        if (values.size() > distinctNames.size()) {
+            values.keySet().stream().filter(name -> !distinctNames.contains(name)).findFirst().ifPresent(name -> {
+                throw new IllegalArgumentException("Unknown parameter '" + name + "' for URL: " + prefix + template);
+            });
+        }
+        return join(prefix, encoded, length);
+    }
+
+    private String join(String prefix, String[] encoded, int length) {
+        StringBuilder url = new StringBuilder(length).append(prefix).append(literals[0]);
+        for (int i = 0; i < encoded.length; i++) {
+            url.append(encoded[i]).append(literals[i + 1]);
+        }
+        return url.toString();
+    }
+
+    /**
+     * Form-encodes {@code value} unless {@link URLEncoder} would return it unchanged.
+     */
+    public static String encode(String value) {
+        return isSafe(value) ? value : URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether every character is one {@link URLEncoder} passes through: letters, digits and {@code .-*_}.
+     */
+    static boolean isSafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean safe = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '.' || c == '-' || c == '*' || c == '_';
+            if (!safe) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
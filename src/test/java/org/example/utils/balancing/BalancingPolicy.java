@@ -0,0 +1,91 @@
+package org.example.utils.balancing;
+
+import java.util.List;
+
+/**
+ * How an {@link EndpointRegistry} spreads requests over its nodes.
+ */
+public enum BalancingPolicy {
+    /**
+     * Each node in turn, regardless of how it is doing.
+     */
+    ROUND_ROBIN("round-robin") {
+        @Override
+        EndpointNode choose(List<EndpointNode> nodes, long ticket) {
+            return nodes.get((int) Math.floorMod(ticket, (long) nodes.size()));
+        }
+    },
+    /**
+     * The node with the fewest requests in flight. Ties go to the next node in turn, so idle nodes share the load.
+     */
+    LEAST_OUTSTANDING("least-outstanding") {
+        @Override
+        EndpointNode choose(List<EndpointNode> nodes, long ticket) {
+            int size = nodes.size();
+            int first = (int) Math.floorMod(ticket, (long) size);
+            EndpointNode best = nodes.get(first);
+            for (int i = 1; i < size && best.getOutstanding() > 0; i++) {
+                EndpointNode node = nodes.get((first + i) % size);
+                if (node.getOutstanding() < best.getOutstanding()) {
+                    best = node;
+                }
+            }
+            return best;
+        }
+    },
+    /**
+     * The node with the lowest expected wait: its latency EWMA times the requests already queued on it, plus one.
+     * Nodes without a sample yet score zero, so every node is tried before the averages take over.
+     */
+    EWMA("ewma") {
+        @Override
+        EndpointNode choose(List<EndpointNode> nodes, long ticket) {
+            int size = nodes.size();
+            int first = (int) Math.floorMod(ticket, (long) size);
+            EndpointNode best = null;
+            double bestScore = Double.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                EndpointNode node = nodes.get((first + i) % size);
+                double score = node.getEwmaNanos() * (node.getOutstanding() + 1);
+                if (score < bestScore) {
+                    best = node;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+    };
+
+    private final String configName;
+
+    BalancingPolicy(String configName) {
+        this.configName = configName;
+    }
+
+    /**
+     * Picks the node for the request numbered {@code ticket}; tickets increase by one per request.
+     */
+    abstract EndpointNode choose(List<EndpointNode> nodes, long ticket);
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    /**
+     * Parses {@code round-robin}, {@code least-outstanding} or {@code ewma}, ignoring case.
+     */
+    public static BalancingPolicy fromName(String name) {
+        String value = name.trim();
+        for (BalancingPolicy policy : values()) {
+            if (policy.configName.equalsIgnoreCase(value) || policy.name().equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Invalid balancing policy: " + value);
+    }
+
+    @Override
+    public String toString() {
+        return configName;
+    }
+}
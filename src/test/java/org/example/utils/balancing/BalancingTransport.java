@@ -0,0 +1,101 @@
+package org.example.utils.balancing;
+
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.TransportRequest;
+import org.example.utils.load.TransportResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends each load request to the node an {@link EndpointRegistry} picks for it and records the outcome on that node.
+ * Responses with a 5xx status and requests that fail outright count as node failures; other status checks are left
+ * to the load engine.
+ */
+public class BalancingTransport implements LoadTransport {
+    private final LoadTransport delegate;
+    private final EndpointRegistry registry;
+
+    BalancingTransport(LoadTransport delegate, EndpointRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    public LoadTransport getDelegate() {
+        return delegate;
+    }
+
+    public EndpointRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Reports the wrapped transport's name, since that is what decides the client-side cost per request.
+     */
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public TransportResponse send(TransportRequest request) throws Exception {
+        if (registry.nodeOf(request.getUrl()) == null) {
+            return delegate.send(request);
+        }
+        EndpointNode node = registry.choose();
+        long start = System.nanoTime();
+        node.begin();
+        TransportResponse response;
+        try {
+            response = delegate.send(rebase(request, node));
+        } catch (Exception e) {
+            node.complete(System.nanoTime() - start, true);
+            throw e;
+        }
+        node.complete(System.nanoTime() - start, isServerError(response));
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+        if (registry.nodeOf(request.getUrl()) == null) {
+            return delegate.sendAsync(request);
+        }
+        EndpointNode node = registry.choose();
+        long start = System.nanoTime();
+        node.begin();
+        CompletableFuture<TransportResponse> future;
+        try {
+            future = delegate.sendAsync(rebase(request, node));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((response, error) ->
+                node.complete(System.nanoTime() - start, error != null || isServerError(response)));
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return delegate.isNonBlocking();
+    }
+
+    @Override
+    public void prepare(int concurrency) {
+        delegate.prepare(concurrency);
+    }
+
+    /**
+     * Does nothing: the wrapped transport is shared and outlives the run.
+     */
+    @Override
+    public void close() {
+    }
+
+    private TransportRequest rebase(TransportRequest request, EndpointNode node) {
+        String url = registry.rebase(request.getUrl(), node);
+        return url.equals(request.getUrl()) ? request : new TransportRequest(request.getMethod(), url, request.getBody());
+    }
+
+    private static boolean isServerError(TransportResponse response) {
+        return response.getStatusCode() >= 500;
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.utils.balancing;
+
+import org.HdrHistogram.Histogram;
+import org.example.utils.load.WorkerStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One base URL of an {@link EndpointRegistry}, with the live state the balancing policies read and the counters
+ * behind its per-node results. Safe to update from any number of threads.
+ * <p>
+ * Only the state the registry's policy reads is kept up to date: requests in flight for least-outstanding and EWMA,
+ * and the latency average for EWMA alone. Results are recorded into stripes picked by thread, like
+ * {@link org.example.utils.load.StripedStatsCollector}, so load workers do not all write to the same counters.
+ */
+public class EndpointNode {
+    /**
+     * Weight of the newest latency sample in the moving average.
+     */
+    static final double EWMA_ALPHA = 0.3;
+    private static final int STRIPES = Runtime.getRuntime().availableProcessors();
+
+    private final String baseUrl;
+    private final boolean tracksOutstanding;
+    private final boolean tracksEwma;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    // Double bits of the latency EWMA in nanoseconds; 0 until the first sample
+    private final AtomicLong ewmaBits = new AtomicLong(Double.doubleToLongBits(0));
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    EndpointNode(String baseUrl, BalancingPolicy policy) {
+        this.baseUrl = baseUrl;
+        this.tracksOutstanding = policy != BalancingPolicy.ROUND_ROBIN;
+        this.tracksEwma = policy == BalancingPolicy.EWMA;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Returns the requests in flight, or 0 under round-robin, which does not need them.
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * Returns the latency EWMA in nanoseconds, or 0 unless the policy is EWMA.
+     */
+    public double getEwmaNanos() {
+        return Double.longBitsToDouble(ewmaBits.get());
+    }
+
+    /**
+     * Marks a request to this node as sent. Every call must be followed by one {@link #complete}.
+     */
+    public void begin() {
+        if (tracksOutstanding) {
+            outstanding.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records the outcome of a request started with {@link #begin}.
+     */
+    public void complete(long latencyNanos, boolean failed) {
+        if (tracksOutstanding) {
+            outstanding.decrementAndGet();
+        }
+        stripes[(int) Math.floorMod(Thread.currentThread().threadId(), (long) STRIPES)].record(latencyNanos, failed);
+        if (tracksEwma) {
+            updateEwma(latencyNanos);
+        }
+    }
+
+    private void updateEwma(long latencyNanos) {
+        long current;
+        long updated;
+        do {
+            current = ewmaBits.get();
+            double ewma = Double.longBitsToDouble(current);
+            double next = ewma == 0 ? latencyNanos : ewma + EWMA_ALPHA * (latencyNanos - ewma);
+            updated = Double.doubleToLongBits(next);
+        } while (!ewmaBits.compareAndSet(current, updated));
+    }
+
+    public NodeStats snapshot() {
+        Histogram histogram = WorkerStats.newHistogram();
+        long count = 0;
+        long failures = 0;
+        long totalLatencyNanos = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                count += stripe.requests;
+                failures += stripe.failures;
+                totalLatencyNanos += stripe.totalLatencyNanos;
+                if (stripe.histogram != null) {
+                    histogram.add(stripe.histogram);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return new NodeStats(baseUrl, count, failures,
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalLatencyNanos / count),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99), getEwmaNanos() / 1_000_000.0);
+    }
+
+    /**
+     * Clears the counters behind {@link #snapshot()}. The latency average is kept, so balancing is not disturbed.
+     */
+    void resetStats() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.requests = 0;
+                stripe.failures = 0;
+                stripe.totalLatencyNanos = 0;
+                if (stripe.histogram != null) {
+                    stripe.histogram.reset();
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return baseUrl;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long requests;
+        private long failures;
+        private long totalLatencyNanos;
+        // Allocated on first use, since most stripes of a node stay idle in small runs
+        private Histogram histogram;
+
+        void record(long latencyNanos, boolean failed) {
+            lock.lock();
+            try {
+                requests++;
+                if (failed) {
+                    failures++;
+                }
+                totalLatencyNanos += latencyNanos;
+                if (histogram == null) {
+                    histogram = WorkerStats.newHistogram();
+                }
+                histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+                        WorkerStats.HIGHEST_TRACKABLE_MICROS));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.utils.balancing;
+
+import org.example.utils.load.LoadTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The base URLs of every node serving the API and the policy that spreads requests over them, for deployments
+ * without a shared load balancer in front of the nodes.
+ * <p>
+ * Configured with {@code -Dapi.baseUrls=http://node1/api/v1,http://node2/api/v1} and
+ * {@code -Dapi.balancing=round-robin|least-outstanding|ewma} (default round-robin). Without {@code api.baseUrls}
+ * the registry has the single node given by {@code -Dapi.baseUrl}.
+ * <p>
+ * URLs are built against the {@linkplain #getPrimaryBaseUrl() first node} and moved to the chosen node per request,
+ * so callers keep working with ordinary absolute URLs.
+ */
+public class EndpointRegistry {
+    public static final String BASE_URLS_PROPERTY = "api.baseUrls";
+    public static final String POLICY_PROPERTY = "api.balancing";
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndpointRegistry.class);
+
+    private final List<EndpointNode> nodes;
+    private final BalancingPolicy policy;
+    private final AtomicLong tickets = new AtomicLong();
+
+    private EndpointRegistry(List<String> baseUrls, BalancingPolicy policy) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one base URL is required");
+        }
+        this.nodes = baseUrls.stream().map(EndpointRegistry::trimTrailingSlash)
+                .map(baseUrl -> new EndpointNode(baseUrl, policy)).toList();
+        this.policy = policy;
+    }
+
+    public static EndpointRegistry of(List<String> baseUrls, BalancingPolicy policy) {
+        return new EndpointRegistry(baseUrls, policy);
+    }
+
+    public static EndpointRegistry single(String baseUrl) {
+        return new EndpointRegistry(List.of(baseUrl), BalancingPolicy.ROUND_ROBIN);
+    }
+
+    /**
+     * Reads {@code -Dapi.baseUrls} and {@code -Dapi.balancing}, falling back to the single {@code defaultBaseUrl}.
+     */
+    public static EndpointRegistry fromSystemProperties(String defaultBaseUrl) {
+        String baseUrls = System.getProperty(BASE_URLS_PROPERTY, "").trim();
+        if (baseUrls.isEmpty()) {
+            return single(defaultBaseUrl);
+        }
+        List<String> urls = Arrays.stream(baseUrls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        BalancingPolicy policy = BalancingPolicy.fromName(System.getProperty(POLICY_PROPERTY, "round-robin"));
+        EndpointRegistry registry = of(urls, policy);
+        LOGGER.info("Balancing API requests over {} nodes ({}): {}", urls.size(), policy, urls);
+        return registry;
+    }
+
+    public List<EndpointNode> getNodes() {
+        return nodes;
+    }
+
+    public BalancingPolicy getPolicy() {
+        return policy;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public String getPrimaryBaseUrl() {
+        return nodes.get(0).getBaseUrl();
+    }
+
+    /**
+     * Picks the node for the next request according to the policy.
+     */
+    public EndpointNode choose() {
+        return nodes.size() == 1 ? nodes.get(0) : policy.choose(nodes, tickets.getAndIncrement());
+    }
+
+    /**
+     * Returns the node whose base URL {@code url} starts with, or {@code null} if it points elsewhere. The base URL
+     * must end at a path, query or the end of {@code url}, so {@code http://host:80} does not claim
+     * {@code http://host:8080/...} and {@code /api} does not claim {@code /api2}.
+     */
+    public EndpointNode nodeOf(String url) {
+        for (EndpointNode node : nodes) {
+            String baseUrl = node.getBaseUrl();
+            if (url.startsWith(baseUrl) && (url.length() == baseUrl.length()
+                    || url.charAt(baseUrl.length()) == '/' || url.charAt(baseUrl.length()) == '?')) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Moves {@code url} from whichever node it was built against to {@code target}. URLs of other hosts are returned
+     * unchanged.
+     */
+    public String rebase(String url, EndpointNode target) {
+        EndpointNode source = nodeOf(url);
+        if (source == null || source == target) {
+            return url;
+        }
+        return target.getBaseUrl() + url.substring(source.getBaseUrl().length());
+    }
+
+    /**
+     * Sends one request to the chosen node and records its outcome there.
+     *
+     * @param url     absolute URL built against any node, e.g. {@code RestApiUtils.ACTIVITIES.getUrl()}
+     * @param request sends the request to the URL it is given
+     * @param failed  whether the response counts as a failure for the node's results
+     */
+    public <T> T execute(String url, Function<String, T> request, Predicate<T> failed) {
+        if (nodeOf(url) == null) {
+            return request.apply(url);
+        }
+        EndpointNode node = choose();
+        long start = System.nanoTime();
+        node.begin();
+        T response;
+        try {
+            response = request.apply(rebase(url, node));
+        } catch (RuntimeException e) {
+            node.complete(System.nanoTime() - start, true);
+            throw e;
+        }
+        node.complete(System.nanoTime() - start, failed.test(response));
+        return response;
+    }
+
+    /**
+     * Wraps {@code transport} so every load request goes to the node chosen for it. With a single node there is
+     * nothing to choose, so {@code transport} is returned as is and the load engine's own results are the node's.
+     */
+    public LoadTransport balance(LoadTransport transport) {
+        return nodes.size() == 1 ? transport : new BalancingTransport(transport, this);
+    }
+
+    public List<NodeStats> stats() {
+        return nodes.stream().map(EndpointNode::snapshot).toList();
+    }
+
+    /**
+     * Starts new per-node results, e.g. before a load run, so they only cover what follows.
+     */
+    public void resetStats() {
+        nodes.forEach(EndpointNode::resetStats);
+    }
+
+    private static String trimTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    @Override
+    public String toString() {
+        return nodes + " (" + policy + ")";
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.utils.balancing;
+
+/**
+ * Requests one {@link EndpointNode} served since the registry's stats were last reset.
+ */
+public class NodeStats {
+    public final String baseUrl;
+    public final long requests;
+    public final long failures;
+    public final long meanMicros;
+    public final long p50Micros;
+    public final long p99Micros;
+    public final double ewmaMillis;
+
+    public NodeStats(String baseUrl, long requests, long failures, long meanMicros, long p50Micros, long p99Micros,
+                     double ewmaMillis) {
+        this.baseUrl = baseUrl;
+        this.requests = requests;
+        this.failures = failures;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.ewmaMillis = ewmaMillis;
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) failures / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: requests=%d, failures=%d (%.2f%%), mean=%.1f ms, p50=%.1f ms, p99=%.1f ms, ewma=%.1f ms",
+                baseUrl, requests, failures, errorRate() * 100, meanMicros / 1000.0, p50Micros / 1000.0,
+                p99Micros / 1000.0, ewmaMillis);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.utils.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * A fixed set of request bodies serialized before the run starts and handed out in rotation. Handing out a body
+ * costs one atomic increment and no allocation, so the payload variety of a realistic test does not turn into
+ * per-request Jackson work on the generator.
+ */
+public class BodyCorpus implements BodySource {
+    private final byte[][] bodies;
+    // Sizes that are a power of two wrap with a mask instead of a division
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+
+    private BodyCorpus(byte[][] bodies) {
+        if (bodies.length == 0) {
+            throw new IllegalArgumentException("Body corpus must not be empty");
+        }
+        this.bodies = bodies;
+        this.mask = Integer.bitCount(bodies.length) == 1 ? bodies.length - 1 : -1;
+    }
+
+    /**
+     * Builds {@code size} bodies by calling {@code generator} with the indexes {@code 0} to {@code size - 1}.
+     */
+    public static BodyCorpus generate(int size, IntFunction<String> generator) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Body corpus size must be positive");
+        }
+        byte[][] bodies = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            bodies[i] = generator.apply(i).getBytes(StandardCharsets.UTF_8);
+        }
+        return new BodyCorpus(bodies);
+    }
+
+    public static BodyCorpus of(List<String> bodies) {
+        return generate(bodies.size(), bodies::get);
+    }
+
+    /**
+     * Loads one body per non-blank line, e.g. from a JSON Lines file captured from production traffic.
+     */
+    public static BodyCorpus fromJsonLines(Path file) throws IOException {
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return of(lines.filter(line -> !line.isBlank()).toList());
+        }
+    }
+
+    @Override
+    public byte[] next() {
+        long index = cursor.getAndIncrement();
+        return bodies[mask >= 0 ? (int) (index & mask) : (int) Long.remainderUnsigned(index, bodies.length)];
+    }
+
+    byte[] body(int index) {
+        return bodies[index];
+    }
+
+    public int size() {
+        return bodies.length;
+    }
+
+    public long totalBytes() {
+        long total = 0;
+        for (byte[] body : bodies) {
+            total += body.length;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.utils.load;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Hands serialized request bodies to load workers. Implementations are called concurrently from every worker, and
+ * callers must not modify the returned arrays.
+ */
+@FunctionalInterface
+public interface BodySource {
+
+    byte[] next();
+
+    /**
+     * Wraps a supplier that builds a new body for every request. Use a {@link BodyCorpus} when the cost of
+     * building and encoding bodies shows up in the generator's profile.
+     */
+    static BodySource fromSupplier(Supplier<String> supplier) {
+        return () -> supplier.get().getBytes(StandardCharsets.UTF_8);
+    }
+}
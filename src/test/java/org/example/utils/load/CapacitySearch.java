@@ -0,0 +1,334 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Finds the highest load level that still meets an {@link Slo} by probing the server with short fixed-level runs
+ * and adjusting the level after each one, instead of hand-tuning a ramp.
+ * <p>
+ * A level is a number of concurrent users or, in {@link Mode#ARRIVAL_RATE} mode, requests per second. Two
+ * controllers are available:
+ * <ul>
+ *     <li>{@link Strategy#BINARY_SEARCH} doubles the level until a probe breaks the SLO, then bisects between the
+ *     last passing and the first failing level until they are {@code resolution} apart. It needs the fewest
+ *     probes when the server's behaviour is stable.</li>
+ *     <li>{@link Strategy#AIMD} adds {@code increaseStep} after a passing probe and multiplies by
+ *     {@code decreaseFactor} after a failing one, like TCP congestion control. It never probes a level it already
+ *     saw fail, halving the step instead, and copes better with noisy servers.</li>
+ * </ul>
+ * Both stop at {@code maxProbes}. The result reports the passing probe with the highest throughput.
+ */
+public class CapacitySearch {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CapacitySearch.class);
+
+    public enum Mode {
+        /** Closed loop: the level is the number of concurrent users. */
+        USERS,
+        /** Open loop: the level is the arrival rate in requests per second. */
+        ARRIVAL_RATE
+    }
+
+    public enum Strategy {
+        BINARY_SEARCH,
+        AIMD
+    }
+
+    private final Slo slo;
+    private final Mode mode;
+    private Strategy strategy = Strategy.BINARY_SEARCH;
+    private int minLevel = 1;
+    private int maxLevel = LoadProfile.DEFAULT_MAX_CONCURRENCY;
+    private int resolution = 1;
+    private int increaseStep = 5;
+    private double decreaseFactor = 0.5;
+    private int maxProbes = 12;
+    private Duration probeDuration = Duration.ofSeconds(10);
+    private Duration warmUpDuration = Duration.ofSeconds(2);
+
+    public CapacitySearch(Slo slo, Mode mode) {
+        this.slo = slo;
+        this.mode = mode;
+    }
+
+    public CapacitySearch strategy(Strategy strategy) {
+        this.strategy = strategy;
+        return this;
+    }
+
+    /**
+     * Limits the levels the search may probe. The search starts at {@code minLevel}.
+     */
+    public CapacitySearch levels(int minLevel, int maxLevel) {
+        if (minLevel <= 0 || maxLevel < minLevel) {
+            throw new IllegalArgumentException("Levels must be positive and min must not exceed max");
+        }
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+        return this;
+    }
+
+    /**
+     * Stops bisecting once the passing and failing levels are this close.
+     */
+    public CapacitySearch resolution(int resolution) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException("Resolution must be positive");
+        }
+        this.resolution = resolution;
+        return this;
+    }
+
+    public CapacitySearch aimd(int increaseStep, double decreaseFactor) {
+        if (increaseStep <= 0 || decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("Increase step must be positive and decrease factor in (0, 1)");
+        }
+        this.strategy = Strategy.AIMD;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        return this;
+    }
+
+    public CapacitySearch maxProbes(int maxProbes) {
+        if (maxProbes <= 0) {
+            throw new IllegalArgumentException("Max probes must be positive");
+        }
+        this.maxProbes = maxProbes;
+        return this;
+    }
+
+    public CapacitySearch probeDuration(Duration probeDuration) {
+        if (probeDuration.isNegative() || probeDuration.isZero()) {
+            throw new IllegalArgumentException("Probe duration must be positive");
+        }
+        this.probeDuration = probeDuration;
+        return this;
+    }
+
+    /**
+     * Runs {@code minLevel} for this long before the first probe and discards the result, so class loading, JIT
+     * compilation and connection setup do not count against the SLO. Zero disables the warm-up.
+     */
+    public CapacitySearch warmUp(Duration warmUpDuration) {
+        if (warmUpDuration.isNegative()) {
+            throw new IllegalArgumentException("Warm-up duration must not be negative");
+        }
+        this.warmUpDuration = warmUpDuration;
+        return this;
+    }
+
+    public Slo getSlo() {
+        return slo;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    public Duration getProbeDuration() {
+        return probeDuration;
+    }
+
+    public Duration getWarmUpDuration() {
+        return warmUpDuration;
+    }
+
+    /**
+     * Builds the single-stage profile that probes {@code level}.
+     */
+    public LoadProfile probeProfile(int level) {
+        return singleStage("probe-" + level, level, probeDuration);
+    }
+
+    /**
+     * Builds the warm-up profile, or returns {@code null} when the warm-up is disabled.
+     */
+    public LoadProfile warmUpProfile() {
+        return warmUpDuration.isZero() ? null : singleStage("warm-up", minLevel, warmUpDuration);
+    }
+
+    private LoadProfile singleStage(String name, int level, Duration duration) {
+        LoadStage stage = mode == Mode.USERS
+                ? LoadStage.users(level, duration)
+                : LoadStage.rate(level, duration);
+        LoadProfile profile = new LoadProfile(name);
+        if (mode == Mode.ARRIVAL_RATE) {
+            profile.maxConcurrency(Math.max(LoadProfile.DEFAULT_MAX_CONCURRENCY, maxLevel));
+        }
+        return profile.stage(stage);
+    }
+
+    /**
+     * Runs the search, calling {@code probe} once per level to try.
+     */
+    public Result search(IntFunction<? extends LoadTestResult> probe) {
+        List<Probe> probes = new ArrayList<>();
+        if (strategy == Strategy.BINARY_SEARCH) {
+            binarySearch(probe, probes);
+        } else {
+            aimdSearch(probe, probes);
+        }
+        Result result = new Result(slo, mode, probes);
+        LOGGER.info("{}", result);
+        return result;
+    }
+
+    private void binarySearch(IntFunction<? extends LoadTestResult> probe, List<Probe> probes) {
+        int passing = 0;
+        int failing = Integer.MAX_VALUE;
+        int level = minLevel;
+        while (probes.size() < maxProbes) {
+            if (run(probe, level, probes)) {
+                passing = level;
+                if (level == maxLevel) {
+                    return;
+                }
+            } else {
+                failing = level;
+                if (level == minLevel) {
+                    return;
+                }
+            }
+            if (failing == Integer.MAX_VALUE) {
+                level = (int) Math.min((long) level * 2, maxLevel);
+            } else if (failing - passing > resolution) {
+                level = passing + (failing - passing) / 2;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void aimdSearch(IntFunction<? extends LoadTestResult> probe, List<Probe> probes) {
+        int passing = 0;
+        int failing = Integer.MAX_VALUE;
+        int level = minLevel;
+        while (probes.size() < maxProbes) {
+            if (run(probe, level, probes)) {
+                passing = Math.max(passing, level);
+                if (level == maxLevel || failing - level <= resolution) {
+                    return;
+                }
+                int next = Math.min(level + increaseStep, maxLevel);
+                // Never retry a level that already failed; close half of the remaining gap instead
+                level = next >= failing ? level + Math.max((failing - level) / 2, 1) : next;
+            } else {
+                failing = Math.min(failing, level);
+                if (level == minLevel || failing - passing <= resolution) {
+                    return;
+                }
+                level = Math.max(minLevel, (int) (level * decreaseFactor));
+            }
+        }
+    }
+
+    private boolean run(IntFunction<? extends LoadTestResult> probe, int level, List<Probe> probes) {
+        LOGGER.info("Probing {} {} for {} s against {}", level, mode == Mode.USERS ? "users" : "req/s",
+                probeDuration.toSeconds(), slo);
+        LoadTestResult result = probe.apply(level);
+        Probe outcome = new Probe(level, result, slo.violation(result));
+        probes.add(outcome);
+        LOGGER.info("{}", outcome);
+        return outcome.passed();
+    }
+
+    /**
+     * The outcome of probing one level; {@link #violation} is {@code null} when the SLO was met.
+     */
+    public static class Probe {
+        public final int level;
+        public final LoadTestResult result;
+        public final String violation;
+
+        public Probe(int level, LoadTestResult result, String violation) {
+            this.level = level;
+            this.result = result;
+            this.violation = violation;
+        }
+
+        public boolean passed() {
+            return violation == null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("level %6d: %10.1f req/s  p99=%8.2f ms  errors=%6d  %s", level,
+                    result.requestsPerSecond(), result.p99Micros / 1000.0, result.failedRequests,
+                    passed() ? "meets SLO" : "breaks SLO: " + violation);
+        }
+    }
+
+    /**
+     * All probes in the order they ran, and the best one that met the SLO.
+     */
+    public static class Result {
+        public final Slo slo;
+        public final Mode mode;
+        public final List<Probe> probes;
+
+        public Result(Slo slo, Mode mode, List<Probe> probes) {
+            this.slo = slo;
+            this.mode = mode;
+            this.probes = List.copyOf(probes);
+        }
+
+        /**
+         * Returns the passing probe with the highest throughput, or {@code null} when no level met the SLO.
+         */
+        public Probe getBestProbe() {
+            Probe best = null;
+            for (Probe probe : probes) {
+                if (probe.passed() && (best == null
+                        || probe.result.requestsPerSecond() > best.result.requestsPerSecond())) {
+                    best = probe;
+                }
+            }
+            return best;
+        }
+
+        public boolean foundSustainableLevel() {
+            return getBestProbe() != null;
+        }
+
+        /**
+         * Returns the users or arrival rate of the best passing probe, or 0 when none passed.
+         */
+        public int getMaxSustainableLevel() {
+            Probe best = getBestProbe();
+            return best == null ? 0 : best.level;
+        }
+
+        /**
+         * Returns the highest throughput measured while meeting the SLO, or 0 when no level met it.
+         */
+        public double getMaxSustainableThroughput() {
+            Probe best = getBestProbe();
+            return best == null ? 0 : best.result.requestsPerSecond();
+        }
+
+        @Override
+        public String toString() {
+            Probe best = getBestProbe();
+            if (best == null) {
+                return "No probed level met " + slo;
+            }
+            return String.format("Max sustainable load meeting %s: %.1f req/s at %d %s after %d probes", slo,
+                    best.result.requestsPerSecond(), best.level, mode == Mode.USERS ? "users" : "req/s",
+                    probes.size());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.utils.load;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Caps the number of requests in flight like a {@link Semaphore}, and also hands each request the index of a free
+ * slot between {@code 0} and {@code size - 1}. Open-loop runs have no long-lived workers, so the slot is what
+ * {@link RequestListener}s see as the worker of a scheduled request.
+ * <p>
+ * The lowest free slot is taken, so a run that never needs its full concurrency only uses low indexes.
+ */
+public class ConcurrencySlots {
+    private final Semaphore permits;
+    private final AtomicIntegerArray taken;
+
+    public ConcurrencySlots(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.permits = new Semaphore(size);
+        this.taken = new AtomicIntegerArray(size);
+    }
+
+    /**
+     * Waits for a free slot and returns its index.
+     */
+    public int acquire() throws InterruptedException {
+        permits.acquire();
+        // Holding a permit guarantees that a slot is free, though another holder may claim it first
+        while (true) {
+            for (int slot = 0; slot < taken.length(); slot++) {
+                if (taken.get(slot) == 0 && taken.compareAndSet(slot, 0, 1)) {
+                    return slot;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public void release(int slot) {
+        taken.set(slot, 0);
+        permits.release();
+    }
+
+    public int size() {
+        return taken.length();
+    }
+}
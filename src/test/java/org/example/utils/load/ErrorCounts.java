@@ -0,0 +1,139 @@
+package org.example.utils.load;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Failure counters of one {@link WorkerStats}, bucketed by unexpected status code, by exception class and, for
+ * responses rejected by a {@link ResponseValidator}, as {@link #INVALID_BODY}.
+ * <p>
+ * Like {@link WorkerStats}, an instance has a single writer and is merged after the run, so counting a failure is
+ * an array increment or a small map update with no locking or shared cache lines. Status buckets are allocated on
+ * the first failure, so workers that never fail carry no extra memory.
+ */
+public class ErrorCounts {
+    /** Bucket for failed responses recorded without their status code. */
+    public static final String UNKNOWN_STATUS = "unexpected response";
+    /** Bucket for responses that had the expected status but failed body validation. */
+    public static final String INVALID_BODY = "invalid body";
+    /** Bucket for errors recorded without their exception. */
+    public static final String UNKNOWN_ERROR = "unknown error";
+    private static final int STATUS_CODES = 600;
+
+    private long[] statusCounts;
+    private Map<String, Long> namedCounts;
+
+    public void recordStatus(int statusCode) {
+        if (statusCode <= 0 || statusCode >= STATUS_CODES) {
+            recordKey(statusCode <= 0 ? UNKNOWN_STATUS : "HTTP " + statusCode);
+            return;
+        }
+        if (statusCounts == null) {
+            statusCounts = new long[STATUS_CODES];
+        }
+        statusCounts[statusCode]++;
+    }
+
+    public void recordInvalidBody() {
+        recordKey(INVALID_BODY);
+    }
+
+    public void recordException(Throwable error) {
+        recordKey(error == null ? UNKNOWN_ERROR : unwrap(error).getClass().getName());
+    }
+
+    public void add(ErrorCounts other) {
+        if (other.statusCounts != null) {
+            if (statusCounts == null) {
+                statusCounts = new long[STATUS_CODES];
+            }
+            for (int i = 0; i < STATUS_CODES; i++) {
+                statusCounts[i] += other.statusCounts[i];
+            }
+        }
+        if (other.namedCounts != null) {
+            other.namedCounts.forEach((key, count) -> addKey(key, count));
+        }
+    }
+
+    /**
+     * Adds counts previously returned by {@link #toMap()}, e.g. after they were sent from another process.
+     */
+    public void addAll(Map<String, Long> counts) {
+        counts.forEach((key, count) -> {
+            if (key.startsWith("HTTP ")) {
+                try {
+                    int status = Integer.parseInt(key.substring(5));
+                    if (status > 0 && status < STATUS_CODES) {
+                        if (statusCounts == null) {
+                            statusCounts = new long[STATUS_CODES];
+                        }
+                        statusCounts[status] += count;
+                        return;
+                    }
+                } catch (NumberFormatException e) {
+                    // Not a status bucket after all; keep it under its name
+                }
+            }
+            addKey(key, count);
+        });
+    }
+
+    public long total() {
+        long total = statusCounts == null ? 0 : Arrays.stream(statusCounts).sum();
+        if (namedCounts != null) {
+            total += namedCounts.values().stream().mapToLong(Long::longValue).sum();
+        }
+        return total;
+    }
+
+    /**
+     * Returns every non-empty bucket, most frequent first, keyed {@code "HTTP <status>"} or by exception class name.
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> counts = new HashMap<>();
+        if (statusCounts != null) {
+            for (int i = 0; i < STATUS_CODES; i++) {
+                if (statusCounts[i] > 0) {
+                    counts.put("HTTP " + i, statusCounts[i]);
+                }
+            }
+        }
+        if (namedCounts != null) {
+            counts.putAll(namedCounts);
+        }
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Strips the wrappers added by asynchronous sends, so the bucket names the actual cause.
+     */
+    static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private void recordKey(String key) {
+        addKey(key, 1);
+    }
+
+    private void addKey(String key, long count) {
+        if (namedCounts == null) {
+            namedCounts = new HashMap<>();
+        }
+        namedCounts.merge(key, count, Long::sum);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.utils.load;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * How the load engine runs its simulated users.
+ */
+public enum ExecutionMode {
+    /**
+     * One pooled platform thread per simulated user. Practical up to a few hundred users.
+     */
+    PLATFORM_THREADS {
+        @Override
+        public ExecutorService newExecutor(int workerCount) {
+            return Executors.newFixedThreadPool(workerCount);
+        }
+
+        @Override
+        public StatsCollector newStatsCollector(int workerCount) {
+            return new PerWorkerStatsCollector();
+        }
+    },
+
+    /**
+     * One virtual thread per simulated user, so blocked users cost a few kilobytes of heap instead of an OS thread.
+     * Statistics are striped per carrier-sized group to keep histogram memory bounded.
+     */
+    VIRTUAL_THREADS {
+        @Override
+        public ExecutorService newExecutor(int workerCount) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("load-user-", 0).factory());
+        }
+
+        @Override
+        public StatsCollector newStatsCollector(int workerCount) {
+            int stripes = Math.min(Math.max(workerCount, 1), Runtime.getRuntime().availableProcessors() * 4);
+            return new StripedStatsCollector(stripes);
+        }
+    };
+
+    public static final String SYSTEM_PROPERTY = "load.executionMode";
+
+    public abstract ExecutorService newExecutor(int workerCount);
+
+    public abstract StatsCollector newStatsCollector(int workerCount);
+
+    /**
+     * Returns the mode selected with {@code -Dload.executionMode}, defaulting to platform threads.
+     */
+    public static ExecutionMode fromSystemProperty() {
+        String value = System.getProperty(SYSTEM_PROPERTY, PLATFORM_THREADS.name());
+        try {
+            return ExecutionMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid execution mode: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.balancing.NodeStats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Renders the outcome of a load test as a single self-contained HTML page: a summary, throughput and latency
+ * percentiles over time as inline SVG charts, the error breakdown and a table per step, stage, probe or API node.
+ * <p>
+ * The page has no scripts and no external resources, so it can be attached to a Cucumber scenario or archived as
+ * a build artifact and still open anywhere.
+ */
+public class HtmlLoadReport {
+    private static final int CHART_WIDTH = 720;
+    private static final int CHART_HEIGHT = 220;
+    private static final int MARGIN_LEFT = 64;
+    private static final int MARGIN_BOTTOM = 28;
+    private static final int MARGIN_TOP = 12;
+    private static final int MARGIN_RIGHT = 12;
+    private static final int GRID_LINES = 4;
+    private static final String[] COLORS = {"#1f77b4", "#ff7f0e", "#d62728", "#2ca02c"};
+    private static final String STYLE = "body{font-family:sans-serif;margin:16px;color:#222}"
+            + "table{border-collapse:collapse;margin:8px 0 16px}"
+            + "th,td{border:1px solid #ccc;padding:3px 8px;text-align:right}th{background:#f3f3f3}"
+            + "td:first-child,th:first-child{text-align:left}"
+            + ".chart text{font-size:11px;fill:#555}.legend span{margin-right:12px}"
+            + ".failed{color:#c00}.passed{color:#080}";
+
+    private final String title;
+    private LoadTestResult result;
+    private List<IntervalSnapshot> snapshots = List.of();
+    private final List<Table> tables = new ArrayList<>();
+
+    public HtmlLoadReport(String title) {
+        this.title = title;
+    }
+
+    public HtmlLoadReport result(LoadTestResult result) {
+        this.result = result;
+        return this;
+    }
+
+    /**
+     * Sets the per-interval metrics to chart, e.g. {@link LiveMetricsSampler#getSnapshots()}.
+     */
+    public HtmlLoadReport timeSeries(List<IntervalSnapshot> snapshots) {
+        this.snapshots = List.copyOf(snapshots);
+        return this;
+    }
+
+    public HtmlLoadReport steps(List<StepResult> steps) {
+        Table table = new Table("Steps", "Users", "Requests", "Throughput (req/s)", "p50 (ms)", "p90 (ms)", "p99 (ms)",
+                "Errors");
+        for (StepResult step : steps) {
+            table.row(String.valueOf(step.getConcurrency()), String.valueOf(step.getResult().totalRequests),
+                    format("%.1f", step.getThroughput()), millis(step.getP50Micros()), millis(step.getP90Micros()),
+                    millis(step.getP99Micros()), format("%.2f%%", step.getErrorRate() * 100));
+        }
+        return table(table);
+    }
+
+    public HtmlLoadReport stages(List<StageResult> stages) {
+        Table table = new Table("Stages", "Stage", "Requests", "Throughput (req/s)", "p50 (ms)", "p99 (ms)", "Errors");
+        for (StageResult stage : stages) {
+            LoadTestResult stageResult = stage.getResult();
+            table.row(stage.getStage().toString(), String.valueOf(stageResult.totalRequests),
+                    format("%.1f", stage.getThroughput()), millis(stageResult.p50Micros), millis(stageResult.p99Micros),
+                    format("%.2f%%", stage.getErrorRate() * 100));
+        }
+        return table(table);
+    }
+
+    public HtmlLoadReport probes(List<CapacitySearch.Probe> probes) {
+        Table table = new Table("Probes", "Level", "Requests", "Throughput (req/s)", "p50 (ms)", "p99 (ms)", "Verdict");
+        for (CapacitySearch.Probe probe : probes) {
+            table.row(String.valueOf(probe.level), String.valueOf(probe.result.totalRequests),
+                    format("%.1f", probe.result.requestsPerSecond()), millis(probe.result.p50Micros),
+                    millis(probe.result.p99Micros), probe.passed() ? "met" : probe.violation);
+        }
+        return table(table);
+    }
+
+    /**
+     * Adds a table of the requests each API node served, from {@code EndpointRegistry#stats()}.
+     */
+    public HtmlLoadReport nodes(List<NodeStats> nodes) {
+        long total = nodes.stream().mapToLong(node -> node.requests).sum();
+        Table table = new Table("Nodes", "Node", "Requests", "Share", "Mean (ms)", "p50 (ms)", "p99 (ms)", "Errors");
+        for (NodeStats node : nodes) {
+            table.row(node.baseUrl, String.valueOf(node.requests),
+                    format("%.1f%%", total == 0 ? 0.0 : node.requests * 100.0 / total), millis(node.meanMicros),
+                    millis(node.p50Micros), millis(node.p99Micros), format("%.2f%%", node.errorRate() * 100));
+        }
+        return table(table);
+    }
+
+    /**
+     * Adds a free-form table, e.g. for results that have no dedicated section.
+     */
+    public HtmlLoadReport table(String caption, List<String> header, List<List<String>> rows) {
+        Table table = new Table(caption, header.toArray(String[]::new));
+        rows.forEach(row -> table.row(row.toArray(String[]::new)));
+        return table(table);
+    }
+
+    private HtmlLoadReport table(Table table) {
+        tables.add(table);
+        return this;
+    }
+
+    public String render() {
+        StringBuilder html = new StringBuilder(16 * 1024);
+        html.append("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>").append(escape(title))
+                .append("</title><style>").append(STYLE).append("</style></head><body><h1>")
+                .append(escape(title)).append("</h1>");
+        if (result != null) {
+            renderSummary(html);
+        }
+        if (!snapshots.isEmpty()) {
+            Map<String, double[]> throughput = new LinkedHashMap<>();
+            throughput.put("req/s", values(snapshots, IntervalSnapshot::getThroughput));
+            throughput.put("errors/s", values(snapshots,
+                    s -> s.getIntervalMillis() == 0 ? 0 : s.getErrors() * 1000.0 / s.getIntervalMillis()));
+            renderChart(html, "Throughput over time", "req/s", throughput);
+
+            Map<String, double[]> latency = new LinkedHashMap<>();
+            latency.put("p50", values(snapshots, s -> s.getP50Micros() / 1000.0));
+            latency.put("p90", values(snapshots, s -> s.getP90Micros() / 1000.0));
+            latency.put("p99", values(snapshots, s -> s.getP99Micros() / 1000.0));
+            latency.put("max", values(snapshots, s -> s.getMaxMicros() / 1000.0));
+            renderChart(html, "Latency percentiles over time", "ms", latency);
+        }
+        if (result != null) {
+            renderErrors(html);
+        }
+        tables.forEach(table -> table.render(html));
+        return html.append("</body></html>").toString();
+    }
+
+    public Path writeTo(Path path) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, render(), StandardCharsets.UTF_8);
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write load report " + path, e);
+        }
+    }
+
+    private void renderSummary(StringBuilder html) {
+        html.append("<p class=\"").append(result.success ? "passed\">Passed" : "failed\">Failed").append("</p>");
+        Table summary = new Table("Summary", "Requests", "Failed", "Throughput (req/s)", "p50 (ms)", "p90 (ms)",
+                "p99 (ms)", "p99.9 (ms)", "Max (ms)", "Duration (s)", "Transport");
+        summary.row(String.valueOf(result.totalRequests), String.valueOf(result.failedRequests),
+                format("%.1f", result.requestsPerSecond()), millis(result.p50Micros), millis(result.p90Micros),
+                millis(result.p99Micros), millis(result.p999Micros), millis(result.maxMicros),
+                format("%.1f", result.elapsedNanos / 1e9), result.transportName);
+        summary.render(html);
+    }
+
+    private void renderErrors(StringBuilder html) {
+        html.append("<h2>Errors</h2>");
+        if (result.errorBreakdown.isEmpty()) {
+            html.append("<p>No errors</p>");
+            return;
+        }
+        Table errors = new Table(null, "Cause", "Count", "Share");
+        result.errorBreakdown.forEach((cause, count) -> errors.row(cause, String.valueOf(count),
+                format("%.2f%%", result.totalRequests == 0 ? 0 : count * 100.0 / result.totalRequests)));
+        errors.render(html);
+    }
+
+    private void renderChart(StringBuilder html, String caption, String unit, Map<String, double[]> series) {
+        int plotWidth = CHART_WIDTH - MARGIN_LEFT - MARGIN_RIGHT;
+        int plotHeight = CHART_HEIGHT - MARGIN_TOP - MARGIN_BOTTOM;
+        double max = niceCeiling(series.values().stream().flatMapToDouble(Arrays::stream).max().orElse(0));
+        int points = snapshots.size();
+        long firstMillis = snapshots.get(0).getTimestamp() - snapshots.get(0).getIntervalMillis();
+
+        html.append("<h2>").append(escape(caption)).append("</h2><svg class=\"chart\" xmlns=\"http://www.w3.org/2000/svg\" width=\"")
+                .append(CHART_WIDTH).append("\" height=\"").append(CHART_HEIGHT).append("\">");
+        for (int i = 0; i <= GRID_LINES; i++) {
+            double y = MARGIN_TOP + plotHeight - plotHeight * i / (double) GRID_LINES;
+            html.append(format("<line x1=\"%d\" y1=\"%.1f\" x2=\"%d\" y2=\"%.1f\" stroke=\"#e5e5e5\"/>",
+                    MARGIN_LEFT, y, CHART_WIDTH - MARGIN_RIGHT, y));
+            html.append(format("<text x=\"%d\" y=\"%.1f\" text-anchor=\"end\">%s %s</text>", MARGIN_LEFT - 6, y + 4,
+                    formatAxis(max * i / GRID_LINES), unit));
+        }
+        for (int i = 0; i < points; i += Math.max(1, points / 8)) {
+            double seconds = (snapshots.get(i).getTimestamp() - firstMillis) / 1000.0;
+            html.append(format("<text x=\"%.1f\" y=\"%d\" text-anchor=\"middle\">%ss</text>", x(i, points, plotWidth),
+                    CHART_HEIGHT - 8, formatAxis(seconds)));
+        }
+        int color = 0;
+        for (double[] values : series.values()) {
+            html.append("<polyline fill=\"none\" stroke-width=\"2\" stroke=\"").append(COLORS[color++ % COLORS.length])
+                    .append("\" points=\"");
+            for (int i = 0; i < values.length; i++) {
+                double y = MARGIN_TOP + plotHeight - (max == 0 ? 0 : values[i] / max * plotHeight);
+                html.append(format("%.1f,%.1f ", x(i, points, plotWidth), y));
+            }
+            html.append("\"/>");
+        }
+        html.append("</svg><div class=\"legend\">");
+        color = 0;
+        for (String name : series.keySet()) {
+            html.append("<span style=\"color:").append(COLORS[color++ % COLORS.length]).append("\">&#9632; ")
+                    .append(escape(name)).append("</span>");
+        }
+        html.append("</div>");
+    }
+
+    private static double x(int index, int points, int plotWidth) {
+        return MARGIN_LEFT + (points == 1 ? plotWidth / 2.0 : plotWidth * index / (double) (points - 1));
+    }
+
+    private static double[] values(List<IntervalSnapshot> snapshots,
+                                   ToDoubleFunction<IntervalSnapshot> metric) {
+        return snapshots.stream().mapToDouble(metric).toArray();
+    }
+
+    /**
+     * Rounds {@code value} up to 1, 2 or 5 times a power of ten, so the axis labels stay readable.
+     */
+    private static double niceCeiling(double value) {
+        if (value <= 0) {
+            return 1;
+        }
+        double magnitude = Math.pow(10, Math.floor(Math.log10(value)));
+        for (double step : new double[]{1, 2, 5, 10}) {
+            if (value <= step * magnitude) {
+                return step * magnitude;
+            }
+        }
+        return 10 * magnitude;
+    }
+
+    private static String formatAxis(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : format("%.1f", value);
+    }
+
+    private static String millis(long micros) {
+        return format("%.2f", micros / 1000.0);
+    }
+
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '&' -> escaped.append("&amp;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&#39;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static final class Table {
+        private final String caption;
+        private final String[] header;
+        private final List<String[]> rows = new ArrayList<>();
+
+        Table(String caption, String... header) {
+            this.caption = caption;
+            this.header = header;
+        }
+
+        void row(String... cells) {
+            rows.add(cells);
+        }
+
+        void render(StringBuilder html) {
+            if (caption != null) {
+                html.append("<h2>").append(escape(caption)).append("</h2>");
+            }
+            html.append("<table><tr>");
+            for (String cell : header) {
+                html.append("<th>").append(escape(cell)).append("</th>");
+            }
+            html.append("</tr>");
+            for (String[] row : rows) {
+                html.append("<tr>");
+                for (String cell : row) {
+                    html.append("<td>").append(escape(cell)).append("</td>");
+                }
+                html.append("</tr>");
+            }
+            html.append("</table>");
+        }
+    }
+}
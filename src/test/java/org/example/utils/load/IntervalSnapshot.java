@@ -0,0 +1,81 @@
+package org.example.utils.load;
+
+import java.util.Locale;
+
+/**
+ * Metrics for one sampling interval of a running load test. Latencies are in microseconds.
+ */
+public class IntervalSnapshot {
+    static final String CSV_HEADER = "timestamp,intervalMillis,requests,errors,throughput,p50Micros,p90Micros,p99Micros,maxMicros";
+
+    private final long timestamp;
+    private final long intervalMillis;
+    private final long requests;
+    private final long errors;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    public IntervalSnapshot(long timestamp, long intervalMillis, long requests, long errors,
+                            long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+        this.timestamp = timestamp;
+        this.intervalMillis = intervalMillis;
+        this.requests = requests;
+        this.errors = errors;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    /**
+     * Returns the end of the interval in epoch milliseconds.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return intervalMillis == 0 ? 0 : requests * 1000.0 / intervalMillis;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP90Micros() {
+        return p90Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    String toCsv() {
+        return String.format(Locale.ROOT, "%d,%d,%d,%d,%.2f,%d,%d,%d,%d", timestamp, intervalMillis,
+                requests, errors, getThroughput(), p50Micros, p90Micros, p99Micros, maxMicros);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%8.1f req/s, %d errors, p50=%.2f ms, p90=%.2f ms, p99=%.2f ms, max=%.2f ms",
+                getThroughput(), errors, p50Micros / 1000.0, p90Micros / 1000.0, p99Micros / 1000.0, maxMicros / 1000.0);
+    }
+}
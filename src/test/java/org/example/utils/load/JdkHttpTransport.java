@@ -0,0 +1,91 @@
+package org.example.utils.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends requests through one shared {@link HttpClient}, which keeps a pool of persistent connections and supports
+ * non-blocking sends. Parsed URIs are cached, so a request costs one small {@link HttpRequest} and nothing else.
+ * <p>
+ * Connections use HTTP/1.1 so that concurrent requests are spread over several connections, as independent users
+ * would be, instead of being multiplexed over one HTTP/2 connection.
+ */
+public class JdkHttpTransport implements LoadTransport {
+    public static final String NAME = "jdk";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static volatile JdkHttpTransport shared;
+
+    private final HttpClient client;
+    private final ConcurrentHashMap<String, URI> uriCache = new ConcurrentHashMap<>();
+
+    public JdkHttpTransport() {
+        this(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build());
+    }
+
+    public JdkHttpTransport(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Returns a process-wide instance, so consecutive runs reuse the same connection pool.
+     */
+    public static JdkHttpTransport shared() {
+        if (shared == null) {
+            synchronized (JdkHttpTransport.class) {
+                if (shared == null) {
+                    shared = new JdkHttpTransport();
+                }
+            }
+        }
+        return shared;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public TransportResponse send(TransportRequest request) throws Exception {
+        HttpResponse<byte[]> response = client.send(toHttpRequest(request), HttpResponse.BodyHandlers.ofByteArray());
+        return new TransportResponse(response.statusCode(), response.body());
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+        return client.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> new TransportResponse(response.statusCode(), response.body()));
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (this != shared) {
+            client.close();
+        }
+    }
+
+    private HttpRequest toHttpRequest(TransportRequest request) {
+        HttpRequest.BodyPublisher publisher = request.getBody() == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(request.getBody());
+        return HttpRequest.newBuilder(uriCache.computeIfAbsent(request.getUrl(), URI::create))
+                .header("Content-Type", "application/json")
+                .method(request.getMethod(), publisher)
+                .build();
+    }
+}
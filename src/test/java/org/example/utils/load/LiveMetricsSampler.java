@@ -0,0 +1,232 @@
+package org.example.utils.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Emits throughput, error and latency snapshots at a fixed interval while a load test runs.
+ * <p>
+ * Workers record into an HdrHistogram {@link Recorder} and two {@link LongAdder}s, all of which are wait-free for
+ * writers; the sampler thread swaps the recorder's histogram at each tick, so no worker ever waits on it. Each
+ * snapshot is logged as one line and, if an output file is given, appended to it as JSON Lines or, for a
+ * {@code .csv} file, as CSV.
+ * <p>
+ * With a {@linkplain #resolution(Duration) resolution} finer than the interval, the sampler also keeps a sample per
+ * resolution tick in {@link #getSamples()}, e.g. so that a short run yields enough samples for a statistical test,
+ * while logging and the output file stay at the interval.
+ */
+public class LiveMetricsSampler implements RequestListener, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveMetricsSampler.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Duration interval;
+    private Duration resolution;
+    private final Path output;
+    private final boolean csv;
+    private final Recorder recorder = new Recorder(WorkerStats.HIGHEST_TRACKABLE_MICROS, WorkerStats.SIGNIFICANT_DIGITS);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final List<IntervalSnapshot> snapshots = new ArrayList<>();
+    private final List<IntervalSnapshot> samples = new ArrayList<>();
+    private final Histogram pendingHistogram = WorkerStats.newHistogram();
+    private ScheduledExecutorService scheduler;
+    private BufferedWriter writer;
+    private Histogram tickHistogram;
+    private long ticksPerInterval;
+    private long ticks;
+    private long pendingRequests;
+    private long pendingErrors;
+    private long lastTick;
+    private long lastSnapshot;
+
+    public LiveMetricsSampler(Duration interval) {
+        this(interval, null);
+    }
+
+    /**
+     * @param output file to append snapshots to, or {@code null} to only log them
+     */
+    public LiveMetricsSampler(Duration interval, Path output) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Sampling interval must be positive");
+        }
+        this.interval = interval;
+        this.resolution = interval;
+        this.output = output;
+        this.csv = output != null && output.getFileName().toString().endsWith(".csv");
+    }
+
+    /**
+     * Samples every {@code resolution} into {@link #getSamples()}; must be called before {@link #start()}. A
+     * resolution at or above the interval keeps one sample per snapshot.
+     */
+    public synchronized LiveMetricsSampler resolution(Duration resolution) {
+        if (resolution.isZero() || resolution.isNegative()) {
+            throw new IllegalArgumentException("Sampling resolution must be positive");
+        }
+        this.resolution = resolution.compareTo(interval) < 0 ? resolution : interval;
+        return this;
+    }
+
+    public synchronized LiveMetricsSampler start() {
+        if (scheduler != null) {
+            throw new IllegalStateException("Sampler already started");
+        }
+        try {
+            if (output != null) {
+                if (output.getParent() != null) {
+                    Files.createDirectories(output.getParent());
+                }
+                writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+                if (csv) {
+                    writer.write(IntervalSnapshot.CSV_HEADER);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open live metrics file " + output, e);
+        }
+        lastTick = System.nanoTime();
+        lastSnapshot = lastTick;
+        ticksPerInterval = Math.max(1, interval.toNanos() / resolution.toNanos());
+        recorder.reset();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-metrics-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::tick, resolution.toNanos(), resolution.toNanos(), TimeUnit.NANOSECONDS);
+        return this;
+    }
+
+    @Override
+    public void onRequestComplete(long startNanos, long latencyNanos, int statusCode, boolean failed) {
+        requests.increment();
+        if (failed) {
+            errors.increment();
+        }
+        if (statusCode != 0) {
+            recorder.recordValue(Math.min(Math.max(latencyNanos / 1000, 0), WorkerStats.HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+
+    /**
+     * Returns all snapshots emitted so far, oldest first.
+     */
+    public synchronized List<IntervalSnapshot> getSnapshots() {
+        return List.copyOf(snapshots);
+    }
+
+    /**
+     * Returns one sample per {@linkplain #resolution(Duration) resolution} tick so far, oldest first; the same as
+     * {@link #getSnapshots()} when no finer resolution is set.
+     */
+    public synchronized List<IntervalSnapshot> getSamples() {
+        return List.copyOf(samples);
+    }
+
+    /**
+     * Stops sampling and emits a final snapshot for the partial interval.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = scheduler;
+            scheduler = null;
+        }
+        if (running == null) {
+            return;
+        }
+        // Wait outside the monitor: a tick that is still logging must be able to finish without us holding its lock.
+        running.shutdownNow();
+        try {
+            running.awaitTermination(interval.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            tick();
+            if (ticks % ticksPerInterval != 0) {
+                emit(System.nanoTime());
+            }
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to close live metrics file {}", output, e);
+                }
+                writer = null;
+            }
+        }
+    }
+
+    private synchronized void tick() {
+        long now = System.nanoTime();
+        tickHistogram = recorder.getIntervalHistogram(tickHistogram);
+        long tickRequests = requests.sumThenReset();
+        long tickErrors = errors.sumThenReset();
+        samples.add(snapshotOf(tickHistogram, tickRequests, tickErrors, now - lastTick));
+        lastTick = now;
+
+        pendingHistogram.add(tickHistogram);
+        pendingRequests += tickRequests;
+        pendingErrors += tickErrors;
+        if (++ticks % ticksPerInterval == 0) {
+            emit(now);
+        }
+    }
+
+    private void emit(long now) {
+        IntervalSnapshot snapshot = snapshotOf(pendingHistogram, pendingRequests, pendingErrors, now - lastSnapshot);
+        pendingHistogram.reset();
+        pendingRequests = 0;
+        pendingErrors = 0;
+        lastSnapshot = now;
+        snapshots.add(snapshot);
+
+        LOGGER.info("Live: {}", snapshot);
+        if (writer != null) {
+            try {
+                writer.write(csv ? snapshot.toCsv() : OBJECT_MAPPER.writeValueAsString(snapshot));
+                writer.newLine();
+                writer.flush();
+            } catch (JsonProcessingException e) {
+                LOGGER.warn("Failed to serialize live metrics snapshot", e);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to write live metrics to {}", output, e);
+            }
+        }
+    }
+
+    private static IntervalSnapshot snapshotOf(Histogram histogram, long requests, long errors, long elapsedNanos) {
+        boolean empty = histogram.getTotalCount() == 0;
+        return new IntervalSnapshot(
+                System.currentTimeMillis(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                requests,
+                errors,
+                empty ? 0 : histogram.getValueAtPercentile(50.0),
+                empty ? 0 : histogram.getValueAtPercentile(90.0),
+                empty ? 0 : histogram.getValueAtPercentile(99.0),
+                empty ? 0 : histogram.getMaxValue());
+    }
+}
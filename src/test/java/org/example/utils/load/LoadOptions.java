@@ -0,0 +1,120 @@
+package org.example.utils.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Optional settings for a load run. Anything not set explicitly falls back to the matching system property.
+ */
+public class LoadOptions {
+    public static final String AWAIT_TIMEOUT_PROPERTY = "load.awaitTimeoutSecs";
+    private static final long DEFAULT_AWAIT_TIMEOUT_SECS = 60;
+
+    private ExecutionMode executionMode;
+    private LoadTransport transport;
+    private Duration awaitTimeout;
+    private BodySource bodySource;
+    private ResponseValidator validator;
+    private double validationSampleRate = 1.0;
+    private final List<RequestListener> listeners = new ArrayList<>();
+
+    public static LoadOptions defaults() {
+        return new LoadOptions();
+    }
+
+    public LoadOptions executionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        return this;
+    }
+
+    public LoadOptions transport(LoadTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    /**
+     * Sets how long a run waits for outstanding requests once all of them have been sent. A run that is cut off by
+     * this timeout is reported as unsuccessful.
+     */
+    public LoadOptions awaitTimeout(Duration awaitTimeout) {
+        if (awaitTimeout.isNegative() || awaitTimeout.isZero()) {
+            throw new IllegalArgumentException("Await timeout must be positive");
+        }
+        this.awaitTimeout = awaitTimeout;
+        return this;
+    }
+
+    /**
+     * Sends bodies from {@code bodySource}, typically a {@link BodyCorpus}, instead of the run's
+     * {@code Supplier<String>}.
+     */
+    public LoadOptions bodySource(BodySource bodySource) {
+        this.bodySource = bodySource;
+        return this;
+    }
+
+    /**
+     * Checks the body of responses that have the expected status with {@code validator}: every response when
+     * {@code sampleRate} is 1, otherwise a random share of them, e.g. 0.01 for one in a hundred. Responses that fail
+     * the check count as failed requests.
+     */
+    public LoadOptions validator(ResponseValidator validator, double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Validation sample rate must be between 0 and 1");
+        }
+        this.validator = validator;
+        this.validationSampleRate = sampleRate;
+        return this;
+    }
+
+    /**
+     * Adds a listener that is told about every completed request, e.g. a {@link LiveMetricsSampler}.
+     */
+    public LoadOptions listener(RequestListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode != null ? executionMode : ExecutionMode.fromSystemProperty();
+    }
+
+    public LoadTransport getTransport() {
+        return transport != null ? transport : LoadTransport.fromSystemProperty();
+    }
+
+    public Duration getAwaitTimeout() {
+        return awaitTimeout != null ? awaitTimeout
+                : Duration.ofSeconds(Long.getLong(AWAIT_TIMEOUT_PROPERTY, DEFAULT_AWAIT_TIMEOUT_SECS));
+    }
+
+    /**
+     * Returns the body source set on these options, or one that calls {@code fallback} for every request.
+     */
+    public BodySource getBodySource(Supplier<String> fallback) {
+        if (bodySource != null) {
+            return bodySource;
+        }
+        if (fallback == null) {
+            throw new IllegalArgumentException("Either a body source or a request body supplier is required");
+        }
+        return BodySource.fromSupplier(fallback);
+    }
+
+    /**
+     * Returns the response validator, or {@code null} when only status codes are checked.
+     */
+    public ResponseValidator getValidator() {
+        return validator;
+    }
+
+    public double getValidationSampleRate() {
+        return validationSampleRate;
+    }
+
+    public List<RequestListener> getListeners() {
+        return List.copyOf(listeners);
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.utils.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An ordered sequence of {@link LoadStage}s that {@link LoadProfileScheduler} runs back to back on one executor.
+ * The static factories build the usual shapes; {@link #named} picks one of them by name for Gherkin steps.
+ */
+public class LoadProfile {
+    public static final int DEFAULT_MAX_CONCURRENCY = 200;
+    private static final int STEP_DOWN_STEPS = 4;
+
+    private final String name;
+    private final List<LoadStage> stages = new ArrayList<>();
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    public LoadProfile(String name) {
+        this.name = name;
+    }
+
+    public LoadProfile stage(LoadStage stage) {
+        stages.add(stage);
+        return this;
+    }
+
+    /**
+     * Caps the number of requests in flight during arrival-rate stages. User stages are bounded by their own target.
+     */
+    public LoadProfile maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Ramps linearly from {@code fromUsers} to {@code toUsers}, then holds the peak.
+     */
+    public static LoadProfile ramp(int fromUsers, int toUsers, Duration rampDuration, Duration holdDuration) {
+        return new LoadProfile("ramp")
+                .stage(LoadStage.rampUsers(fromUsers, toUsers, rampDuration))
+                .stage(LoadStage.users(toUsers, holdDuration));
+    }
+
+    /**
+     * Holds {@code baseUsers}, jumps to {@code peakUsers} for {@code spikeDuration}, then drops back to see whether
+     * the server recovers.
+     */
+    public static LoadProfile spike(int baseUsers, int peakUsers, Duration baseDuration, Duration spikeDuration) {
+        return new LoadProfile("spike")
+                .stage(LoadStage.users(baseUsers, baseDuration))
+                .stage(LoadStage.users(peakUsers, spikeDuration))
+                .stage(LoadStage.users(baseUsers, baseDuration));
+    }
+
+    /**
+     * Ramps up to {@code users} and holds them for a long time, to expose leaks and slow degradation.
+     */
+    public static LoadProfile soak(int users, Duration rampDuration, Duration holdDuration) {
+        return new LoadProfile("soak")
+                .stage(LoadStage.rampUsers(1, users, rampDuration))
+                .stage(LoadStage.users(users, holdDuration));
+    }
+
+    /**
+     * Starts at {@code fromUsers} and drops to {@code toUsers} in equal steps, to check that latency recovers as
+     * load is removed.
+     */
+    public static LoadProfile stepDown(int fromUsers, int toUsers, int steps, Duration stepDuration) {
+        if (steps < 2) {
+            throw new IllegalArgumentException("A step-down profile needs at least two steps");
+        }
+        LoadProfile profile = new LoadProfile("step-down");
+        for (int i = 0; i < steps; i++) {
+            profile.stage(LoadStage.users(fromUsers + (toUsers - fromUsers) * i / (steps - 1), stepDuration));
+        }
+        return profile;
+    }
+
+    /**
+     * Builds the profile called {@code name} ({@code ramp}, {@code spike}, {@code soak} or {@code step-down})
+     * between {@code fromUsers} and {@code toUsers}, spread over {@code totalDuration}.
+     */
+    public static LoadProfile named(String name, int fromUsers, int toUsers, Duration totalDuration) {
+        return switch (name.trim().toLowerCase()) {
+            case "ramp" -> ramp(fromUsers, toUsers, totalDuration.dividedBy(2),
+                    totalDuration.minus(totalDuration.dividedBy(2)));
+            case "spike" -> spike(fromUsers, toUsers, totalDuration.multipliedBy(2).dividedBy(5),
+                    totalDuration.dividedBy(5));
+            case "soak" -> soak(toUsers, totalDuration.dividedBy(10),
+                    totalDuration.minus(totalDuration.dividedBy(10)));
+            case "step-down" -> stepDown(fromUsers, toUsers, STEP_DOWN_STEPS, totalDuration.dividedBy(STEP_DOWN_STEPS));
+            default -> throw new IllegalArgumentException("Unknown load profile: " + name);
+        };
+    }
+
+    /**
+     * Returns the share of this profile that worker {@code index} of {@code count} runs. User counts, rates and the
+     * concurrency cap are split as evenly as possible, so the slices add up to the whole profile.
+     */
+    public LoadProfile slice(int index, int count) {
+        if (count <= 0 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid slice " + index + " of " + count);
+        }
+        LoadProfile slice = new LoadProfile(name).maxConcurrency(Math.max(share(maxConcurrency, index, count), 1));
+        for (LoadStage stage : stages) {
+            slice.stage(new LoadStage(stage.getKind(), share(stage.getFrom(), index, count),
+                    share(stage.getTo(), index, count), stage.getDuration(), stage.getShape()));
+        }
+        return slice;
+    }
+
+    private static int share(int total, int index, int count) {
+        return total / count + (index < total % count ? 1 : 0);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<LoadStage> getStages() {
+        return List.copyOf(stages);
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the highest user count of any user stage.
+     */
+    public int getPeakUsers() {
+        return stages.stream()
+                .filter(stage -> stage.getKind() == LoadStage.Kind.USERS)
+                .mapToInt(LoadStage::getPeak)
+                .max()
+                .orElse(0);
+    }
+
+    public boolean hasArrivalRateStages() {
+        return stages.stream().anyMatch(stage -> stage.getKind() == LoadStage.Kind.ARRIVAL_RATE);
+    }
+
+    public Duration getTotalDuration() {
+        return stages.stream().map(LoadStage::getDuration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + stages;
+    }
+}
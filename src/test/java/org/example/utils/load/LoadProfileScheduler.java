@@ -0,0 +1,247 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.RestApiLoadUtils.ProfileResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Runs the stages of a {@link LoadProfile} back to back on a single executor, so workers carry over from one stage
+ * to the next instead of being torn down and recreated.
+ * <p>
+ * The calling thread acts as the controller. During a user stage it adjusts the target user count every
+ * {@link #CONTROL_INTERVAL_NANOS}; each user is a worker slot that keeps sending requests while its index is below
+ * the target and exits once the target drops below it. During an arrival-rate stage the controller starts requests
+ * at the stage's current rate, as {@link RestApiLoadUtils#runConstantArrivalRateTest} does. Once the last stage ends,
+ * outstanding requests get {@link LoadOptions#getAwaitTimeout()} to finish.
+ */
+public class LoadProfileScheduler {
+    static final long CONTROL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long DRAIN_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int WORKER_SHUTDOWN_TIMEOUT = 5; // seconds
+    private static final Logger logger = LoggerFactory.getLogger(LoadProfileScheduler.class);
+
+    private final RequestRunner runner;
+    private final LoadOptions options;
+
+    private final AtomicInteger targetUsers = new AtomicInteger();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicReference<StatsCollector> currentStage = new AtomicReference<>();
+    private volatile boolean stopped;
+
+    public LoadProfileScheduler(String url, Supplier<String> requestBodySupplier, int expectedStatusCode,
+                                LoadOptions options) {
+        this.options = options;
+        this.runner = new RequestRunner(options.getTransport(), url, options.getBodySource(requestBodySupplier),
+                expectedStatusCode, options.getListeners())
+                .validateWith(options.getValidator(), options.getValidationSampleRate());
+    }
+
+    public ProfileResult run(LoadProfile profile) {
+        List<LoadStage> stages = profile.getStages();
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("Load profile has no stages");
+        }
+
+        ExecutionMode executionMode = options.getExecutionMode();
+        LoadTransport transport = runner.getTransport();
+        boolean asyncRate = transport.isNonBlocking() && profile.hasArrivalRateStages();
+        int peakUsers = profile.getPeakUsers();
+        int workerCount = Math.max(peakUsers + (profile.hasArrivalRateStages() ? profile.getMaxConcurrency() : 0), 1);
+        transport.prepare(workerCount);
+        ExecutorService executor = executionMode.newExecutor(workerCount);
+        AtomicIntegerArray userSlots = new AtomicIntegerArray(Math.max(peakUsers, 1));
+        // Scheduled requests are numbered after the users, so the two kinds of worker never share an index
+        ConcurrencySlots concurrencyLimit = new ConcurrencySlots(profile.getMaxConcurrency());
+
+        List<StatsCollector> collectors = new ArrayList<>();
+        long[] stageElapsed = new long[stages.size()];
+        long[] stageCpu = new long[stages.size()];
+        boolean drained = false;
+        long runStart = System.nanoTime();
+        long cpuStart = RestApiLoadUtils.processCpuTimeNanos();
+
+        logger.info("Starting load profile {} ({} s in total).", profile, profile.getTotalDuration().toSeconds());
+        try {
+            for (int i = 0; i < stages.size(); i++) {
+                LoadStage stage = stages.get(i);
+                // Completions of async requests run on the transport's threads, which are not bounded by workerCount
+                StatsCollector collector = asyncRate
+                        ? new StripedStatsCollector(Runtime.getRuntime().availableProcessors() * 4)
+                        : executionMode.newStatsCollector(workerCount);
+                collectors.add(collector);
+                currentStage.set(collector);
+
+                logger.info("Starting stage {} of {}: {}", i + 1, stages.size(), stage);
+                long stageStart = System.nanoTime();
+                long stageCpuStart = RestApiLoadUtils.processCpuTimeNanos();
+                if (stage.getKind() == LoadStage.Kind.USERS) {
+                    runUserStage(stage, stageStart, executor, userSlots);
+                } else {
+                    targetUsers.set(0);
+                    runArrivalRateStage(stage, stageStart, executor, concurrencyLimit, peakUsers, asyncRate);
+                }
+                stageElapsed[i] = System.nanoTime() - stageStart;
+                stageCpu[i] = RestApiLoadUtils.processCpuTimeNanos() - stageCpuStart;
+            }
+            targetUsers.set(0);
+            drained = awaitOutstanding();
+        } catch (InterruptedException e) {
+            logger.error("Load profile interrupted.", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            stopped = true;
+            targetUsers.set(0);
+            stopWorkers(executor);
+        }
+
+        List<StageResult> stageResults = new ArrayList<>();
+        List<WorkerStats> stageStats = new ArrayList<>();
+        for (int i = 0; i < collectors.size(); i++) {
+            WorkerStats merged = collectors.get(i).merge();
+            stageStats.add(merged);
+            StageResult stageResult = new StageResult(stages.get(i),
+                    new LoadTestResult(merged.getFailures() == 0, merged, transport.name(), stageElapsed[i], stageCpu[i]));
+            stageResults.add(stageResult);
+            logger.info("Completed stage: {}", stageResult);
+        }
+
+        WorkerStats total = WorkerStats.merge(stageStats);
+        boolean completed = drained && collectors.size() == stages.size();
+        return new ProfileResult(completed && total.getFailures() == 0, total, transport.name(),
+                System.nanoTime() - runStart, RestApiLoadUtils.processCpuTimeNanos() - cpuStart,
+                profile.getName(), stageResults);
+    }
+
+    private void runUserStage(LoadStage stage, long stageStart, ExecutorService executor,
+                              AtomicIntegerArray userSlots) throws InterruptedException {
+        long stageEnd = stageStart + stage.getDuration().toNanos();
+        long now;
+        while ((now = System.nanoTime()) < stageEnd) {
+            int target = (int) Math.round(stage.targetAt(now - stageStart));
+            targetUsers.set(target);
+            for (int slot = 0; slot < target; slot++) {
+                // A slot whose worker is still exiting is picked up again on the next tick
+                if (userSlots.compareAndSet(slot, 0, 1)) {
+                    startUser(slot, executor, userSlots);
+                }
+            }
+            parkUntil(Math.min(now + CONTROL_INTERVAL_NANOS, stageEnd));
+        }
+    }
+
+    private void startUser(int slot, ExecutorService executor, AtomicIntegerArray userSlots) {
+        outstanding.incrementAndGet();
+        executor.submit(() -> {
+            try {
+                while (!stopped && slot < targetUsers.get()) {
+                    long startTime = System.nanoTime();
+                    runner.execute(slot, startTime, currentStage.get().forCurrentThread());
+                }
+            } finally {
+                userSlots.set(slot, 0);
+                outstanding.decrementAndGet();
+            }
+        });
+    }
+
+    private void runArrivalRateStage(LoadStage stage, long stageStart, ExecutorService executor,
+                                     ConcurrencySlots concurrencyLimit, int firstSlot, boolean async) throws InterruptedException {
+        long stageEnd = stageStart + stage.getDuration().toNanos();
+        StatsCollector collector = currentStage.get();
+        long intendedStart = stageStart;
+        while (intendedStart < stageEnd) {
+            parkUntil(intendedStart);
+            double rate = stage.targetAt(intendedStart - stageStart);
+            if (rate <= 0) {
+                intendedStart += CONTROL_INTERVAL_NANOS;
+                continue;
+            }
+            startScheduledRequest(intendedStart, collector, executor, concurrencyLimit, firstSlot, async);
+            intendedStart += (long) (1_000_000_000L / rate);
+        }
+        // Hold the stage for its full duration even when the last request was scheduled before its end
+        parkUntil(stageEnd);
+    }
+
+    private void startScheduledRequest(long intendedStart, StatsCollector collector, ExecutorService executor,
+                                       ConcurrencySlots concurrencyLimit, int firstSlot, boolean async)
+            throws InterruptedException {
+        outstanding.incrementAndGet();
+        if (async) {
+            int slot = concurrencyLimit.acquire();
+            runner.executeAsync(firstSlot + slot, intendedStart, collector, () -> {
+                concurrencyLimit.release(slot);
+                outstanding.decrementAndGet();
+            });
+            return;
+        }
+
+        executor.submit(() -> {
+            int slot;
+            try {
+                slot = concurrencyLimit.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outstanding.decrementAndGet();
+                return;
+            }
+            StatsRecorder stats = collector.forCurrentThread();
+            long actualStart = System.nanoTime();
+            long scheduleLag = actualStart - intendedStart;
+            stats.recordScheduleLag(scheduleLag, scheduleLag > RequestRunner.SCHEDULE_LAG_TOLERANCE_NANOS);
+            try {
+                runner.execute(firstSlot + slot, intendedStart, stats);
+                stats.recordServiceTime(System.nanoTime() - actualStart);
+            } finally {
+                concurrencyLimit.release(slot);
+                outstanding.decrementAndGet();
+            }
+        });
+    }
+
+    private boolean awaitOutstanding() throws InterruptedException {
+        long deadline = System.nanoTime() + options.getAwaitTimeout().toNanos();
+        while (outstanding.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                logger.warn("Load profile cut off with {} requests or users outstanding; raise -D{} for slower servers.",
+                        outstanding.get(), LoadOptions.AWAIT_TIMEOUT_PROPERTY);
+                return false;
+            }
+            parkUntil(System.nanoTime() + DRAIN_POLL_NANOS);
+        }
+        return true;
+    }
+
+    private static void parkUntil(long deadlineNanos) throws InterruptedException {
+        long wait;
+        while ((wait = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private static void stopWorkers(ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(WORKER_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                logger.warn("Some load profile workers are still running; their last requests may be missing from the result.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
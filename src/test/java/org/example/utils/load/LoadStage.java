@@ -0,0 +1,102 @@
+package org.example.utils.load;
+
+import java.time.Duration;
+
+/**
+ * One stage of a {@link LoadProfile}: a target number of concurrent users or a target arrival rate, held or
+ * ramped for a fixed duration.
+ */
+public class LoadStage {
+
+    public enum Kind {
+        /** Closed loop: each user sends its next request as soon as the previous one is answered. */
+        USERS,
+        /** Open loop: requests are started at the target rate regardless of how fast the server answers. */
+        ARRIVAL_RATE
+    }
+
+    public enum Shape {
+        /** Jumps to the end target when the stage starts and holds it. */
+        STEP,
+        /** Moves from the start target to the end target in a straight line over the stage. */
+        LINEAR
+    }
+
+    private final Kind kind;
+    private final int from;
+    private final int to;
+    private final Duration duration;
+    private final Shape shape;
+
+    public LoadStage(Kind kind, int from, int to, Duration duration, Shape shape) {
+        if (from < 0 || to < 0) {
+            throw new IllegalArgumentException("Stage targets must not be negative");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Stage duration must be positive");
+        }
+        this.kind = kind;
+        this.from = from;
+        this.to = to;
+        this.duration = duration;
+        this.shape = shape;
+    }
+
+    public static LoadStage users(int users, Duration duration) {
+        return new LoadStage(Kind.USERS, users, users, duration, Shape.STEP);
+    }
+
+    public static LoadStage rampUsers(int from, int to, Duration duration) {
+        return new LoadStage(Kind.USERS, from, to, duration, Shape.LINEAR);
+    }
+
+    public static LoadStage rate(int requestsPerSecond, Duration duration) {
+        return new LoadStage(Kind.ARRIVAL_RATE, requestsPerSecond, requestsPerSecond, duration, Shape.STEP);
+    }
+
+    public static LoadStage rampRate(int fromRequestsPerSecond, int toRequestsPerSecond, Duration duration) {
+        return new LoadStage(Kind.ARRIVAL_RATE, fromRequestsPerSecond, toRequestsPerSecond, duration, Shape.LINEAR);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    /**
+     * Returns the target (users or requests per second) {@code elapsedNanos} after the stage started.
+     */
+    public double targetAt(long elapsedNanos) {
+        if (shape == Shape.STEP) {
+            return to;
+        }
+        double progress = Math.min(Math.max((double) elapsedNanos / duration.toNanos(), 0), 1);
+        return from + (to - from) * progress;
+    }
+
+    public int getPeak() {
+        return Math.max(from, to);
+    }
+
+    @Override
+    public String toString() {
+        String unit = kind == Kind.USERS ? "users" : "req/s";
+        String target = from == to || shape == Shape.STEP ? String.valueOf(to) : from + "->" + to;
+        return String.format("%s %s for %d s", target, unit, duration.toSeconds());
+    }
+}
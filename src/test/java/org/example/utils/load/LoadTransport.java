@@ -0,0 +1,70 @@
+package org.example.utils.load;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Sends the HTTP requests issued by the load engine.
+ */
+public interface LoadTransport extends AutoCloseable {
+    String SYSTEM_PROPERTY = "load.transport";
+
+    String name();
+
+    /**
+     * Sends the request and blocks until the response has been read.
+     */
+    TransportResponse send(TransportRequest request) throws Exception;
+
+    /**
+     * Sends the request without blocking the caller. The default implementation only wraps {@link #send}.
+     */
+    default CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return send(request);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Whether {@link #sendAsync} is natively non-blocking, so callers do not need a thread per in-flight request.
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
+
+    /**
+     * Called before a run with the most requests that will be in flight at once, so a pooling transport can size its
+     * connection pool. The default does nothing.
+     */
+    default void prepare(int concurrency) {
+    }
+
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Returns the shared transport selected with {@code -Dload.transport=restassured|jdk}, defaulting to RestAssured.
+     */
+    static LoadTransport fromSystemProperty() {
+        return forName(System.getProperty(SYSTEM_PROPERTY, RestAssuredTransport.NAME));
+    }
+
+    /**
+     * Returns the shared transport with the given {@link #name()}.
+     */
+    static LoadTransport forName(String name) {
+        String value = name.trim();
+        if (RestAssuredTransport.NAME.equalsIgnoreCase(value)) {
+            return RestAssuredTransport.INSTANCE;
+        }
+        if (JdkHttpTransport.NAME.equalsIgnoreCase(value)) {
+            return JdkHttpTransport.shared();
+        }
+        throw new IllegalArgumentException("Invalid load transport: " + value);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.utils.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets at most {@code permitsPerSecond} log statements through per second and counts the ones it holds back, so a
+ * failing server produces a steady trickle of sample log lines instead of one line per request.
+ * <p>
+ * All state is atomic, so workers never block each other; the one-second window is reset by whichever worker first
+ * notices it has expired.
+ */
+public class LogSampler {
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int permitsPerSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger permitsUsed = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(int permitsPerSecond) {
+        if (permitsPerSecond < 0) {
+            throw new IllegalArgumentException("Permits per second must not be negative");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Returns whether the caller may log now; if not, the statement is counted as suppressed.
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            permitsUsed.set(0);
+        }
+        if (permitsUsed.incrementAndGet() <= permitsPerSecond) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+
+    /**
+     * Returns how many statements were suppressed since the last call, and resets the count.
+     */
+    public long takeSuppressed() {
+        return suppressed.sumThenReset();
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+
+/**
+ * Outcome of one {@link WorkloadOperation} within a mixed workload run.
+ */
+public class OperationResult {
+    private final WorkloadOperation operation;
+    private final LoadTestResult result;
+
+    public OperationResult(WorkloadOperation operation, LoadTestResult result) {
+        this.operation = operation;
+        this.result = result;
+    }
+
+    public WorkloadOperation getOperation() {
+        return operation;
+    }
+
+    public LoadTestResult getResult() {
+        return result;
+    }
+
+    public double getThroughput() {
+        return result.requestsPerSecond();
+    }
+
+    public double getErrorRate() {
+        return result.totalRequests == 0 ? 0 : (double) result.failedRequests / result.totalRequests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s %8d requests %10.1f req/s  p50=%8.2f ms  p99=%8.2f ms  errors=%6.2f%%",
+                operation.getName(), result.totalRequests, getThroughput(), result.p50Micros / 1000.0,
+                result.p99Micros / 1000.0, getErrorRate() * 100);
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.utils.load;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Gives every worker its own unsynchronized {@link WorkerStats}. This is the cheapest option per request,
+ * but each instance carries a full histogram, so it is meant for a bounded number of platform threads.
+ */
+public class PerWorkerStatsCollector implements StatsCollector {
+    private final Queue<WorkerStats> workers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<WorkerStats> threadStats = ThreadLocal.withInitial(this::register);
+
+    @Override
+    public StatsRecorder forWorker(int workerIndex) {
+        return register();
+    }
+
+    @Override
+    public StatsRecorder forCurrentThread() {
+        return threadStats.get();
+    }
+
+    @Override
+    public WorkerStats merge() {
+        return WorkerStats.merge(workers);
+    }
+
+    private WorkerStats register() {
+        WorkerStats stats = new WorkerStats();
+        workers.add(stats);
+        return stats;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.utils.load;
+
+/**
+ * Observes every request the load engine completes. Implementations are called concurrently from all workers
+ * on the hot path, so they must be thread-safe and must not block.
+ */
+public interface RequestListener {
+
+    /**
+     * @param startNanos   {@link System#nanoTime()} at which the request was meant to start
+     * @param latencyNanos time from {@code startNanos} until the response was read, or until the request failed
+     * @param statusCode   HTTP status, or 0 when no response was received
+     * @param failed       whether the request counts as failed
+     */
+    void onRequestComplete(long startNanos, long latencyNanos, int statusCode, boolean failed);
+
+    /**
+     * Variant that also receives the index of the {@link WorkloadOperation} the request belonged to, or 0 outside
+     * mixed workloads. Override it to tell operations apart.
+     */
+    default void onRequestComplete(int operation, long startNanos, long latencyNanos, int statusCode, boolean failed) {
+        onRequestComplete(startNanos, latencyNanos, statusCode, failed);
+    }
+
+    /**
+     * Variant that also receives the worker that sent the request: the user index in closed-loop runs and user
+     * stages, and the {@link ConcurrencySlots} slot of a scheduled request in open-loop runs. The index stays the
+     * same whichever {@link ExecutionMode} runs the workers. The engine calls this one.
+     */
+    default void onRequestComplete(int worker, int operation, long startNanos, long latencyNanos, int statusCode,
+                                   boolean failed) {
+        onRequestComplete(operation, startNanos, latencyNanos, statusCode, failed);
+    }
+}
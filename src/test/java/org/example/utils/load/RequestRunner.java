@@ -0,0 +1,173 @@
+package org.example.utils.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends one load request through a {@link LoadTransport} and records its outcome in the worker's
+ * {@link StatsRecorder} and in every registered {@link RequestListener}.
+ * <p>
+ * Failures are counted per status code and exception class in the recorder; only a sample of them is logged, at
+ * most {@code -Dload.errorLogsPerSecond} (default 5) per second, and successes are not logged at all.
+ */
+public class RequestRunner {
+    public static final long SCHEDULE_LAG_TOLERANCE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    public static final String ERROR_LOGS_PER_SECOND_PROPERTY = "load.errorLogsPerSecond";
+    private static final Logger logger = LoggerFactory.getLogger(RequestRunner.class);
+
+    private final LoadTransport transport;
+    private final Supplier<TransportRequest> requests;
+    private final int expectedStatusCode;
+    private final RequestListener[] listeners;
+    private int operation;
+    private ResponseValidator validator;
+    private double validationSampleRate;
+    private final LogSampler errorLogSampler = new LogSampler(Integer.getInteger(ERROR_LOGS_PER_SECOND_PROPERTY, 5));
+
+    public RequestRunner(LoadTransport transport, String url, BodySource bodySource,
+                         int expectedStatusCode, List<RequestListener> listeners) {
+        this(transport, () -> TransportRequest.post(url, bodySource.next()), expectedStatusCode, listeners);
+    }
+
+    /**
+     * @param requests builds each request to send, e.g. {@link WorkloadOperation#newRequest()}
+     */
+    public RequestRunner(LoadTransport transport, Supplier<TransportRequest> requests,
+                         int expectedStatusCode, List<RequestListener> listeners) {
+        this.transport = transport;
+        this.requests = requests;
+        this.expectedStatusCode = expectedStatusCode;
+        this.listeners = listeners.toArray(new RequestListener[0]);
+    }
+
+    /**
+     * Checks the bodies of a {@code sampleRate} share of the responses that have the expected status with
+     * {@code validator}; {@code null} disables body checks. Must be called before the runner is used.
+     */
+    public RequestRunner validateWith(ResponseValidator validator, double sampleRate) {
+        this.validator = validator;
+        this.validationSampleRate = sampleRate;
+        return this;
+    }
+
+    /**
+     * Sets the workload operation index reported to listeners. Must be called before the runner is used.
+     */
+    public RequestRunner operation(int operation) {
+        this.operation = operation;
+        return this;
+    }
+
+    public LoadTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sends the request on the calling thread; latency is measured from {@code startNanos}.
+     *
+     * @param worker the user or concurrency slot sending the request, as reported to listeners
+     */
+    public void execute(int worker, long startNanos, StatsRecorder stats) {
+        try {
+            TransportRequest request = requests.get();
+            TransportResponse response = transport.send(request);
+            recordResponse(worker, request, response, startNanos, System.nanoTime() - startNanos, stats);
+        } catch (Exception e) {
+            recordError(worker, e, startNanos, System.nanoTime() - startNanos, stats);
+        }
+    }
+
+    /**
+     * Sends the request without blocking. Statistics are recorded on the thread that completes the response, so
+     * {@code statsCollector} must hand out recorders that are safe for such threads.
+     */
+    public void executeAsync(int worker, long intendedStartNanos, StatsCollector statsCollector, Runnable onComplete) {
+        long actualStart = System.nanoTime();
+        long scheduleLag = actualStart - intendedStartNanos;
+        TransportRequest request = null;
+        CompletableFuture<TransportResponse> future;
+        try {
+            request = requests.get();
+            future = transport.sendAsync(request);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        TransportRequest sent = request;
+        future.whenComplete((response, error) -> {
+            StatsRecorder stats = statsCollector.forCurrentThread();
+            long end = System.nanoTime();
+            stats.recordScheduleLag(scheduleLag, scheduleLag > SCHEDULE_LAG_TOLERANCE_NANOS);
+            try {
+                if (error != null) {
+                    recordError(worker, error, intendedStartNanos, end - intendedStartNanos, stats);
+                } else {
+                    recordResponse(worker, sent, response, intendedStartNanos, end - intendedStartNanos, stats);
+                    stats.recordServiceTime(end - actualStart);
+                }
+            } finally {
+                onComplete.run();
+            }
+        });
+    }
+
+    private void recordResponse(int worker, TransportRequest request, TransportResponse response, long startNanos,
+                                long responseTime, StatsRecorder stats) {
+        int statusCode = response.getStatusCode();
+        boolean failed = statusCode != expectedStatusCode;
+        String invalidBody = failed ? null : validate(request, response);
+        if (invalidBody != null) {
+            stats.recordInvalidBody(responseTime);
+        } else {
+            stats.recordResponse(responseTime, statusCode, failed);
+        }
+        notifyListeners(worker, startNanos, responseTime, statusCode, failed || invalidBody != null);
+
+        if (failed && errorLogSampler.tryAcquire()) {
+            logger.error("Request failed with status code: {}, Expected: {}, Response Time: {} ms ({} similar log lines suppressed)",
+                    statusCode, expectedStatusCode, responseTime / 1_000_000, errorLogSampler.takeSuppressed());
+        } else if (invalidBody != null && errorLogSampler.tryAcquire()) {
+            logger.error("Invalid response body from {} {}: {} ({} similar log lines suppressed)", request.getMethod(),
+                    request.getUrl(), invalidBody, errorLogSampler.takeSuppressed());
+        }
+    }
+
+    /**
+     * Runs the validator on this response if it is sampled, and returns what is wrong with the body or {@code null}.
+     */
+    private String validate(TransportRequest request, TransportResponse response) {
+        if (validator == null || (validationSampleRate < 1.0
+                && ThreadLocalRandom.current().nextDouble() >= validationSampleRate)) {
+            return null;
+        }
+        try {
+            return validator.validate(request, response.getBody() == null ? new byte[0] : response.getBody());
+        } catch (IOException e) {
+            return "malformed JSON: " + (e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage());
+        }
+    }
+
+    private void recordError(int worker, Throwable error, long startNanos, long elapsed, StatsRecorder stats) {
+        stats.recordError(error);
+        notifyListeners(worker, startNanos, elapsed, 0, true);
+
+        if (errorLogSampler.tryAcquire()) {
+            Throwable cause = ErrorCounts.unwrap(error);
+            logger.error("Request failed due to an error: {} ({} similar log lines suppressed)", cause.getMessage(),
+                    errorLogSampler.takeSuppressed(), cause);
+        }
+    }
+
+    private void notifyListeners(int worker, long startNanos, long latencyNanos, int statusCode, boolean failed) {
+        for (RequestListener listener : listeners) {
+            listener.onRequestComplete(worker, operation, startNanos, latencyNanos, statusCode, failed);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.utils.load;
+
+import java.io.IOException;
+
+/**
+ * Checks the body of a load response beyond its status code. Implementations must be thread-safe, since all workers
+ * of a run share one instance; {@link ResponseValidators} builds the common checks on Jackson's streaming parser.
+ */
+@FunctionalInterface
+public interface ResponseValidator {
+
+    /**
+     * Returns {@code null} when {@code responseBody} is acceptable for {@code request}, otherwise a short description
+     * of what is wrong. Descriptions are used as log messages, so they should not repeat the whole body.
+     */
+    String validate(TransportRequest request, byte[] responseBody) throws IOException;
+}
@@ -0,0 +1,232 @@
+package org.example.utils.load;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.utils.PooledJsonFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Common {@link ResponseValidator}s, evaluated with Jackson's streaming parser straight from the response bytes.
+ * <p>
+ * No check builds a String of the body or binds it to a POJO: the parser walks the tokens, skips everything that is
+ * not being checked and stops as soon as the answer is known. Each check creates its parser from a
+ * {@link PooledJsonFactory}, so the parser's buffers are reused whichever thread runs the check, including the
+ * virtual thread started per request in open-loop runs.
+ */
+public class ResponseValidators {
+    private static final JsonFactory JSON_FACTORY = new PooledJsonFactory();
+
+    /**
+     * The body is a JSON object whose top-level {@code field} is the number {@code expected}.
+     */
+    public static ResponseValidator fieldEquals(String field, long expected) {
+        return (request, body) -> {
+            try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+                JsonToken token = findField(parser, field);
+                if (token == null) {
+                    return "field " + field + " missing";
+                }
+                if (token != JsonToken.VALUE_NUMBER_INT || parser.getLongValue() != expected) {
+                    return "field " + field + " is " + parser.getText() + ", expected " + expected;
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * The body is a JSON object whose top-level {@code field} is the string or scalar {@code expected}.
+     */
+    public static ResponseValidator fieldEquals(String field, String expected) {
+        return (request, body) -> {
+            try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+                JsonToken token = findField(parser, field);
+                if (token == null) {
+                    return "field " + field + " missing";
+                }
+                if (!token.isScalarValue() || !textEquals(parser, expected)) {
+                    return "field " + field + " is " + parser.getText() + ", expected " + expected;
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * The top-level {@code field} of the response has the same value as in the request body, e.g. a created
+     * activity echoes the posted {@code id}. Requests without a body, or without the field, are not checked. Both
+     * bodies are parsed per check; see {@link #fieldMatchesRequest(String, BodySource)} to read request bodies once.
+     */
+    public static ResponseValidator fieldMatchesRequest(String field) {
+        return fieldMatchesRequest(field, null);
+    }
+
+    /**
+     * Like {@link #fieldMatchesRequest(String)}, but when {@code bodies} is a {@link BodyCorpus} the expected value
+     * of every body in it is read up front, so per check only the response is parsed. Bodies from anywhere else,
+     * such as a per-request supplier, are parsed per check, since they are never seen twice.
+     */
+    public static ResponseValidator fieldMatchesRequest(String field, BodySource bodies) {
+        // Keyed by the body array itself, which is what the corpus hands out; read-only once built
+        Map<byte[], Expected> expectedByBody = new IdentityHashMap<>();
+        if (bodies instanceof BodyCorpus corpus) {
+            for (int i = 0; i < corpus.size(); i++) {
+                byte[] requestBody = corpus.body(i);
+                try {
+                    expectedByBody.put(requestBody, Expected.read(requestBody, field));
+                } catch (IOException e) {
+                    // Not JSON; parsed again per check, where it fails the same way
+                }
+            }
+        }
+        return (request, body) -> {
+            byte[] requestBody = request.getBody();
+            if (requestBody == null) {
+                return null;
+            }
+            Expected expected = expectedByBody.get(requestBody);
+            if (expected == null) {
+                expected = Expected.read(requestBody, field);
+            }
+            if (expected == Expected.NONE) {
+                return null;
+            }
+            try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+                JsonToken token = findField(parser, field);
+                if (token == null) {
+                    return "field " + field + " missing, request had " + expected;
+                }
+                if (!expected.matches(parser, token)) {
+                    return "field " + field + " is " + parser.getText() + ", request had " + expected;
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * The body is a JSON array with exactly {@code expected} elements.
+     */
+    public static ResponseValidator arrayLength(int expected) {
+        return (request, body) -> {
+            try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    return "body is not a JSON array";
+                }
+                int length = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    length++;
+                    if (length > expected) {
+                        return "array has more than " + expected + " elements";
+                    }
+                    parser.skipChildren();
+                }
+                return length == expected ? null : "array has " + length + " elements, expected " + expected;
+            }
+        };
+    }
+
+    /**
+     * Every one of {@code validators} passes; reports the first failure.
+     */
+    public static ResponseValidator allOf(ResponseValidator... validators) {
+        List<ResponseValidator> checks = List.copyOf(Arrays.asList(validators));
+        return (request, body) -> {
+            for (ResponseValidator check : checks) {
+                String problem = check.validate(request, body);
+                if (problem != null) {
+                    return problem;
+                }
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Moves {@code parser} to the value of the top-level {@code field} and returns its token, or returns
+     * {@code null} when the body is not an object or has no such field. Other fields are skipped without being
+     * materialized; field names are canonicalized by the parser, so comparing them allocates nothing.
+     */
+    private static JsonToken findField(JsonParser parser, String field) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals(name)) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    /**
+     * Compares the current token's text with {@code expected} in the parser's own buffer, without building a String.
+     */
+    private static boolean textEquals(JsonParser parser, String expected) throws IOException {
+        int length = parser.getTextLength();
+        if (length != expected.length()) {
+            return false;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A scalar read from a request body. Two integers compare by value and anything else by text, which for JSON
+     * integers is the same answer.
+     */
+    private static class Expected {
+        static final Expected NONE = new Expected(null, 0, null);
+
+        final JsonToken token;
+        final long number;
+        final String text;
+
+        private Expected(JsonToken token, long number, String text) {
+            this.token = token;
+            this.number = number;
+            this.text = text;
+        }
+
+        static Expected read(byte[] requestBody, String field) throws IOException {
+            try (JsonParser parser = JSON_FACTORY.createParser(requestBody)) {
+                JsonToken token = findField(parser, field);
+                if (token == null || !token.isScalarValue()) {
+                    return NONE;
+                }
+                if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                    return new Expected(token, parser.getLongValue(), parser.getText());
+                }
+                return new Expected(token, 0, parser.getText());
+            }
+        }
+
+        boolean matches(JsonParser parser, JsonToken actual) throws IOException {
+            if (token == JsonToken.VALUE_NUMBER_INT && actual == JsonToken.VALUE_NUMBER_INT
+                    && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                return parser.getLongValue() == number;
+            }
+            return actual.isScalarValue() && textEquals(parser, text);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
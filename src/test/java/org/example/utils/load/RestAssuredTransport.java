@@ -0,0 +1,40 @@
+package org.example.utils.load;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.example.utils.HttpConnectionPool;
+
+/**
+ * Sends requests through RestAssured's static API, exactly as the functional steps do. Each request builds a full
+ * request specification and response wrapper, which makes this the most expensive transport per request.
+ * Connections come from the {@link HttpConnectionPool#shared() shared pool}, which is sized to the run's concurrency.
+ */
+public class RestAssuredTransport implements LoadTransport {
+    public static final String NAME = "restassured";
+    public static final RestAssuredTransport INSTANCE = new RestAssuredTransport();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void prepare(int concurrency) {
+        HttpConnectionPool.shared().ensureCapacity(concurrency);
+    }
+
+    @Override
+    public TransportResponse send(TransportRequest request) {
+        RequestSpecification specification = RestAssured.given().header("Content-Type", "application/json");
+        if (request.getBody() != null) {
+            specification = specification.body(request.getBody());
+        }
+        Response response = switch (request.getMethod()) {
+            case "GET" -> specification.get(request.getUrl());
+            case "POST" -> specification.post(request.getUrl());
+            default -> specification.request(request.getMethod(), request.getUrl());
+        };
+        return new TransportResponse(response.getStatusCode(), response.asByteArray());
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.utils.load;
+
+import java.util.List;
+
+/**
+ * Finds the knee of a concurrency ramp: the highest step up to which throughput keeps growing with concurrency
+ * and p99 latency stays within a factor of the first step's p99.
+ * <p>
+ * A step "scales" when its throughput grew by at least {@code minScalingEfficiency} times the relative increase in
+ * concurrency over the previous step; with the default of 0.5, going from 10 to 20 users has to raise throughput by
+ * at least 50%. Once a step fails either check, later steps are not considered, even if they recover.
+ */
+public class SaturationAnalyzer {
+    public static final double DEFAULT_LATENCY_FACTOR = 2.0;
+    public static final double DEFAULT_MIN_SCALING_EFFICIENCY = 0.5;
+
+    private final double latencyFactor;
+    private final double minScalingEfficiency;
+
+    public SaturationAnalyzer() {
+        this(DEFAULT_LATENCY_FACTOR, DEFAULT_MIN_SCALING_EFFICIENCY);
+    }
+
+    public SaturationAnalyzer(double latencyFactor, double minScalingEfficiency) {
+        if (latencyFactor < 1.0) {
+            throw new IllegalArgumentException("Latency factor must be at least 1.0");
+        }
+        this.latencyFactor = latencyFactor;
+        this.minScalingEfficiency = minScalingEfficiency;
+    }
+
+    public SaturationPoint analyze(List<StepResult> steps) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("At least one step is required");
+        }
+
+        StepResult baseline = steps.getFirst();
+        long latencyLimit = (long) (Math.max(baseline.getP99Micros(), 1) * latencyFactor);
+        StepResult knee = baseline;
+
+        for (int i = 1; i < steps.size(); i++) {
+            StepResult previous = steps.get(i - 1);
+            StepResult current = steps.get(i);
+
+            if (current.getP99Micros() > latencyLimit) {
+                return new SaturationPoint(knee, current, String.format(
+                        "p99 at %d users is %.2f ms, more than %.1fx the baseline of %.2f ms",
+                        current.getConcurrency(), current.getP99Micros() / 1000.0, latencyFactor,
+                        baseline.getP99Micros() / 1000.0));
+            }
+
+            double concurrencyGrowth = (double) current.getConcurrency() / previous.getConcurrency() - 1;
+            double throughputGrowth = previous.getThroughput() == 0 ? 0 : current.getThroughput() / previous.getThroughput() - 1;
+            if (concurrencyGrowth > 0 && throughputGrowth < concurrencyGrowth * minScalingEfficiency) {
+                return new SaturationPoint(knee, current, String.format(
+                        "throughput grew %.0f%% from %d to %d users, less than %.0f%% of the %.0f%% concurrency increase",
+                        throughputGrowth * 100, previous.getConcurrency(), current.getConcurrency(),
+                        minScalingEfficiency * 100, concurrencyGrowth * 100));
+            }
+            knee = current;
+        }
+
+        return new SaturationPoint(knee, null, "throughput still scaled at the highest tested concurrency");
+    }
+
+    /**
+     * The last step that still scaled and, if the ramp went past it, the first step that did not.
+     */
+    public static class SaturationPoint {
+        private final StepResult knee;
+        private final StepResult firstSaturatedStep;
+        private final String reason;
+
+        public SaturationPoint(StepResult knee, StepResult firstSaturatedStep, String reason) {
+            this.knee = knee;
+            this.firstSaturatedStep = firstSaturatedStep;
+            this.reason = reason;
+        }
+
+        public StepResult getKnee() {
+            return knee;
+        }
+
+        /**
+         * Returns the first step past the knee, or {@code null} when the ramp never saturated.
+         */
+        public StepResult getFirstSaturatedStep() {
+            return firstSaturatedStep;
+        }
+
+        public boolean isSaturated() {
+            return firstSaturatedStep != null;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Knee at %d users (%.1f req/s, p99 %.2f ms): %s", knee.getConcurrency(),
+                    knee.getThroughput(), knee.getP99Micros() / 1000.0, reason);
+        }
+    }
+}
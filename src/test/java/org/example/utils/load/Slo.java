@@ -0,0 +1,82 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+
+import java.time.Duration;
+
+/**
+ * A service level objective for a load run: a latency percentile that must stay below a limit, and a maximum share
+ * of failed requests, e.g. p99 below 300 ms with fewer than 0.1% errors.
+ */
+public class Slo {
+    private final double percentile;
+    private final Duration maxLatency;
+    private final double maxErrorRate;
+
+    /**
+     * @param maxErrorRate the highest acceptable ratio of failed requests, between 0 and 1
+     */
+    public Slo(double percentile, Duration maxLatency, double maxErrorRate) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]");
+        }
+        if (maxLatency.isNegative() || maxLatency.isZero()) {
+            throw new IllegalArgumentException("Latency limit must be positive");
+        }
+        if (maxErrorRate < 0 || maxErrorRate > 1) {
+            throw new IllegalArgumentException("Error rate limit must be between 0 and 1");
+        }
+        this.percentile = percentile;
+        this.maxLatency = maxLatency;
+        this.maxErrorRate = maxErrorRate;
+    }
+
+    public static Slo p99Below(Duration maxLatency, double maxErrorRate) {
+        return new Slo(99.0, maxLatency, maxErrorRate);
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public Duration getMaxLatency() {
+        return maxLatency;
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    public boolean isMetBy(LoadTestResult result) {
+        return violation(result) == null;
+    }
+
+    /**
+     * Describes how {@code result} breaks this objective, or returns {@code null} when it meets it.
+     */
+    public String violation(LoadTestResult result) {
+        if (result.totalRequests == 0) {
+            return "no requests completed";
+        }
+        double errorRate = (double) result.failedRequests / result.totalRequests;
+        if (errorRate > maxErrorRate) {
+            return String.format("error rate %.2f%% above %.2f%%", errorRate * 100, maxErrorRate * 100);
+        }
+        long latencyMicros = result.getPercentileMicros(percentile);
+        if (latencyMicros > maxLatency.toNanos() / 1000) {
+            return String.format("p%s %.2f ms above %d ms", formatPercentile(), latencyMicros / 1000.0,
+                    maxLatency.toMillis());
+        }
+        return null;
+    }
+
+    private String formatPercentile() {
+        return percentile == Math.rint(percentile) ? Integer.toString((int) percentile) : Double.toString(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p%s < %d ms, errors <= %.2f%%", formatPercentile(), maxLatency.toMillis(),
+                maxErrorRate * 100);
+    }
+}
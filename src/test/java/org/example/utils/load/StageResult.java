@@ -0,0 +1,39 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+
+/**
+ * Outcome of one stage of a {@link LoadProfile}. Requests are counted in the stage they were started in.
+ */
+public class StageResult {
+    private final LoadStage stage;
+    private final LoadTestResult result;
+
+    public StageResult(LoadStage stage, LoadTestResult result) {
+        this.stage = stage;
+        this.result = result;
+    }
+
+    public LoadStage getStage() {
+        return stage;
+    }
+
+    public LoadTestResult getResult() {
+        return result;
+    }
+
+    public double getThroughput() {
+        return result.requestsPerSecond();
+    }
+
+    public double getErrorRate() {
+        return result.totalRequests == 0 ? 0 : (double) result.failedRequests / result.totalRequests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s %8d requests %10.1f req/s  p50=%8.2f ms  p99=%8.2f ms  errors=%6.2f%%",
+                stage, result.totalRequests, getThroughput(), result.p50Micros / 1000.0,
+                result.p99Micros / 1000.0, getErrorRate() * 100);
+    }
+}
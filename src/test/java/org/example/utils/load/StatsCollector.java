@@ -0,0 +1,22 @@
+package org.example.utils.load;
+
+/**
+ * Hands out the {@link StatsRecorder} each load worker writes to and merges them once the run is over.
+ */
+public interface StatsCollector {
+
+    /**
+     * Returns the recorder for the worker with the given index; used when a worker runs a fixed loop of requests.
+     */
+    StatsRecorder forWorker(int workerIndex);
+
+    /**
+     * Returns the recorder for the calling thread; used when requests are handed to whichever thread is free.
+     */
+    StatsRecorder forCurrentThread();
+
+    /**
+     * Merges everything recorded so far. Callers should stop the workers first.
+     */
+    WorkerStats merge();
+}
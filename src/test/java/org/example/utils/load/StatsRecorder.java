@@ -0,0 +1,27 @@
+package org.example.utils.load;
+
+/**
+ * Write side of the per-request statistics used by the load engine.
+ */
+public interface StatsRecorder {
+
+    /**
+     * Records a request that received a response; {@code failed} is set when the response was not the expected one,
+     * in which case it is also counted under its status code.
+     */
+    void recordResponse(long responseNanos, int statusCode, boolean failed);
+
+    /**
+     * Records a request whose response had the expected status but failed its {@link ResponseValidator}.
+     */
+    void recordInvalidBody(long responseNanos);
+
+    /**
+     * Records a request that never produced a response, e.g. a connection error, counted under its exception class.
+     */
+    void recordError(Throwable error);
+
+    void recordServiceTime(long serviceNanos);
+
+    void recordScheduleLag(long lagNanos, boolean late);
+}
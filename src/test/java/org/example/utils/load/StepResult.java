@@ -0,0 +1,51 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+
+/**
+ * Outcome of one concurrency step of a gradual ramp.
+ */
+public class StepResult {
+    private final int concurrency;
+    private final LoadTestResult result;
+
+    public StepResult(int concurrency, LoadTestResult result) {
+        this.concurrency = concurrency;
+        this.result = result;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public LoadTestResult getResult() {
+        return result;
+    }
+
+    public double getThroughput() {
+        return result.requestsPerSecond();
+    }
+
+    public double getErrorRate() {
+        return result.totalRequests == 0 ? 0 : (double) result.failedRequests / result.totalRequests;
+    }
+
+    public long getP50Micros() {
+        return result.p50Micros;
+    }
+
+    public long getP90Micros() {
+        return result.p90Micros;
+    }
+
+    public long getP99Micros() {
+        return result.p99Micros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%6d users %10.1f req/s  p50=%8.2f ms  p90=%8.2f ms  p99=%8.2f ms  errors=%6.2f%%",
+                concurrency, getThroughput(), getP50Micros() / 1000.0, getP90Micros() / 1000.0,
+                getP99Micros() / 1000.0, getErrorRate() * 100);
+    }
+}
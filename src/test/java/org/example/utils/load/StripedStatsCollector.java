@@ -0,0 +1,101 @@
+package org.example.utils.load;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Spreads workers over a fixed number of {@link WorkerStats} stripes, so memory stays bounded when a run
+ * simulates tens of thousands of virtual-thread users. Each stripe is guarded by its own lock, which is held
+ * only for the few nanoseconds a record takes and never while a request is in flight.
+ */
+public class StripedStatsCollector implements StatsCollector {
+    private final Stripe[] stripes;
+
+    public StripedStatsCollector(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public StatsRecorder forWorker(int workerIndex) {
+        return stripes[Math.floorMod(workerIndex, stripes.length)];
+    }
+
+    @Override
+    public StatsRecorder forCurrentThread() {
+        return stripes[(int) Math.floorMod(Thread.currentThread().threadId(), (long) stripes.length)];
+    }
+
+    @Override
+    public WorkerStats merge() {
+        WorkerStats merged = new WorkerStats();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                merged.add(stripe.stats);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return merged;
+    }
+
+    private static final class Stripe implements StatsRecorder {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final WorkerStats stats = new WorkerStats();
+
+        @Override
+        public void recordResponse(long responseNanos, int statusCode, boolean failed) {
+            lock.lock();
+            try {
+                stats.recordResponse(responseNanos, statusCode, failed);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void recordInvalidBody(long responseNanos) {
+            lock.lock();
+            try {
+                stats.recordInvalidBody(responseNanos);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void recordError(Throwable error) {
+            lock.lock();
+            try {
+                stats.recordError(error);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void recordServiceTime(long serviceNanos) {
+            lock.lock();
+            try {
+                stats.recordServiceTime(serviceNanos);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void recordScheduleLag(long lagNanos, boolean late) {
+            lock.lock();
+            try {
+                stats.recordScheduleLag(lagNanos, late);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.utils.load;
+
+/**
+ * A single HTTP request issued by the load engine. The body is already serialized, so transports can send it
+ * without any per-request conversion.
+ */
+public class TransportRequest {
+    private final String method;
+    private final String url;
+    private final byte[] body;
+
+    public TransportRequest(String method, String url, byte[] body) {
+        this.method = method;
+        this.url = url;
+        this.body = body;
+    }
+
+    public static TransportRequest post(String url, byte[] body) {
+        return new TransportRequest("POST", url, body);
+    }
+
+    public static TransportRequest get(String url) {
+        return new TransportRequest("GET", url, null);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the serialized body, or {@code null} for requests without one.
+     */
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.utils.load;
+
+/**
+ * Status and raw body of a response received by a {@link LoadTransport}.
+ */
+public class TransportResponse {
+    private final int statusCode;
+    private final byte[] body;
+
+    public TransportResponse(int statusCode, byte[] body) {
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
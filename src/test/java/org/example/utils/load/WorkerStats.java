@@ -0,0 +1,163 @@
+package org.example.utils.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response-time histogram and counters owned by a single load worker.
+ * Instances are not thread-safe: each worker writes to its own instance and the run merges them once the
+ * workers have stopped, so the hot path never touches shared state.
+ */
+public class WorkerStats implements StatsRecorder {
+    public static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    public static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram histogram = newHistogram();
+    private final ErrorCounts errorCounts = new ErrorCounts();
+    private int requests;
+    private int failures;
+    private long totalResponseNanos;
+    private long maxResponseNanos;
+    private long minResponseNanos = Long.MAX_VALUE;
+    private long totalServiceNanos;
+    private int lateRequests;
+    private long maxScheduleLagNanos;
+
+    public static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Rebuilds stats that were recorded elsewhere, e.g. in another process, so they can be merged with local ones.
+     * Service times and schedule lag are not restored.
+     */
+    public static WorkerStats restore(Histogram histogram, int requests, int failures, long totalResponseNanos,
+                                      long maxResponseNanos, long minResponseNanos) {
+        WorkerStats stats = new WorkerStats();
+        stats.histogram.add(histogram);
+        stats.requests = requests;
+        stats.failures = failures;
+        stats.totalResponseNanos = totalResponseNanos;
+        stats.maxResponseNanos = maxResponseNanos;
+        stats.minResponseNanos = histogram.getTotalCount() > 0 ? minResponseNanos : Long.MAX_VALUE;
+        return stats;
+    }
+
+    public static WorkerStats merge(Collection<WorkerStats> workers) {
+        WorkerStats merged = new WorkerStats();
+        for (WorkerStats worker : workers) {
+            merged.add(worker);
+        }
+        return merged;
+    }
+
+    public void recordResponse(long responseNanos, boolean failed) {
+        recordResponse(responseNanos, 0, failed);
+    }
+
+    @Override
+    public void recordResponse(long responseNanos, int statusCode, boolean failed) {
+        requests++;
+        if (failed) {
+            failures++;
+            errorCounts.recordStatus(statusCode);
+        }
+        totalResponseNanos += responseNanos;
+        maxResponseNanos = Math.max(maxResponseNanos, responseNanos);
+        minResponseNanos = Math.min(minResponseNanos, responseNanos);
+        histogram.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(responseNanos), 0), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    @Override
+    public void recordInvalidBody(long responseNanos) {
+        recordResponse(responseNanos, 0, false);
+        failures++;
+        errorCounts.recordInvalidBody();
+    }
+
+    public void recordError() {
+        recordError(null);
+    }
+
+    @Override
+    public void recordError(Throwable error) {
+        requests++;
+        failures++;
+        errorCounts.recordException(error);
+    }
+
+    @Override
+    public void recordServiceTime(long serviceNanos) {
+        totalServiceNanos += serviceNanos;
+    }
+
+    @Override
+    public void recordScheduleLag(long lagNanos, boolean late) {
+        maxScheduleLagNanos = Math.max(maxScheduleLagNanos, lagNanos);
+        if (late) {
+            lateRequests++;
+        }
+    }
+
+    public void add(WorkerStats other) {
+        histogram.add(other.histogram);
+        requests += other.requests;
+        failures += other.failures;
+        totalResponseNanos += other.totalResponseNanos;
+        maxResponseNanos = Math.max(maxResponseNanos, other.maxResponseNanos);
+        minResponseNanos = Math.min(minResponseNanos, other.minResponseNanos);
+        totalServiceNanos += other.totalServiceNanos;
+        lateRequests += other.lateRequests;
+        maxScheduleLagNanos = Math.max(maxScheduleLagNanos, other.maxScheduleLagNanos);
+        errorCounts.add(other.errorCounts);
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Returns the failure buckets; failed responses recorded without a status code count as
+     * {@link ErrorCounts#UNKNOWN_STATUS}.
+     */
+    public ErrorCounts getErrorCounts() {
+        return errorCounts;
+    }
+
+    public int getRequests() {
+        return requests;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public long getTotalResponseNanos() {
+        return totalResponseNanos;
+    }
+
+    public long getMaxResponseNanos() {
+        return maxResponseNanos;
+    }
+
+    /**
+     * Returns the fastest response time, or 0 when no response was recorded.
+     */
+    public long getMinResponseNanos() {
+        return minResponseNanos == Long.MAX_VALUE ? 0 : minResponseNanos;
+    }
+
+    public long getTotalServiceNanos() {
+        return totalServiceNanos;
+    }
+
+    public int getLateRequests() {
+        return lateRequests;
+    }
+
+    public long getMaxScheduleLagNanos() {
+        return maxScheduleLagNanos;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A weighted mix of {@link WorkloadOperation}s. Each request of a mixed load run picks one operation at random,
+ * with probability proportional to its weight; picking is a binary search over the cumulative weights, so it
+ * costs the same for any number of operations.
+ */
+public class Workload {
+    private final String name;
+    private final List<WorkloadOperation> operations = new ArrayList<>();
+    private int[] cumulativeWeights = new int[0];
+
+    public Workload(String name) {
+        this.name = name;
+    }
+
+    /**
+     * The Activities API traffic mix: mostly single-activity reads, some list reads and a few creates.
+     */
+    public static Workload activitiesMix(BodySource postBodies) {
+        return new Workload("activities-mix")
+                .operation(WorkloadOperation.get("get-activity", 80, RestApiUtils.ACTIVITIES_BY_ID,
+                        () -> new String[]{Integer.toString(ThreadLocalRandom.current().nextInt(1, 31))}))
+                .operation(WorkloadOperation.get("list-activities", 15, RestApiUtils.ACTIVITIES))
+                .operation(WorkloadOperation.post("create-activity", 5, RestApiUtils.ACTIVITIES, postBodies)
+                        .validatedBy(ResponseValidators.fieldMatchesRequest("id", postBodies)));
+    }
+
+    public Workload operation(WorkloadOperation operation) {
+        for (WorkloadOperation existing : operations) {
+            if (existing.getName().equals(operation.getName())) {
+                throw new IllegalArgumentException("Duplicate operation name: " + operation.getName());
+            }
+        }
+        int total = totalWeight();
+        operations.add(operation);
+        cumulativeWeights = Arrays.copyOf(cumulativeWeights, operations.size());
+        cumulativeWeights[operations.size() - 1] = Math.addExact(total, operation.getWeight());
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<WorkloadOperation> getOperations() {
+        return List.copyOf(operations);
+    }
+
+    public int totalWeight() {
+        return cumulativeWeights.length == 0 ? 0 : cumulativeWeights[cumulativeWeights.length - 1];
+    }
+
+    /**
+     * Picks the index of the next operation to run.
+     */
+    public int nextOperationIndex() {
+        if (operations.isEmpty()) {
+            throw new IllegalStateException("Workload " + name + " has no operations");
+        }
+        int index = Arrays.binarySearch(cumulativeWeights, ThreadLocalRandom.current().nextInt(totalWeight()) + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + operations;
+    }
+}
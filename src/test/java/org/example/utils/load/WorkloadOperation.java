@@ -0,0 +1,119 @@
+package org.example.utils.load;
+
+import org.example.utils.RestApiUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * One kind of request in a {@link Workload}: an HTTP method against a {@link RestApiUtils} endpoint, how often it is
+ * picked relative to the other operations, and the status code that counts as success.
+ * <p>
+ * URLs are resolved when each request is built, so operations follow {@link RestApiUtils#setBaseUrl} changes.
+ */
+public class WorkloadOperation {
+    private static final String[] NO_PARAMS = new String[0];
+
+    private final String name;
+    private final String method;
+    private final RestApiUtils endpoint;
+    private final int weight;
+    private final Supplier<String[]> params;
+    private final BodySource bodySource;
+    private final int expectedStatusCode;
+    private final ResponseValidator validator;
+
+    /**
+     * @param params     supplies the path parameters of a templated endpoint for each request, or {@code null}
+     * @param bodySource supplies the request bodies, or {@code null} for requests without one
+     */
+    public WorkloadOperation(String name, String method, RestApiUtils endpoint, int weight, Supplier<String[]> params,
+                             BodySource bodySource, int expectedStatusCode) {
+        this(name, method, endpoint, weight, params, bodySource, expectedStatusCode, null);
+    }
+
+    /**
+     * @param validator checks the bodies of this operation's responses instead of the run's validator, or
+     *                  {@code null} to use the run's
+     */
+    public WorkloadOperation(String name, String method, RestApiUtils endpoint, int weight, Supplier<String[]> params,
+                             BodySource bodySource, int expectedStatusCode, ResponseValidator validator) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Operation name must not be blank");
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Operation weight must be positive");
+        }
+        this.name = name;
+        this.method = method.toUpperCase();
+        this.endpoint = endpoint;
+        this.weight = weight;
+        this.params = params;
+        this.bodySource = bodySource;
+        this.expectedStatusCode = expectedStatusCode;
+        this.validator = validator;
+    }
+
+    public static WorkloadOperation get(String name, int weight, RestApiUtils endpoint) {
+        return new WorkloadOperation(name, "GET", endpoint, weight, null, null, 200);
+    }
+
+    public static WorkloadOperation get(String name, int weight, RestApiUtils endpoint, Supplier<String[]> params) {
+        return new WorkloadOperation(name, "GET", endpoint, weight, params, null, 200);
+    }
+
+    public static WorkloadOperation post(String name, int weight, RestApiUtils endpoint, BodySource bodySource) {
+        return new WorkloadOperation(name, "POST", endpoint, weight, null, bodySource, 200);
+    }
+
+    /**
+     * Returns a copy of this operation that expects {@code statusCode} instead.
+     */
+    public WorkloadOperation expectingStatus(int statusCode) {
+        return new WorkloadOperation(name, method, endpoint, weight, params, bodySource, statusCode, validator);
+    }
+
+    /**
+     * Returns a copy of this operation whose responses are checked with {@code validator}, at the run's
+     * validation sample rate.
+     */
+    public WorkloadOperation validatedBy(ResponseValidator validator) {
+        return new WorkloadOperation(name, method, endpoint, weight, params, bodySource, expectedStatusCode, validator);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public RestApiUtils getEndpoint() {
+        return endpoint;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getExpectedStatusCode() {
+        return expectedStatusCode;
+    }
+
+    public ResponseValidator getValidator() {
+        return validator;
+    }
+
+    /**
+     * Builds the next request of this operation, drawing fresh path parameters and body.
+     */
+    public TransportRequest newRequest() {
+        String url = params == null ? endpoint.getUrl() : endpoint.getUrlWithParams(params.get());
+        return new TransportRequest(method, url, bodySource == null ? null : bodySource.next());
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + method + " " + endpoint.name() + ", weight " + weight + ")";
+    }
+}
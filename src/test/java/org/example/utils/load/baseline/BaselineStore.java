@@ -0,0 +1,117 @@
+package org.example.utils.load.baseline;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the history of load runs in a local directory, one subdirectory per scenario, endpoint and API host, so runs
+ * against a local stub and against a shared environment never serve as each other's reference. Every run is
+ * appended to {@code runs.jsonl}; a run can also be pinned as {@code baseline.json} to compare later runs against
+ * a fixed reference instead of the recent history.
+ */
+public class BaselineStore {
+    public static final String DIRECTORY_PROPERTY = "load.baselineDir";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final String RUNS_FILE = "runs.jsonl";
+    private static final String BASELINE_FILE = "baseline.json";
+
+    private final Path directory;
+
+    public BaselineStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the store under {@code -Dload.baselineDir}, by default {@code perf-baselines} in the working directory.
+     * It lives outside {@code target} so that {@code mvn clean} keeps the history.
+     */
+    public static BaselineStore fromSystemProperties() {
+        return new BaselineStore(Path.of(System.getProperty(DIRECTORY_PROPERTY, "perf-baselines")));
+    }
+
+    public synchronized void append(RunRecord record) {
+        Path runs = keyDirectory(record.scenario, record.endpoint, record.host).resolve(RUNS_FILE);
+        try {
+            Files.createDirectories(runs.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(runs, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(OBJECT_MAPPER.writeValueAsString(record));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store run in " + runs, e);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} of the most recent runs, oldest first.
+     */
+    public synchronized List<RunRecord> history(String scenario, String endpoint, String host, int limit) {
+        Path runs = keyDirectory(scenario, endpoint, host).resolve(RUNS_FILE);
+        if (!Files.exists(runs)) {
+            return List.of();
+        }
+        try {
+            List<String> lines = Files.readAllLines(runs, StandardCharsets.UTF_8);
+            List<RunRecord> records = new ArrayList<>();
+            for (String line : lines.subList(Math.max(0, lines.size() - limit), lines.size())) {
+                if (!line.isBlank()) {
+                    records.add(OBJECT_MAPPER.readValue(line, RunRecord.class));
+                }
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read runs from " + runs, e);
+        }
+    }
+
+    public synchronized void pin(RunRecord record) {
+        Path baseline = keyDirectory(record.scenario, record.endpoint, record.host).resolve(BASELINE_FILE);
+        try {
+            Files.createDirectories(baseline.getParent());
+            OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(baseline.toFile(), record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to pin baseline " + baseline, e);
+        }
+    }
+
+    public synchronized Optional<RunRecord> pinned(String scenario, String endpoint, String host) {
+        Path baseline = keyDirectory(scenario, endpoint, host).resolve(BASELINE_FILE);
+        if (!Files.exists(baseline)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OBJECT_MAPPER.readValue(baseline.toFile(), RunRecord.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read baseline " + baseline, e);
+        }
+    }
+
+    private Path keyDirectory(String scenario, String endpoint, String host) {
+        return directory.resolve(sanitize(scenario) + "__" + sanitize(endpoint) + "__" + sanitize(host));
+    }
+
+    /**
+     * Turns a scenario name or endpoint into a portable directory name, e.g. {@code "Ramp on /Activities"} into
+     * {@code "ramp-on-activities"}.
+     */
+    private static String sanitize(String name) {
+        if (name == null) {
+            return "default";
+        }
+        String sanitized = name.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        return sanitized.isEmpty() ? "default" : sanitized;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.utils.load.baseline;
+
+import java.util.Arrays;
+
+/**
+ * One-sided Mann-Whitney U test: do the values of one sample tend to be larger than those of another?
+ * <p>
+ * The test only compares ranks, so it copes with the skewed, outlier-prone samples load tests produce and does not
+ * assume any distribution. The p-value uses the normal approximation with tie and continuity corrections, which is
+ * conservative enough for the handful of interval samples a run yields.
+ */
+public class MannWhitneyU {
+
+    /**
+     * Returns the probability of seeing ranks at least this favourable to {@code x} if both samples came from the
+     * same distribution. Small values mean {@code x} is significantly larger than {@code y}.
+     */
+    public static double pValueGreater(double[] x, double[] y) {
+        int n1 = x.length;
+        int n2 = y.length;
+        if (n1 == 0 || n2 == 0) {
+            throw new IllegalArgumentException("Both samples need at least one value");
+        }
+        int n = n1 + n2;
+        double[] values = new double[n];
+        boolean[] fromX = new boolean[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i < n1 ? x[i] : y[i - n1];
+            fromX[i] = i < n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double rankSumX = 0;
+        double tieTerm = 0;
+        for (int start = 0; start < n; ) {
+            int end = start;
+            while (end + 1 < n && values[order[end + 1]] == values[order[start]]) {
+                end++;
+            }
+            // Tied values share the average of the ranks they span
+            double rank = (start + end + 2) / 2.0;
+            for (int i = start; i <= end; i++) {
+                if (fromX[order[i]]) {
+                    rankSumX += rank;
+                }
+            }
+            int ties = end - start + 1;
+            tieTerm += (double) ties * ties * ties - ties;
+            start = end + 1;
+        }
+
+        double u = rankSumX - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2;
+        double variance = n1 * (double) n2 / 12 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            // Every value is identical, so there is no evidence either way
+            return 1;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1 - standardNormalCdf(z);
+    }
+
+    public static double pValueGreater(long[] x, long[] y) {
+        return pValueGreater(Arrays.stream(x).asDoubleStream().toArray(), Arrays.stream(y).asDoubleStream().toArray());
+    }
+
+    private static double standardNormalCdf(double z) {
+        return 0.5 * (1 + erf(z / Math.sqrt(2)));
+    }
+
+    /**
+     * Abramowitz and Stegun 7.1.26, accurate to about 1.5e-7, which is plenty for a significance threshold.
+     */
+    private static double erf(double x) {
+        double sign = Math.signum(x);
+        double t = 1 / (1 + 0.3275911 * Math.abs(x));
+        double poly = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))));
+        return sign * (1 - poly * Math.exp(-x * x));
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.utils.load.baseline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+
+/**
+ * Decides whether a run's p99 latency or throughput regressed against reference runs, either a pinned baseline or
+ * the last few runs.
+ * <p>
+ * A metric only counts as regressed if two conditions both hold. First, its run-level value is worse than the
+ * median of the reference runs by more than the allowed fraction. Second, a one-sided {@link MannWhitneyU} test on
+ * the per-interval samples finds the shift significant. A single slow run therefore fails only if it was slow
+ * throughout and not because of a short blip. When either side has too few interval samples to test, the metric is
+ * reported as inconclusive; {@link Verdict#isInconclusive()} lets the caller refuse such a check rather than pass it.
+ */
+public class RegressionGate {
+    private double maxP99Increase = 0.2;
+    private double maxThroughputDrop = 0.2;
+    private double significance = 0.05;
+    private int minSamples = 3;
+
+    /**
+     * Sets how much p99 latency may grow, e.g. {@code 0.2} for 20%.
+     */
+    public RegressionGate maxP99Increase(double fraction) {
+        this.maxP99Increase = requireFraction(fraction);
+        return this;
+    }
+
+    /**
+     * Sets how much throughput may drop, e.g. {@code 0.2} for 20%.
+     */
+    public RegressionGate maxThroughputDrop(double fraction) {
+        this.maxThroughputDrop = requireFraction(fraction);
+        return this;
+    }
+
+    public RegressionGate significance(double significance) {
+        if (significance <= 0 || significance >= 1) {
+            throw new IllegalArgumentException("Significance must be between 0 and 1: " + significance);
+        }
+        this.significance = significance;
+        return this;
+    }
+
+    public RegressionGate minSamples(int minSamples) {
+        this.minSamples = Math.max(1, minSamples);
+        return this;
+    }
+
+    public Verdict check(RunRecord current, List<RunRecord> reference) {
+        List<Finding> findings = new ArrayList<>();
+        if (!reference.isEmpty()) {
+            findings.add(compare("p99 latency", current, reference, run -> run.p99Micros / 1000.0,
+                    run -> Arrays.stream(run.intervalP99Micros).asDoubleStream(), true, maxP99Increase));
+            findings.add(compare("throughput", current, reference, run -> run.throughput,
+                    run -> Arrays.stream(run.intervalThroughput), false, maxThroughputDrop));
+        }
+        return new Verdict(reference.size(), findings);
+    }
+
+    private Finding compare(String metric, RunRecord current, List<RunRecord> reference,
+                            ToDoubleFunction<RunRecord> value, Function<RunRecord, DoubleStream> samples,
+                            boolean higherIsWorse, double allowed) {
+        double baseline = median(reference.stream().mapToDouble(value).toArray());
+        double observed = value.applyAsDouble(current);
+        double change = baseline == 0 ? 0 : (observed - baseline) / baseline;
+        boolean beyondThreshold = higherIsWorse ? change > allowed : -change > allowed;
+
+        double[] currentSamples = samplesOf(current, samples);
+        double[] referenceSamples = reference.stream()
+                .flatMapToDouble(run -> Arrays.stream(samplesOf(run, samples)))
+                .toArray();
+        if (currentSamples.length < minSamples || referenceSamples.length < minSamples) {
+            return new Finding(metric, baseline, observed, change, Double.NaN, false);
+        }
+        double pValue = higherIsWorse
+                ? MannWhitneyU.pValueGreater(currentSamples, referenceSamples)
+                : MannWhitneyU.pValueGreater(referenceSamples, currentSamples);
+        return new Finding(metric, baseline, observed, change, pValue, beyondThreshold && pValue < significance);
+    }
+
+    private static double[] samplesOf(RunRecord run, Function<RunRecord, DoubleStream> samples) {
+        return run.intervalP99Micros == null || run.intervalThroughput == null
+                ? new double[0] : samples.apply(run).toArray();
+    }
+
+    private static double median(double[] values) {
+        Arrays.sort(values);
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+
+    private static double requireFraction(double fraction) {
+        if (fraction < 0) {
+            throw new IllegalArgumentException("Allowed regression must not be negative: " + fraction);
+        }
+        return fraction;
+    }
+
+    /**
+     * Comparison of one metric against the reference runs.
+     */
+    public static class Finding {
+        public final String metric;
+        public final double baseline;
+        public final double observed;
+        /** Relative change against the baseline; positive means the value grew. */
+        public final double change;
+        /** One-sided p-value of the interval samples, or NaN if there were too few to test. */
+        public final double pValue;
+        public final boolean regressed;
+
+        public Finding(String metric, double baseline, double observed, double change, double pValue, boolean regressed) {
+            this.metric = metric;
+            this.baseline = baseline;
+            this.observed = observed;
+            this.change = change;
+            this.pValue = pValue;
+            this.regressed = regressed;
+        }
+
+        public boolean isInconclusive() {
+            return Double.isNaN(pValue);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %.2f -> %.2f (%+.1f%%, %s)%s", metric, baseline, observed, change * 100,
+                    isInconclusive() ? "too few samples to test" : String.format("p=%.3f", pValue),
+                    regressed ? " REGRESSED" : "");
+        }
+    }
+
+    public static class Verdict {
+        public final int referenceRuns;
+        public final List<Finding> findings;
+
+        public Verdict(int referenceRuns, List<Finding> findings) {
+            this.referenceRuns = referenceRuns;
+            this.findings = List.copyOf(findings);
+        }
+
+        public boolean passed() {
+            return findings.stream().noneMatch(finding -> finding.regressed);
+        }
+
+        /**
+         * Whether a baseline exists but some metric could not be tested for lack of interval samples, so
+         * {@link #passed()} says nothing about it.
+         */
+        public boolean isInconclusive() {
+            return findings.stream().anyMatch(Finding::isInconclusive);
+        }
+
+        public boolean hasBaseline() {
+            return referenceRuns > 0;
+        }
+
+        @Override
+        public String toString() {
+            if (!hasBaseline()) {
+                return "No baseline yet";
+            }
+            return String.format("Against %d reference run(s): %s", referenceRuns, findings);
+        }
+    }
+}
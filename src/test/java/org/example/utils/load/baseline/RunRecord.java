@@ -0,0 +1,63 @@
+package org.example.utils.load.baseline;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.IntervalSnapshot;
+
+import java.util.List;
+
+/**
+ * Stored form of one load run: the run-level figures the regression gate compares, plus the per-interval samples
+ * its statistical test needs and the full latency histogram for later analysis.
+ */
+public class RunRecord {
+    public String scenario;
+    public String endpoint;
+    /**
+     * Host of the API the run was sent to, e.g. {@code localhost} for a stub; several balanced hosts are joined
+     * with {@code +}. Ports are left out, since a local stub gets a new one on every run.
+     */
+    public String host;
+    /** When the run finished, in epoch milliseconds. */
+    public long timestamp;
+    public int requests;
+    public int failures;
+    public long p50Micros;
+    public long p99Micros;
+    public double throughput;
+    public String histogram;
+    /** p99 latency of each sampling interval that completed requests. */
+    public long[] intervalP99Micros;
+    /** Throughput of each sampling interval that completed requests. */
+    public double[] intervalThroughput;
+
+    public static RunRecord from(String scenario, String endpoint, String host, LoadTestResult result,
+                                 List<IntervalSnapshot> snapshots) {
+        RunRecord record = new RunRecord();
+        record.scenario = scenario;
+        record.endpoint = endpoint;
+        record.host = host;
+        record.timestamp = System.currentTimeMillis();
+        record.requests = result.totalRequests;
+        record.failures = result.failedRequests;
+        record.p50Micros = result.p50Micros;
+        record.p99Micros = result.p99Micros;
+        record.throughput = result.requestsPerSecond();
+        record.histogram = result.encodeHistogram();
+        // Idle intervals, e.g. the tail after the last request, say nothing about latency or capacity
+        List<IntervalSnapshot> busy = snapshots.stream().filter(snapshot -> snapshot.getRequests() > 0).toList();
+        record.intervalP99Micros = busy.stream().mapToLong(IntervalSnapshot::getP99Micros).toArray();
+        record.intervalThroughput = busy.stream().mapToDouble(IntervalSnapshot::getThroughput).toArray();
+        return record;
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) failures / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s on %s at %s: %.1f req/s, p99=%.2f ms over %d intervals", scenario, endpoint, host,
+                throughput,
+                p99Micros / 1000.0, intervalP99Micros == null ? 0 : intervalP99Micros.length);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.utils.load.distributed;
+
+import java.util.List;
+
+/**
+ * One line of the coordinator/worker protocol. Messages are exchanged as JSON Lines over a plain TCP connection:
+ * the worker sends {@code HELLO}, the coordinator answers with an {@code ASSIGNMENT}, and the worker then streams
+ * {@code INTERVAL} stats until it sends its {@code RESULT} (or {@code FAILED}) and disconnects.
+ */
+public class DistributedMessage {
+
+    public enum Type {
+        HELLO, ASSIGNMENT, INTERVAL, RESULT, FAILED
+    }
+
+    public Type type;
+    public String workerName;
+    public int workerIndex;
+    public LoadAssignment assignment;
+    /** Interval stats for {@code INTERVAL}, whole-run stats for {@code RESULT}. */
+    public StatsSnapshot stats;
+    /** Per-stage stats for {@code RESULT}, in profile order. */
+    public List<StatsSnapshot> stages;
+    public String error;
+
+    public static DistributedMessage of(Type type) {
+        DistributedMessage message = new DistributedMessage();
+        message.type = type;
+        return message;
+    }
+}
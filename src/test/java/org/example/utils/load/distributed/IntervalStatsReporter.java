@@ -0,0 +1,82 @@
+package org.example.utils.load.distributed;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.example.utils.load.RequestListener;
+import org.example.utils.load.WorkerStats;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Collects a worker's requests into interval histograms and hands each interval to {@code sink}, the same way
+ * {@code LiveMetricsSampler} does locally, except that the full histogram is kept so the coordinator can merge it.
+ */
+class IntervalStatsReporter implements RequestListener, AutoCloseable {
+    private final Duration interval;
+    private final Consumer<StatsSnapshot> sink;
+    private final Recorder recorder = new Recorder(WorkerStats.HIGHEST_TRACKABLE_MICROS, WorkerStats.SIGNIFICANT_DIGITS);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private ScheduledExecutorService scheduler;
+    private Histogram intervalHistogram;
+    private long lastTick;
+
+    IntervalStatsReporter(Duration interval, Consumer<StatsSnapshot> sink) {
+        this.interval = interval;
+        this.sink = sink;
+    }
+
+    synchronized IntervalStatsReporter start() {
+        lastTick = System.nanoTime();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+        return this;
+    }
+
+    @Override
+    public void onRequestComplete(long startNanos, long latencyNanos, int statusCode, boolean failed) {
+        requests.increment();
+        if (failed) {
+            failures.increment();
+        }
+        if (statusCode != 0) {
+            recorder.recordValue(Math.min(Math.max(latencyNanos / 1000, 0), WorkerStats.HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = scheduler;
+            scheduler = null;
+        }
+        if (running == null) {
+            return;
+        }
+        running.shutdownNow();
+        try {
+            running.awaitTermination(interval.toMillis() + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        report();
+    }
+
+    private synchronized void report() {
+        long now = System.nanoTime();
+        intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        sink.accept(StatsSnapshot.interval(intervalHistogram, (int) requests.sumThenReset(),
+                (int) failures.sumThenReset(), now - lastTick));
+        lastTick = now;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.utils.load.distributed;
+
+import org.example.utils.balancing.BalancingPolicy;
+import org.example.utils.balancing.BalancingTransport;
+import org.example.utils.balancing.EndpointNode;
+import org.example.utils.balancing.EndpointRegistry;
+import org.example.utils.load.LoadProfile;
+import org.example.utils.load.LoadStage;
+import org.example.utils.load.LoadTransport;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What the coordinator tells one worker to run: its slice of the profile, the target and the bodies to send.
+ */
+public class LoadAssignment {
+    public int workerIndex;
+    public int workerCount;
+    public String url;
+    public int expectedStatusCode;
+    public String executionMode;
+    public String transport;
+    /** Balancing policy and node base URLs when the run is balanced over several nodes, otherwise {@code null}. */
+    public String balancingPolicy;
+    public List<String> baseUrls;
+    public String profileName;
+    public int maxConcurrency;
+    public List<Stage> stages = new ArrayList<>();
+    public List<String> bodies = new ArrayList<>();
+    public long reportIntervalMillis;
+    public long awaitTimeoutMillis;
+    /** Wall-clock time at which every worker starts, so their stages line up. */
+    public long startAtEpochMillis;
+
+    public static class Stage {
+        public LoadStage.Kind kind;
+        public int from;
+        public int to;
+        public long durationMillis;
+        public LoadStage.Shape shape;
+    }
+
+    /**
+     * Records {@code loadTransport} by name, with its policy and nodes when it balances over several nodes.
+     */
+    public void useTransport(LoadTransport loadTransport) {
+        if (loadTransport instanceof BalancingTransport balancing) {
+            EndpointRegistry registry = balancing.getRegistry();
+            transport = balancing.getDelegate().name();
+            balancingPolicy = registry.getPolicy().getConfigName();
+            baseUrls = registry.getNodes().stream().map(EndpointNode::getBaseUrl).toList();
+        } else {
+            transport = loadTransport.name();
+            balancingPolicy = null;
+            baseUrls = null;
+        }
+    }
+
+    /**
+     * Rebuilds the transport on the worker, balanced over the same nodes with the same policy as on the coordinator.
+     * Per-node results stay on the worker.
+     */
+    public LoadTransport toTransport() {
+        LoadTransport loadTransport = LoadTransport.forName(transport);
+        if (baseUrls == null || baseUrls.isEmpty()) {
+            return loadTransport;
+        }
+        return EndpointRegistry.of(baseUrls, BalancingPolicy.fromName(balancingPolicy)).balance(loadTransport);
+    }
+
+    public void setProfile(LoadProfile profile) {
+        profileName = profile.getName();
+        maxConcurrency = profile.getMaxConcurrency();
+        stages.clear();
+        for (LoadStage loadStage : profile.getStages()) {
+            Stage stage = new Stage();
+            stage.kind = loadStage.getKind();
+            stage.from = loadStage.getFrom();
+            stage.to = loadStage.getTo();
+            stage.durationMillis = loadStage.getDuration().toMillis();
+            stage.shape = loadStage.getShape();
+            stages.add(stage);
+        }
+    }
+
+    public LoadProfile toProfile() {
+        LoadProfile profile = new LoadProfile(profileName).maxConcurrency(maxConcurrency);
+        for (Stage stage : stages) {
+            profile.stage(new LoadStage(stage.kind, stage.from, stage.to, Duration.ofMillis(stage.durationMillis),
+                    stage.shape));
+        }
+        return profile;
+    }
+}
@@ -0,0 +1,248 @@
+package org.example.utils.load.distributed;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.RestApiLoadUtils.ProfileResult;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadProfile;
+import org.example.utils.load.LoadStage;
+import org.example.utils.load.StageResult;
+import org.example.utils.load.WorkerStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Coordinator of a distributed load run. Worker JVMs ({@link LoadWorker}) connect to it, each receives an even slice
+ * of the load profile and a common start time, and the coordinator merges the histograms and counters they report
+ * into one {@link ProfileResult}, as if a single generator had produced the whole load.
+ * <p>
+ * While the run is in progress, workers stream interval stats, which are merged into {@link #getLiveStats()} and
+ * logged as they arrive.
+ */
+public class LoadCoordinator implements AutoCloseable {
+    public static final String ACCEPT_TIMEOUT_PROPERTY = "load.distributed.acceptTimeoutSecs";
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadCoordinator.class);
+    private static final Duration START_DELAY = Duration.ofSeconds(1);
+    private static final Duration REPORT_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration RESULT_GRACE = Duration.ofSeconds(30);
+
+    private final ServerSocket serverSocket;
+    private WorkerStats liveStats = new WorkerStats();
+
+    public LoadCoordinator(InetAddress bindAddress, int port) {
+        try {
+            serverSocket = new ServerSocket(port, 50, bindAddress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the coordinator port", e);
+        }
+        LOGGER.info("Load coordinator listening on {}", serverSocket.getLocalSocketAddress());
+    }
+
+    /**
+     * Listens on a free loopback port, for workers started on the same machine.
+     */
+    public static LoadCoordinator onLoopback() {
+        return new LoadCoordinator(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * Waits for {@code workerCount} workers, runs {@code profile} split across them and returns the merged result.
+     * Every worker sends bodies from {@code bodies} in rotation.
+     * <p>
+     * Workers get the execution mode, transport and balancing of {@code options}. A response validator or listeners
+     * only exist in this JVM, so options with either are rejected rather than silently dropped; live stats are
+     * available from {@link #getLiveStats()} instead.
+     */
+    public ProfileResult run(String url, LoadProfile profile, List<String> bodies, int expectedStatusCode,
+                             int workerCount, LoadOptions options) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        if (options.getValidator() != null || !options.getListeners().isEmpty()) {
+            throw new IllegalArgumentException("Response validators and request listeners cannot be sent to load workers");
+        }
+        synchronized (this) {
+            liveStats = new WorkerStats();
+        }
+        List<MessageChannel> channels = new ArrayList<>();
+        ExecutorService readers = Executors.newFixedThreadPool(workerCount);
+        try {
+            acceptWorkers(workerCount, channels);
+
+            long startAt = System.currentTimeMillis() + START_DELAY.toMillis();
+            long runTimeout = START_DELAY.plus(profile.getTotalDuration()).plus(options.getAwaitTimeout())
+                    .plus(RESULT_GRACE).toMillis();
+            List<Future<DistributedMessage>> results = new ArrayList<>();
+            for (int i = 0; i < workerCount; i++) {
+                MessageChannel channel = channels.get(i);
+                channel.send(assignment(i, workerCount, url, profile, bodies, expectedStatusCode, options, startAt));
+                channel.setReadTimeout((int) Math.min(runTimeout, Integer.MAX_VALUE));
+                int workerIndex = i;
+                results.add(readers.submit(() -> readUntilResult(workerIndex, channel)));
+            }
+
+            List<DistributedMessage> reports = new ArrayList<>();
+            for (Future<DistributedMessage> result : results) {
+                reports.add(result.get());
+            }
+            return merge(profile, reports, options.getTransport().name());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Distributed load run failed", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Distributed load run failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for load workers", e);
+        } finally {
+            readers.shutdownNow();
+            channels.forEach(MessageChannel::close);
+        }
+    }
+
+    /**
+     * Returns everything the workers have streamed so far in this run.
+     */
+    public synchronized WorkerStats getLiveStats() {
+        WorkerStats copy = new WorkerStats();
+        copy.add(liveStats);
+        return copy;
+    }
+
+    private void acceptWorkers(int workerCount, List<MessageChannel> channels) throws IOException {
+        Duration acceptTimeout = Duration.ofSeconds(Long.getLong(ACCEPT_TIMEOUT_PROPERTY, 60));
+        serverSocket.setSoTimeout((int) acceptTimeout.toMillis());
+        while (channels.size() < workerCount) {
+            MessageChannel channel;
+            try {
+                channel = new MessageChannel(serverSocket.accept());
+            } catch (SocketTimeoutException e) {
+                throw new IOException("Only " + channels.size() + " of " + workerCount + " load workers connected within "
+                        + acceptTimeout.toSeconds() + " s", e);
+            }
+            DistributedMessage hello = channel.receive();
+            if (hello.type != DistributedMessage.Type.HELLO) {
+                channel.close();
+                throw new IOException("Expected HELLO from a load worker but got " + hello.type);
+            }
+            LOGGER.info("Load worker {} connected ({} of {})", hello.workerName, channels.size() + 1, workerCount);
+            channels.add(channel);
+        }
+    }
+
+    private static DistributedMessage assignment(int index, int workerCount, String url, LoadProfile profile,
+                                                 List<String> bodies, int expectedStatusCode, LoadOptions options,
+                                                 long startAt) {
+        LoadAssignment assignment = new LoadAssignment();
+        assignment.workerIndex = index;
+        assignment.workerCount = workerCount;
+        assignment.url = url;
+        assignment.expectedStatusCode = expectedStatusCode;
+        assignment.executionMode = options.getExecutionMode().name();
+        assignment.useTransport(options.getTransport());
+        assignment.setProfile(profile.slice(index, workerCount));
+        assignment.bodies = bodies;
+        assignment.reportIntervalMillis = REPORT_INTERVAL.toMillis();
+        assignment.awaitTimeoutMillis = options.getAwaitTimeout().toMillis();
+        assignment.startAtEpochMillis = startAt;
+
+        DistributedMessage message = DistributedMessage.of(DistributedMessage.Type.ASSIGNMENT);
+        message.workerIndex = index;
+        message.assignment = assignment;
+        return message;
+    }
+
+    private DistributedMessage readUntilResult(int workerIndex, MessageChannel channel) throws IOException {
+        while (true) {
+            DistributedMessage message = channel.receive();
+            switch (message.type) {
+                case INTERVAL -> recordInterval(workerIndex, message.stats);
+                case RESULT -> {
+                    LOGGER.info("Load worker {} finished: {} requests, {} failed", workerIndex,
+                            message.stats.requests, message.stats.failures);
+                    return message;
+                }
+                case FAILED -> {
+                    LOGGER.error("Load worker {} failed: {}", workerIndex, message.error);
+                    return message;
+                }
+                default -> LOGGER.warn("Ignoring unexpected {} message from load worker {}", message.type, workerIndex);
+            }
+        }
+    }
+
+    private synchronized void recordInterval(int workerIndex, StatsSnapshot interval) {
+        WorkerStats stats = interval.toWorkerStats();
+        liveStats.add(stats);
+        double seconds = Math.max(interval.elapsedNanos, 1) / 1e9;
+        LOGGER.info("Live (worker {}): {} req/s, p99={} us, errors={} | all workers so far: {} requests, {} failed",
+                workerIndex, String.format("%.1f", interval.requests / seconds),
+                stats.getHistogram().getTotalCount() == 0 ? 0 : stats.getHistogram().getValueAtPercentile(99.0),
+                interval.failures, liveStats.getRequests(), liveStats.getFailures());
+    }
+
+    private static ProfileResult merge(LoadProfile profile, List<DistributedMessage> reports, String transportName) {
+        List<LoadStage> stages = profile.getStages();
+        boolean allReported = reports.stream().allMatch(report -> report.type == DistributedMessage.Type.RESULT
+                && report.stages != null && report.stages.size() == stages.size());
+
+        List<StageResult> stageResults = new ArrayList<>();
+        List<WorkerStats> totals = new ArrayList<>();
+        long elapsedNanos = 0;
+        long cpuTimeNanos = 0;
+        for (int i = 0; i < stages.size(); i++) {
+            List<WorkerStats> stageStats = new ArrayList<>();
+            long stageElapsed = 0;
+            long stageCpu = 0;
+            for (DistributedMessage report : reports) {
+                if (report.stages != null && i < report.stages.size()) {
+                    StatsSnapshot snapshot = report.stages.get(i);
+                    stageStats.add(snapshot.toWorkerStats());
+                    stageElapsed = Math.max(stageElapsed, snapshot.elapsedNanos);
+                    stageCpu += snapshot.cpuTimeNanos;
+                }
+            }
+            WorkerStats merged = WorkerStats.merge(stageStats);
+            stageResults.add(new StageResult(stages.get(i), new LoadTestResult(merged.getFailures() == 0, merged,
+                    transportName, stageElapsed, stageCpu)));
+        }
+        for (DistributedMessage report : reports) {
+            if (report.stats != null) {
+                totals.add(report.stats.toWorkerStats());
+                elapsedNanos = Math.max(elapsedNanos, report.stats.elapsedNanos);
+                cpuTimeNanos += report.stats.cpuTimeNanos;
+            }
+        }
+
+        WorkerStats total = WorkerStats.merge(totals);
+        LOGGER.info("Merged results of {} load workers: {} requests, {} failed", reports.size(),
+                total.getRequests(), total.getFailures());
+        return new ProfileResult(allReported && total.getFailures() == 0, total, transportName, elapsedNanos,
+                cpuTimeNanos, profile.getName(), stageResults);
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close the coordinator socket", e);
+        }
+    }
+}
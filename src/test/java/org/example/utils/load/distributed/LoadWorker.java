@@ -0,0 +1,111 @@
+package org.example.utils.load.distributed;
+
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.RestApiLoadUtils.ProfileResult;
+import org.example.utils.load.BodyCorpus;
+import org.example.utils.load.ExecutionMode;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.StageResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker process of a distributed load run. It connects to a {@link LoadCoordinator}, runs the slice of the profile
+ * it is assigned, streams interval stats while it runs and reports its final stats before exiting.
+ * <p>
+ * Start it on any host that can reach the coordinator, with the test classpath:
+ * {@code java -cp <test classpath> org.example.utils.load.distributed.LoadWorker <coordinator-host> <port> [name]}.
+ */
+public class LoadWorker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadWorker.class);
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: LoadWorker <coordinator-host> <port> [name]");
+            System.exit(2);
+        }
+        String name = args.length > 2 ? args[2] : "worker-" + ProcessHandle.current().pid();
+        boolean success = run(new InetSocketAddress(args[0], Integer.parseInt(args[1])), name);
+        System.exit(success ? 0 : 1);
+    }
+
+    /**
+     * Runs one assignment from the coordinator at {@code coordinator} and returns whether it was reported back.
+     */
+    public static boolean run(InetSocketAddress coordinator, String name) {
+        try (MessageChannel channel = MessageChannel.connect(coordinator, CONNECT_TIMEOUT_MILLIS)) {
+            DistributedMessage hello = DistributedMessage.of(DistributedMessage.Type.HELLO);
+            hello.workerName = name;
+            channel.send(hello);
+
+            LoadAssignment assignment = channel.receive().assignment;
+            LOGGER.info("{} assigned slice {} of {}: {} on {}", name, assignment.workerIndex + 1,
+                    assignment.workerCount, assignment.toProfile(), assignment.url);
+            try {
+                channel.send(runAssignment(assignment, channel));
+            } catch (RuntimeException e) {
+                LOGGER.error("{} failed to run its assignment", name, e);
+                DistributedMessage failed = DistributedMessage.of(DistributedMessage.Type.FAILED);
+                failed.workerIndex = assignment.workerIndex;
+                failed.error = String.valueOf(e);
+                channel.send(failed);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("{} lost the connection to coordinator {}", name, coordinator, e);
+            return false;
+        }
+    }
+
+    private static DistributedMessage runAssignment(LoadAssignment assignment, MessageChannel channel) {
+        LoadOptions options = LoadOptions.defaults()
+                .executionMode(ExecutionMode.valueOf(assignment.executionMode))
+                .transport(assignment.toTransport())
+                .awaitTimeout(Duration.ofMillis(assignment.awaitTimeoutMillis))
+                .bodySource(BodyCorpus.of(assignment.bodies));
+
+        ProfileResult result;
+        try (IntervalStatsReporter reporter = new IntervalStatsReporter(
+                Duration.ofMillis(assignment.reportIntervalMillis), stats -> sendInterval(channel, assignment, stats))) {
+            waitUntil(assignment.startAtEpochMillis);
+            reporter.start();
+            result = RestApiLoadUtils.runLoadProfile(assignment.url, null, assignment.toProfile(),
+                    assignment.expectedStatusCode, options.listener(reporter));
+        }
+
+        DistributedMessage message = DistributedMessage.of(DistributedMessage.Type.RESULT);
+        message.workerIndex = assignment.workerIndex;
+        message.stats = StatsSnapshot.from(result);
+        message.stages = result.stages.stream().map(StageResult::getResult).map(StatsSnapshot::from).toList();
+        return message;
+    }
+
+    private static void sendInterval(MessageChannel channel, LoadAssignment assignment, StatsSnapshot stats) {
+        DistributedMessage message = DistributedMessage.of(DistributedMessage.Type.INTERVAL);
+        message.workerIndex = assignment.workerIndex;
+        message.stats = stats;
+        try {
+            channel.send(message);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to stream interval stats to the coordinator", e);
+        }
+    }
+
+    private static void waitUntil(long epochMillis) {
+        long wait = epochMillis - System.currentTimeMillis();
+        if (wait > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
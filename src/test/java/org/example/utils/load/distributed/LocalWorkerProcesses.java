@@ -0,0 +1,83 @@
+package org.example.utils.load.distributed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts {@link LoadWorker}s as separate JVMs on this machine, with the current classpath. Each worker writes its
+ * console output to {@code target/load-workers/<name>.log}.
+ */
+public class LocalWorkerProcesses implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalWorkerProcesses.class);
+    private static final Path LOG_DIR = Path.of("target", "load-workers");
+    private static final int STOP_TIMEOUT = 10; // seconds
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Process> processes = new ArrayList<>();
+
+    private LocalWorkerProcesses() {
+    }
+
+    public static LocalWorkerProcesses start(int count, InetSocketAddress coordinator) {
+        LocalWorkerProcesses workers = new LocalWorkerProcesses();
+        try {
+            Files.createDirectories(LOG_DIR);
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            for (int i = 0; i < count; i++) {
+                String name = "worker-" + i;
+                ProcessBuilder builder = new ProcessBuilder(java,
+                        "-cp", System.getProperty("java.class.path"),
+                        LoadWorker.class.getName(),
+                        coordinator.getHostString(),
+                        String.valueOf(coordinator.getPort()),
+                        name)
+                        .redirectErrorStream(true)
+                        .redirectOutput(LOG_DIR.resolve(name + ".log").toFile());
+                workers.processes.add(builder.start());
+                workers.names.add(name);
+            }
+        } catch (IOException e) {
+            workers.close();
+            throw new UncheckedIOException("Failed to start local load workers", e);
+        }
+        LOGGER.info("Started {} local load worker processes", count);
+        return workers;
+    }
+
+    /**
+     * Describes the workers that have already exited, e.g. {@code "worker-1 (exit code 1)"}.
+     */
+    public List<String> exited() {
+        List<String> exited = new ArrayList<>();
+        for (int i = 0; i < processes.size(); i++) {
+            if (!processes.get(i).isAlive()) {
+                exited.add(names.get(i) + " (exit code " + processes.get(i).exitValue() + ")");
+            }
+        }
+        return exited;
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(STOP_TIMEOUT, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Load worker process {} did not exit; killing it", process.pid());
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.utils.load.distributed;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sends and receives {@link DistributedMessage}s as JSON Lines over one socket. Sending is synchronized, so a
+ * worker's interval reporter and its main thread can share the channel.
+ */
+class MessageChannel implements AutoCloseable {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final BufferedWriter writer;
+
+    MessageChannel(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    static MessageChannel connect(InetSocketAddress address, int timeoutMillis) throws IOException {
+        Socket socket = new Socket();
+        socket.connect(address, timeoutMillis);
+        return new MessageChannel(socket);
+    }
+
+    synchronized void send(DistributedMessage message) throws IOException {
+        writer.write(OBJECT_MAPPER.writeValueAsString(message));
+        writer.newLine();
+        writer.flush();
+    }
+
+    /**
+     * Blocks until the next message arrives.
+     *
+     * @throws EOFException when the other side closed the connection
+     */
+    DistributedMessage receive() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            throw new EOFException("Connection closed by " + socket.getRemoteSocketAddress());
+        }
+        return OBJECT_MAPPER.readValue(line, DistributedMessage.class);
+    }
+
+    void setReadTimeout(int timeoutMillis) throws IOException {
+        socket.setSoTimeout(timeoutMillis);
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Nothing left to release
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.utils.load.distributed;
+
+import org.HdrHistogram.Histogram;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.WorkerStats;
+
+import java.util.Map;
+
+/**
+ * Wire form of a worker's counters and latency histogram. The histogram is sent as compressed Base64, so
+ * percentiles merged on the coordinator are exact rather than averages of per-worker percentiles. Response-time
+ * totals are sent in nanoseconds, since stub and LAN latencies sit below a millisecond.
+ */
+public class StatsSnapshot {
+    public String histogram;
+    public int requests;
+    public int failures;
+    public long totalResponseNanos;
+    public long maxResponseNanos;
+    public long minResponseNanos;
+    public long elapsedNanos;
+    public long cpuTimeNanos;
+    /** Failures by cause; only sent with final results. */
+    public Map<String, Long> errors;
+
+    public static StatsSnapshot from(LoadTestResult result) {
+        StatsSnapshot snapshot = new StatsSnapshot();
+        snapshot.histogram = result.encodeHistogram();
+        snapshot.requests = result.totalRequests;
+        snapshot.failures = result.failedRequests;
+        snapshot.totalResponseNanos = result.totalResponseNanos;
+        snapshot.maxResponseNanos = result.maxResponseNanos;
+        snapshot.minResponseNanos = result.minResponseNanos;
+        snapshot.elapsedNanos = result.elapsedNanos;
+        snapshot.cpuTimeNanos = result.cpuTimeNanos;
+        snapshot.errors = result.errorBreakdown;
+        return snapshot;
+    }
+
+    public static StatsSnapshot interval(Histogram histogram, int requests, int failures, long elapsedNanos) {
+        StatsSnapshot snapshot = new StatsSnapshot();
+        snapshot.histogram = LoadTestResult.encodeHistogram(histogram);
+        snapshot.requests = requests;
+        snapshot.failures = failures;
+        snapshot.elapsedNanos = elapsedNanos;
+        return snapshot;
+    }
+
+    public WorkerStats toWorkerStats() {
+        WorkerStats stats = WorkerStats.restore(LoadTestResult.decodeHistogram(histogram), requests, failures,
+                totalResponseNanos, maxResponseNanos, minResponseNanos);
+        if (errors != null) {
+            stats.getErrorCounts().addAll(errors);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.utils.load.journal;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of a request journal file, shared by {@link RequestJournal} and {@link JournalReader}.
+ * <p>
+ * The file starts with a {@value #HEADER_BYTES}-byte header followed by a ring of fixed-size
+ * {@value #RECORD_BYTES}-byte records, all little-endian:
+ * <pre>
+ * header: magic(8) version(4) recordBytes(4) reserved(4) flags(4) startEpochMillis(8) recordsWritten(8)
+ *         capacityRecords(8) reserved(16)
+ * record: startOffsetNanos(8) latencyNanos(8) workerId(4) statusCode(4) operation(2) flags(2) reserved(4)
+ * </pre>
+ * Record start times are offsets from the journal's creation, which happened at {@code startEpochMillis}.
+ * Unused record slots are all zeros, so their valid flag is clear.
+ */
+class JournalFormat {
+    static final long MAGIC = 0x4C4F41444A524E4CL; // "LOADJRNL"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int RECORD_BYTES = 32;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int HEADER_VERSION = 8;
+    static final int HEADER_RECORD_BYTES = 12;
+    static final int HEADER_FLAGS = 20;
+    static final int HEADER_START_EPOCH_MILLIS = 24;
+    static final int HEADER_RECORDS_WRITTEN = 32;
+    static final int HEADER_CAPACITY_RECORDS = 40;
+
+    static final int RECORD_START = 0;
+    static final int RECORD_LATENCY = 8;
+    static final int RECORD_WORKER = 16;
+    static final int RECORD_STATUS = 20;
+    static final int RECORD_OPERATION = 24;
+    static final int RECORD_FLAGS = 26;
+
+    static final int FILE_WRAPPED = 1;
+    static final short RECORD_VALID = 1;
+    static final short RECORD_FAILED = 2;
+}
@@ -0,0 +1,194 @@
+package org.example.utils.load.journal;
+
+import org.HdrHistogram.Histogram;
+import org.example.utils.load.IntervalSnapshot;
+import org.example.utils.load.WorkerStats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.utils.load.journal.JournalFormat.*;
+
+/**
+ * Replays a journal written by {@link RequestJournal} to recompute latency histograms and time series after a run.
+ * Records are visited in file order, which is only roughly chronological: platform workers write theirs in batches.
+ */
+public class JournalReader {
+    private final ByteBuffer data;
+    private final long startEpochMillis;
+    private final boolean wrapped;
+    private final long slots;
+
+    private JournalReader(ByteBuffer data, long startEpochMillis, boolean wrapped, long slots) {
+        this.data = data;
+        this.startEpochMillis = startEpochMillis;
+        this.wrapped = wrapped;
+        this.slots = slots;
+    }
+
+    public static JournalReader read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(BYTE_ORDER);
+            if (data.limit() < HEADER_BYTES || data.getLong(0) != MAGIC) {
+                throw new IllegalArgumentException(path + " is not a request journal");
+            }
+            if (data.getInt(HEADER_VERSION) != VERSION || data.getInt(HEADER_RECORD_BYTES) != RECORD_BYTES) {
+                throw new IllegalArgumentException("Unsupported request journal version " + data.getInt(HEADER_VERSION)
+                        + " in " + path);
+            }
+            long slots = Math.min(data.getLong(HEADER_RECORDS_WRITTEN), data.getLong(HEADER_CAPACITY_RECORDS));
+            // A journal that was never closed has a zero record count, so fall back to whatever the file holds
+            long fileSlots = (data.limit() - HEADER_BYTES) / RECORD_BYTES;
+            slots = slots == 0 ? fileSlots : Math.min(slots, fileSlots);
+            return new JournalReader(data, data.getLong(HEADER_START_EPOCH_MILLIS),
+                    (data.getInt(HEADER_FLAGS) & FILE_WRAPPED) != 0, slots);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request journal " + path, e);
+        }
+    }
+
+    /**
+     * Returns when the journal was created, in epoch milliseconds; record start offsets are relative to it.
+     */
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * Returns true if the run outgrew the journal and its oldest requests were overwritten.
+     */
+    public boolean isWrapped() {
+        return wrapped;
+    }
+
+    public void forEach(RecordVisitor visitor) {
+        for (long slot = 0; slot < slots; slot++) {
+            int offset = (int) (HEADER_BYTES + slot * RECORD_BYTES);
+            short flags = data.getShort(offset + RECORD_FLAGS);
+            if ((flags & RECORD_VALID) == 0) {
+                continue;
+            }
+            visitor.visit(data.getLong(offset + RECORD_START), data.getLong(offset + RECORD_LATENCY),
+                    data.getInt(offset + RECORD_WORKER), data.getInt(offset + RECORD_STATUS),
+                    data.getShort(offset + RECORD_OPERATION), (flags & RECORD_FAILED) != 0);
+        }
+    }
+
+    public long recordCount() {
+        long[] count = new long[1];
+        forEach((start, latency, worker, status, operation, failed) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Recomputes the latency histogram of all requests, in microseconds like {@link WorkerStats#getHistogram()}.
+     */
+    public Histogram latencyHistogram() {
+        return latencyHistogram(-1);
+    }
+
+    /**
+     * Recomputes the latency histogram of one mixed-workload operation, or of all requests if {@code operation} is
+     * negative.
+     */
+    public Histogram latencyHistogram(int operation) {
+        Histogram histogram = WorkerStats.newHistogram();
+        forEach((start, latency, worker, status, op, failed) -> {
+            if (operation < 0 || op == operation) {
+                histogram.recordValue(toMicros(latency));
+            }
+        });
+        return histogram;
+    }
+
+    /**
+     * Rebuilds the per-interval metrics of the run, bucketing requests by completion time. Intervals without
+     * requests are kept, so stalls show up as gaps.
+     * <p>
+     * The records are sorted by interval first and the intervals are then summarized one after the other with a
+     * single histogram, so memory grows by 8 bytes per record and 16 per interval rather than by a histogram per
+     * interval, and even very short intervals over a long soak fit.
+     */
+    public List<IntervalSnapshot> timeSeries(Duration interval) {
+        long intervalNanos = interval.toNanos();
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + interval);
+        }
+        long[] range = {Long.MAX_VALUE, -1};
+        forEach((start, latency, worker, status, operation, failed) -> {
+            long index = intervalOf(start, latency, intervalNanos);
+            range[0] = Math.min(range[0], index);
+            range[1] = Math.max(range[1], index);
+        });
+        if (range[1] < 0) {
+            return List.of();
+        }
+        long first = range[0];
+        long intervalCount = range[1] - first + 1;
+        if (intervalCount > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("Interval " + interval + " splits this journal into too many intervals");
+        }
+
+        // Counting sort: offsets[i] is where the latencies of interval i start in the latencies array
+        int[] offsets = new int[(int) intervalCount + 1];
+        long[] errors = new long[(int) intervalCount];
+        forEach((start, latency, worker, status, operation, failed) -> {
+            int index = (int) (intervalOf(start, latency, intervalNanos) - first);
+            offsets[index + 1]++;
+            if (failed) {
+                errors[index]++;
+            }
+        });
+        for (int i = 0; i < intervalCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        long[] latencies = new long[offsets[(int) intervalCount]];
+        int[] next = Arrays.copyOf(offsets, (int) intervalCount);
+        forEach((start, latency, worker, status, operation, failed) ->
+                latencies[next[(int) (intervalOf(start, latency, intervalNanos) - first)]++] = toMicros(latency));
+
+        List<IntervalSnapshot> series = new ArrayList<>((int) intervalCount);
+        Histogram histogram = WorkerStats.newHistogram();
+        long intervalMillis = interval.toMillis();
+        for (int i = 0; i < intervalCount; i++) {
+            long end = startEpochMillis + TimeUnit.NANOSECONDS.toMillis((first + i + 1) * intervalNanos);
+            if (offsets[i] == offsets[i + 1]) {
+                series.add(new IntervalSnapshot(end, intervalMillis, 0, 0, 0, 0, 0, 0));
+                continue;
+            }
+            histogram.reset();
+            for (int r = offsets[i]; r < offsets[i + 1]; r++) {
+                histogram.recordValue(latencies[r]);
+            }
+            series.add(new IntervalSnapshot(end, intervalMillis, histogram.getTotalCount(), errors[i],
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99), histogram.getMaxValue()));
+        }
+        return series;
+    }
+
+    private static long intervalOf(long startOffsetNanos, long latencyNanos, long intervalNanos) {
+        return Math.max(startOffsetNanos + latencyNanos, 0) / intervalNanos;
+    }
+
+    private static long toMicros(long latencyNanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 0), WorkerStats.HIGHEST_TRACKABLE_MICROS);
+    }
+
+    @FunctionalInterface
+    public interface RecordVisitor {
+        /**
+         * @param startOffsetNanos when the request started, relative to the journal's creation
+         */
+        void visit(long startOffsetNanos, long latencyNanos, int workerId, int statusCode, int operation, boolean failed);
+    }
+}
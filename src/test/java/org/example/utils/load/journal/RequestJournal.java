@@ -0,0 +1,247 @@
+package org.example.utils.load.journal;
+
+import org.example.utils.load.RequestListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.example.utils.load.journal.JournalFormat.*;
+
+/**
+ * Records every request of a load run as a fixed-size binary record in a memory-mapped file, so that stalls and
+ * blips hidden by the aggregates can be found afterwards with {@link JournalReader}.
+ * <p>
+ * Nothing in the request path locks, allocates or formats strings. Each worker index the engine reports appends
+ * to its own small heap buffer and copies it into the file {@value #BATCH_RECORDS} records at a time, claiming the
+ * space with one atomic add. Buffers follow the worker index rather than the thread, so a closed-loop virtual user
+ * batches like a platform worker, and an open-loop slot keeps its buffer across the virtual threads that take it in
+ * turn. A request whose worker's buffer is in use elsewhere, e.g. one reported without a worker index, claims one
+ * slot and writes its record straight into the mapping. The operating system writes the pages back in the
+ * background. When the file is full it wraps around like a ring and overwrites the oldest records, so a long soak
+ * keeps its most recent {@code maxRecords} requests.
+ * <p>
+ * {@link #close()} flushes the buffers of all workers and must only be called once the run has finished.
+ */
+public class RequestJournal implements RequestListener, AutoCloseable {
+    public static final int BATCH_RECORDS = 128;
+    public static final long DEFAULT_MAX_RECORDS = 4L << 20;
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestJournal.class);
+    private static final long MAX_RECORDS = (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final long capacityRecords;
+    private final long startNanos = System.nanoTime();
+    private final long startEpochMillis = System.currentTimeMillis();
+    private final AtomicLong nextRecord = new AtomicLong();
+    private final Queue<WorkerBuffer> buffers = new ConcurrentLinkedQueue<>();
+    // Indexed by worker; grown under the journal's lock, read without it
+    private volatile WorkerBuffer[] workerBuffers = new WorkerBuffer[64];
+    private volatile boolean closed;
+
+    private RequestJournal(Path path, FileChannel channel, MappedByteBuffer mapped, long capacityRecords) {
+        this.path = path;
+        this.channel = channel;
+        this.mapped = mapped;
+        this.capacityRecords = capacityRecords;
+    }
+
+    public static RequestJournal create(Path path) {
+        return create(path, DEFAULT_MAX_RECORDS);
+    }
+
+    /**
+     * Creates or replaces the journal at {@code path}, keeping at most the last {@code maxRecords} requests. The
+     * file is sparse and trimmed on close, so unused capacity costs no disk space.
+     */
+    public static RequestJournal create(Path path, long maxRecords) {
+        if (maxRecords <= 0 || maxRecords > MAX_RECORDS) {
+            throw new IllegalArgumentException("A journal holds between 1 and " + MAX_RECORDS + " records: " + maxRecords);
+        }
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + maxRecords * RECORD_BYTES);
+            mapped.order(BYTE_ORDER);
+            RequestJournal journal = new RequestJournal(path, channel, mapped, maxRecords);
+            journal.writeHeader(0, false);
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create request journal " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void onRequestComplete(long startNanos, long latencyNanos, int statusCode, boolean failed) {
+        onRequestComplete(0, startNanos, latencyNanos, statusCode, failed);
+    }
+
+    @Override
+    public void onRequestComplete(int operation, long startNanos, long latencyNanos, int statusCode, boolean failed) {
+        onRequestComplete(0, operation, startNanos, latencyNanos, statusCode, failed);
+    }
+
+    @Override
+    public void onRequestComplete(int workerId, int operation, long startNanos, long latencyNanos, int statusCode,
+                                  boolean failed) {
+        if (closed) {
+            return;
+        }
+        short flags = failed ? (short) (RECORD_VALID | RECORD_FAILED) : RECORD_VALID;
+        WorkerBuffer buffer = workerId < 0 ? null : bufferOf(workerId);
+        if (buffer == null || !buffer.busy.compareAndSet(false, true)) {
+            int offset = recordOffset(nextRecord.getAndIncrement());
+            putRecord(mapped, offset, startNanos - this.startNanos, latencyNanos, workerId, statusCode, operation, flags);
+            return;
+        }
+        try {
+            buffer.append(startNanos - this.startNanos, latencyNanos, workerId, statusCode, operation, flags);
+            if (buffer.isFull()) {
+                flush(buffer);
+            }
+        } finally {
+            buffer.busy.set(false);
+        }
+    }
+
+    /**
+     * Copies every worker's pending records into the file, writes the final header and releases the file.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (WorkerBuffer buffer : buffers) {
+            if (buffer.size() > 0) {
+                flush(buffer);
+            }
+        }
+        long recordsWritten = nextRecord.get();
+        boolean wrapped = recordsWritten > capacityRecords;
+        writeHeader(recordsWritten, wrapped);
+        mapped.force();
+        try {
+            if (!wrapped) {
+                channel.truncate(HEADER_BYTES + recordsWritten * RECORD_BYTES);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not trim request journal {}", path, e);
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close request journal {}", path, e);
+            }
+        }
+        LOGGER.info("Request journal {} holds {} requests{}", path, Math.min(recordsWritten, capacityRecords),
+                wrapped ? ", the oldest " + (recordsWritten - capacityRecords) + " were overwritten" : "");
+    }
+
+    private WorkerBuffer bufferOf(int workerId) {
+        WorkerBuffer[] current = workerBuffers;
+        WorkerBuffer buffer = workerId < current.length ? current[workerId] : null;
+        return buffer != null ? buffer : newWorkerBuffer(workerId);
+    }
+
+    private synchronized WorkerBuffer newWorkerBuffer(int workerId) {
+        WorkerBuffer[] current = workerBuffers;
+        if (workerId >= current.length) {
+            current = Arrays.copyOf(current, Math.max(workerId + 1, current.length * 2));
+        }
+        WorkerBuffer buffer = current[workerId];
+        if (buffer == null) {
+            buffer = new WorkerBuffer();
+            buffers.add(buffer);
+            current[workerId] = buffer;
+        }
+        workerBuffers = current;
+        return buffer;
+    }
+
+    private void flush(WorkerBuffer buffer) {
+        ByteBuffer records = buffer.records.flip();
+        int count = records.remaining() / RECORD_BYTES;
+        long first = nextRecord.getAndAdd(count);
+        // The batch may straddle the end of the ring, in which case it is copied in two parts
+        int head = (int) Math.min(count, capacityRecords - first % capacityRecords);
+        copy(records, 0, recordOffset(first), head);
+        if (head < count) {
+            copy(records, head, recordOffset(first + head), count - head);
+        }
+        records.clear();
+    }
+
+    private void copy(ByteBuffer records, int fromRecord, int offset, int count) {
+        // Absolute bulk put, so workers can copy into disjoint regions at the same time
+        mapped.put(offset, records, fromRecord * RECORD_BYTES, count * RECORD_BYTES);
+    }
+
+    private int recordOffset(long record) {
+        return (int) (HEADER_BYTES + (record % capacityRecords) * RECORD_BYTES);
+    }
+
+    private void writeHeader(long recordsWritten, boolean wrapped) {
+        mapped.putLong(0, MAGIC);
+        mapped.putInt(HEADER_VERSION, VERSION);
+        mapped.putInt(HEADER_RECORD_BYTES, RECORD_BYTES);
+        mapped.putInt(HEADER_FLAGS, wrapped ? FILE_WRAPPED : 0);
+        mapped.putLong(HEADER_START_EPOCH_MILLIS, startEpochMillis);
+        mapped.putLong(HEADER_RECORDS_WRITTEN, recordsWritten);
+        mapped.putLong(HEADER_CAPACITY_RECORDS, capacityRecords);
+    }
+
+    private static void putRecord(ByteBuffer target, int offset, long startOffsetNanos, long latencyNanos, int workerId,
+                                  int statusCode, int operation, short flags) {
+        target.putLong(offset + RECORD_START, startOffsetNanos);
+        target.putLong(offset + RECORD_LATENCY, latencyNanos);
+        target.putInt(offset + RECORD_WORKER, workerId);
+        target.putInt(offset + RECORD_STATUS, statusCode);
+        target.putShort(offset + RECORD_OPERATION, (short) operation);
+        target.putShort(offset + RECORD_FLAGS, flags);
+    }
+
+    /**
+     * A batch of records owned by one worker index. {@code busy} is only contended when two requests report the same
+     * worker at once.
+     */
+    private static final class WorkerBuffer {
+        private final ByteBuffer records = ByteBuffer.allocate(BATCH_RECORDS * RECORD_BYTES).order(BYTE_ORDER);
+        private final AtomicBoolean busy = new AtomicBoolean();
+
+        void append(long startOffsetNanos, long latencyNanos, int workerId, int statusCode, int operation, short flags) {
+            putRecord(records, records.position(), startOffsetNanos, latencyNanos, workerId, statusCode, operation, flags);
+            records.position(records.position() + RECORD_BYTES);
+        }
+
+        int size() {
+            return records.position() / RECORD_BYTES;
+        }
+
+        boolean isFull() {
+            return !records.hasRemaining();
+        }
+    }
+}
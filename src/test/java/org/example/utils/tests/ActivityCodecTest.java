@@ -0,0 +1,75 @@
+package org.example.utils.tests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.data.TestDataFactory;
+import org.example.pojo.Activity;
+import org.example.pojo.ActivityCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActivityCodecTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void testEncodingMatchesObjectMapperByteForByte() throws Exception {
+        List<Activity> activities = List.of(
+                TestDataFactory.createSampleActivity(),
+                TestDataFactory.createActivity(2),
+                new Activity(-7, "Quotes \" and \\ and \n and é ☃", null, true),
+                new Activity(Integer.MAX_VALUE, null, "", false));
+
+        for (Activity activity : activities) {
+            byte[] expected = OBJECT_MAPPER.writeValueAsBytes(activity);
+            assertArrayEquals(expected, ActivityCodec.encode(activity), activity.toString());
+            assertEquals(new String(expected, StandardCharsets.UTF_8), activity.serialize());
+            assertEquals(activity, ActivityCodec.decode(expected));
+            assertEquals(activity, Activity.deserialize(activity.serialize()));
+        }
+    }
+
+    @Test
+    void testStreamsAndListsRoundTrip() throws Exception {
+        Activity activity = TestDataFactory.createActivity(9);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        ActivityCodec.encode(activity, out);
+        out.write(']');
+
+        byte[] json = out.toByteArray();
+        assertEquals(activity, ActivityCodec.decode(json, 1, json.length - 2));
+        assertEquals(activity, ActivityCodec.decode(new ByteArrayInputStream(json, 1, json.length - 2)));
+
+        List<Activity> list = IntStream.rangeClosed(1, 5).mapToObj(TestDataFactory::createActivity).toList();
+        assertEquals(list, ActivityCodec.decodeList(OBJECT_MAPPER.writeValueAsBytes(list)));
+    }
+
+    @Test
+    void testDecodingIgnoresUnknownFieldsAndRejectsMalformedJson() {
+        byte[] json = ("{\"extra\":{\"nested\":[1,2]},\"id\":4,\"title\":\"Activity 4\","
+                + "\"dueDate\":\"2024-07-30T11:58:38.538Z\",\"completed\":true,\"tags\":[]}").getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(new Activity(4, "Activity 4", "2024-07-30T11:58:38.538Z", true), Activity.fromJson(json));
+        assertThrows(UncheckedIOException.class, () -> ActivityCodec.decode("[1]"));
+        assertThrows(UncheckedIOException.class, () -> ActivityCodec.decode("{\"id\":1"));
+        assertThrows(RuntimeException.class, () -> Activity.deserialize("not json"));
+    }
+
+    @Test
+    void testDecodingRejectsFieldsOfTheWrongType() {
+        for (String json : List.of("{\"id\":\"abc\"}", "{\"id\":1.9}", "{\"id\":\"4\"}", "{\"id\":4294967296}",
+                "{\"completed\":\"yes\"}", "{\"completed\":1}", "{\"title\":{}}", "{\"dueDate\":[]}")) {
+            assertThrows(UncheckedIOException.class, () -> ActivityCodec.decode(json), json);
+        }
+        assertEquals(new Activity(0, null, null, false),
+                ActivityCodec.decode("{\"title\":null,\"dueDate\":null}"));
+    }
+}
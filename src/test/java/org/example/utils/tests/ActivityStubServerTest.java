@@ -0,0 +1,110 @@
+package org.example.utils.tests;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.example.pojo.Activity;
+import org.example.stub.ActivityStubServer;
+import org.example.stub.LatencyDistribution;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.RestApiUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActivityStubServerTest {
+
+    private ActivityStubServer stub;
+
+    @AfterEach
+    void tearDown() {
+        if (stub != null) {
+            stub.close();
+        }
+        RestApiUtils.resetBaseUrl();
+    }
+
+    @Test
+    void testRestApiUtilsCanPointAtTheStub() {
+        stub = new ActivityStubServer().start();
+        RestApiUtils.setBaseUrl(stub.getBaseUrl());
+
+        Response list = RestApiUtils.performGetRequest(RestApiUtils.ACTIVITIES);
+        assertEquals(200, list.getStatusCode());
+        List<Object> activities = list.jsonPath().getList("$");
+        assertEquals(ActivityStubServer.ACTIVITY_COUNT, activities.size());
+
+        Response single = RestAssured.get(RestApiUtils.ACTIVITIES_BY_ID.getUrlWithParams("7"));
+        assertEquals(200, single.getStatusCode());
+        assertEquals(7, Activity.deserialize(single.getBody().asString()).getId());
+
+        assertEquals(404, RestAssured.get(RestApiUtils.ACTIVITIES_BY_ID.getUrlWithParams("999")).getStatusCode());
+    }
+
+    @Test
+    void testPostEchoesTheActivity() {
+        stub = new ActivityStubServer().start();
+        Activity activity = new Activity(3, "Posted", "2024-07-30T11:58:38.538Z", true);
+
+        Response response = RestAssured.given()
+                .contentType("application/json")
+                .body(activity.serialize())
+                .post(stub.getUrl("/Activities"));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(activity, Activity.deserialize(response.getBody().asString()));
+    }
+
+    @Test
+    void testResetRestoresTheDefaultBaseUrl() {
+        RestApiUtils.setBaseUrl("http://127.0.0.1:1/api/v1");
+        assertEquals("http://127.0.0.1:1/api/v1/Activities", RestApiUtils.ACTIVITIES.getUrl());
+
+        RestApiUtils.resetBaseUrl();
+        assertEquals(RestApiUtils.DEFAULT_BASE_URL + "/Activities", RestApiUtils.ACTIVITIES.getUrl());
+    }
+
+    @Test
+    void testInjectedErrorsShowUpInLoadResults() {
+        stub = new ActivityStubServer().errorRate(0.25).start();
+
+        RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTest(stub.getUrl("/Activities"),
+                () -> "{}", 4, 100, 200);
+
+        assertEquals(400, result.totalRequests);
+        assertEquals(stub.getInjectedErrorCount(), result.failedRequests);
+        assertTrue(result.failedRequests > 50 && result.failedRequests < 150,
+                "Unexpected number of injected errors: " + result.failedRequests);
+        assertFalse(result.success);
+    }
+
+    @Test
+    void testInjectedLatencyIsAddedToResponses() {
+        stub = new ActivityStubServer().latency(LatencyDistribution.fixed(Duration.ofMillis(100))).start();
+
+        RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTest(stub.getUrl("/Activities"),
+                () -> "{}", 2, 3, 200);
+
+        assertTrue(result.success);
+        assertTrue(result.minResponseTime >= 100, "Min response time was " + result.minResponseTime + " ms");
+    }
+
+    @Test
+    void testLogNormalLatencyMatchesMedianAndP99() {
+        LatencyDistribution latency = LatencyDistribution.logNormal(Duration.ofMillis(10), Duration.ofMillis(80));
+        Random random = new Random(42);
+        long[] samples = new long[100_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = latency.sampleNanos(random);
+        }
+        Arrays.sort(samples);
+
+        assertEquals(10.0, samples[samples.length / 2] / 1e6, 0.5);
+        assertEquals(80.0, samples[samples.length * 99 / 100] / 1e6, 6.0);
+    }
+}
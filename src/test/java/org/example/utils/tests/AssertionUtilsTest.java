@@ -0,0 +1,57 @@
+package org.example.utils.tests;
+
+import org.example.utils.AssertionUtils;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.WorkerStats;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssertionUtilsTest {
+
+    @Test
+    void testPercentileAssertion() {
+        LoadTestResult result = newResult(99, 1, 10);
+
+        AssertionUtils.assertPercentileBelow(result, 50, 11);
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> AssertionUtils.assertPercentileBelow(result, 99.9, 5));
+        assertTrue(error.getMessage().startsWith("p99.9 response time is 10"), error.getMessage());
+    }
+
+    @Test
+    void testThroughputAssertion() {
+        LoadTestResult result = newResult(400, 0, 1);
+
+        AssertionUtils.assertThroughputAtLeast(result, 400);
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> AssertionUtils.assertThroughputAtLeast(result, 401));
+        assertTrue(error.getMessage().startsWith("Throughput is 400.0 requests per second, expected at least 401"),
+                error.getMessage());
+    }
+
+    @Test
+    void testErrorRateAssertion() {
+        LoadTestResult result = newResult(995, 5, 1);
+
+        AssertionUtils.assertErrorRateBelow(result, 0.6);
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> AssertionUtils.assertErrorRateBelow(result, 0.5));
+        assertTrue(error.getMessage().contains("0.500% (5 of 1000 requests; HTTP 503 x5)"), error.getMessage());
+        assertThrows(AssertionFailedError.class, () -> AssertionUtils.assertErrorRateBelow(newResult(0, 0, 1), 1));
+    }
+
+    private static LoadTestResult newResult(int successes, int failures, long failureLatencyMillis) {
+        WorkerStats stats = new WorkerStats();
+        for (int i = 0; i < successes; i++) {
+            stats.recordResponse(TimeUnit.MILLISECONDS.toNanos(1), 200, false);
+        }
+        for (int i = 0; i < failures; i++) {
+            stats.recordResponse(TimeUnit.MILLISECONDS.toNanos(failureLatencyMillis), 503, true);
+        }
+        return new LoadTestResult(failures == 0, stats, "jdk", TimeUnit.SECONDS.toNanos(1), 0);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.utils.tests;
+
+import org.example.data.TestDataFactory;
+import org.example.pojo.Activity;
+import org.example.utils.load.BodyCorpus;
+import org.example.utils.load.BodySource;
+import org.example.utils.load.LoadOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BodyCorpusTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testBodiesAreHandedOutInRotation() {
+        BodyCorpus corpus = BodyCorpus.of(List.of("a", "b", "c"));
+
+        StringBuilder sequence = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            sequence.append(new String(corpus.next(), StandardCharsets.UTF_8));
+        }
+        assertEquals("abcabca", sequence.toString());
+    }
+
+    @Test
+    void testSameArrayIsReusedWithoutAllocation() {
+        BodyCorpus corpus = BodyCorpus.generate(4, i -> "{\"id\":" + i + "}");
+
+        byte[] first = corpus.next();
+        for (int i = 0; i < 3; i++) {
+            corpus.next();
+        }
+        assertSame(first, corpus.next());
+        assertEquals(4, corpus.size());
+        assertEquals(4 * "{\"id\":0}".length(), corpus.totalBytes());
+    }
+
+    @Test
+    void testConcurrentWorkersGetEveryBodyEqually() throws InterruptedException {
+        BodyCorpus corpus = BodyCorpus.generate(16, i -> TestDataFactory.createActivity(i).serialize());
+        ConcurrentHashMap<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 1600; i++) {
+                    String body = new String(corpus.next(), StandardCharsets.UTF_8);
+                    counts.computeIfAbsent(body, key -> new AtomicInteger()).incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(16, counts.size());
+        counts.values().forEach(count -> assertEquals(400, count.get()));
+        Set<Integer> ids = new HashSet<>();
+        counts.keySet().forEach(body -> ids.add(Activity.deserialize(body).getId()));
+        assertEquals(16, ids.size());
+    }
+
+    @Test
+    void testCorpusLoadsJsonLinesSkippingBlankLines() throws Exception {
+        Path file = tempDir.resolve("bodies.jsonl");
+        Files.write(file, List.of("{\"id\":1}", "", "{\"id\":2}"));
+
+        BodyCorpus corpus = BodyCorpus.fromJsonLines(file);
+
+        assertEquals(2, corpus.size());
+        assertEquals("{\"id\":1}", new String(corpus.next(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testSupplierRemainsTheFallback() {
+        BodySource source = LoadOptions.defaults().getBodySource(() -> "{}");
+        assertArrayEquals("{}".getBytes(StandardCharsets.UTF_8), source.next());
+
+        BodyCorpus corpus = BodyCorpus.of(List.of("x"));
+        assertSame(corpus, LoadOptions.defaults().bodySource(corpus).getBodySource(() -> "{}"));
+        assertThrows(IllegalArgumentException.class, () -> LoadOptions.defaults().getBodySource(null));
+        assertThrows(IllegalArgumentException.class, () -> BodyCorpus.of(List.of()));
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.utils.tests;
+
+import org.example.stub.ActivityStubServer;
+import org.example.stub.LatencyDistribution;
+import org.example.utils.BulkFetch;
+import org.example.utils.RestApiUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkFetchTest {
+
+    private ActivityStubServer stub;
+
+    @AfterEach
+    void stopStub() {
+        RestApiUtils.resetBaseUrl();
+        stub.close();
+    }
+
+    private void startStub(Duration latency) {
+        stub = new ActivityStubServer().latency(LatencyDistribution.fixed(latency)).start();
+        RestApiUtils.setBaseUrl(stub.getBaseUrl());
+    }
+
+    @Test
+    void testFetchAllRunsInParallelAndKeepsIdOrder() {
+        startStub(Duration.ofMillis(50));
+        List<String> ids = IntStream.rangeClosed(1, 30).mapToObj(String::valueOf).toList();
+
+        long start = System.nanoTime();
+        List<BulkFetch.Result> results = BulkFetch.fetchAll(RestApiUtils.ACTIVITIES_BY_ID, ids, 10);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(ids, results.stream().map(result -> result.id).toList());
+        assertTrue(results.stream().allMatch(result -> result.isOk(200)));
+        assertEquals(15, results.get(14).response.jsonPath().getInt("id"));
+        // Three waves of ten, where one at a time would take 30 x 50 ms
+        assertTrue(elapsedMillis >= 150, "Parallelism was not bounded: " + elapsedMillis + " ms");
+        assertTrue(elapsedMillis < 1_000, "Requests did not overlap: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testFailedIdsAreReportedPerId() {
+        startStub(Duration.ZERO);
+
+        Map<String, CompletableFuture<BulkFetch.Result>> futures =
+                BulkFetch.fetchAsync(RestApiUtils.ACTIVITIES_BY_ID, List.of("1", "404", "2", "1"), 2);
+
+        assertEquals(List.of("1", "404", "2"), List.copyOf(futures.keySet()));
+        BulkFetch.Result missing = futures.get("404").join();
+        assertFalse(missing.isOk(200));
+        assertEquals("404 (status 404)", missing.toString());
+        assertTrue(futures.get("2").join().isOk(200));
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkFetch.fetchAsync(RestApiUtils.ACTIVITIES_BY_ID, List.of("1"), 0));
+    }
+}
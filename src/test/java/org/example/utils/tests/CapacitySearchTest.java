@@ -0,0 +1,113 @@
+package org.example.utils.tests;
+
+import org.example.stub.ActivityStubServer;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.CapacitySearch;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.Slo;
+import org.example.utils.load.WorkerStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CapacitySearchTest {
+
+    private static final Slo SLO = Slo.p99Below(Duration.ofMillis(300), 0.001);
+
+    /**
+     * Simulates a server that answers in 10 ms up to {@code capacity} users and in 500 ms beyond it.
+     */
+    private static LoadTestResult simulatedProbe(int level, int capacity) {
+        WorkerStats stats = new WorkerStats();
+        long latency = TimeUnit.MILLISECONDS.toNanos(level <= capacity ? 10 : 500);
+        for (int i = 0; i < level * 10; i++) {
+            stats.recordResponse(latency, false);
+        }
+        return new LoadTestResult(true, stats, "simulated", TimeUnit.SECONDS.toNanos(1), 0);
+    }
+
+    @Test
+    void testSloReportsWhatWasBroken() {
+        assertNull(SLO.violation(simulatedProbe(5, 10)));
+        assertTrue(SLO.violation(simulatedProbe(20, 10)).startsWith("p99 500."));
+
+        WorkerStats stats = new WorkerStats();
+        stats.recordResponse(TimeUnit.MILLISECONDS.toNanos(1), false);
+        stats.recordResponse(TimeUnit.MILLISECONDS.toNanos(1), true);
+        assertTrue(SLO.violation(new LoadTestResult(false, stats)).startsWith("error rate 50.00%"));
+        assertEquals("no requests completed", SLO.violation(new LoadTestResult(false, new WorkerStats())));
+    }
+
+    @Test
+    void testBinarySearchConvergesOnCapacity() {
+        CapacitySearch.Result result = new CapacitySearch(SLO, CapacitySearch.Mode.USERS)
+                .levels(1, 200)
+                .maxProbes(20)
+                .search(level -> simulatedProbe(level, 37));
+
+        assertEquals(37, result.getMaxSustainableLevel());
+        assertEquals(370.0, result.getMaxSustainableThroughput(), 0.001);
+        assertTrue(result.probes.size() <= 12, "Expected a logarithmic number of probes, got " + result.probes.size());
+    }
+
+    @Test
+    void testAimdConvergesOnCapacity() {
+        CapacitySearch.Result result = new CapacitySearch(SLO, CapacitySearch.Mode.USERS)
+                .levels(1, 200)
+                .aimd(5, 0.5)
+                .maxProbes(30)
+                .search(level -> simulatedProbe(level, 37));
+
+        assertEquals(CapacitySearch.Strategy.AIMD, new CapacitySearch(SLO, CapacitySearch.Mode.USERS)
+                .aimd(5, 0.5).getStrategy());
+        assertEquals(37, result.getMaxSustainableLevel());
+        assertTrue(result.probes.stream().filter(probe -> !probe.passed()).count() >= 1);
+    }
+
+    @Test
+    void testSearchStopsAtTheLevelLimits() {
+        CapacitySearch.Result unbounded = new CapacitySearch(SLO, CapacitySearch.Mode.USERS)
+                .levels(1, 50)
+                .search(level -> simulatedProbe(level, 1000));
+        assertEquals(50, unbounded.getMaxSustainableLevel());
+
+        CapacitySearch.Result overloaded = new CapacitySearch(SLO, CapacitySearch.Mode.USERS)
+                .levels(4, 50)
+                .search(level -> simulatedProbe(level, 1));
+        assertFalse(overloaded.foundSustainableLevel());
+        assertEquals(1, overloaded.probes.size());
+        assertEquals(0, overloaded.getMaxSustainableThroughput());
+    }
+
+    @Test
+    void testArrivalRateProbesAreOpenLoop() {
+        CapacitySearch search = new CapacitySearch(SLO, CapacitySearch.Mode.ARRIVAL_RATE)
+                .levels(10, 500)
+                .probeDuration(Duration.ofSeconds(3));
+
+        assertTrue(search.probeProfile(120).hasArrivalRateStages());
+        assertEquals(Duration.ofSeconds(3), search.probeProfile(120).getTotalDuration());
+    }
+
+    @Test
+    void testSearchAgainstTheStub() {
+        try (ActivityStubServer stub = new ActivityStubServer().start()) {
+            CapacitySearch search = new CapacitySearch(SLO, CapacitySearch.Mode.USERS)
+                    .levels(1, 4)
+                    .probeDuration(Duration.ofSeconds(1))
+                    .warmUp(Duration.ofMillis(500));
+
+            CapacitySearch.Result result = RestApiLoadUtils.runCapacitySearch(stub.getUrl("/Activities"),
+                    () -> "{}", 200, search, LoadOptions.defaults().transport(LoadTransport.forName("jdk")));
+
+            assertEquals(3, result.probes.size());
+            assertEquals(4, result.getMaxSustainableLevel());
+            assertTrue(result.getMaxSustainableThroughput() > 0);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.utils.tests;
+
+import org.example.stub.ActivityStubServer;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.balancing.BalancingPolicy;
+import org.example.utils.balancing.BalancingTransport;
+import org.example.utils.balancing.EndpointRegistry;
+import org.example.utils.load.ExecutionMode;
+import org.example.utils.load.JdkHttpTransport;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadProfile;
+import org.example.utils.load.LoadStage;
+import org.example.utils.load.ResponseValidators;
+import org.example.utils.load.WorkerStats;
+import org.example.utils.load.distributed.LoadAssignment;
+import org.example.utils.load.distributed.LoadCoordinator;
+import org.example.utils.load.distributed.LoadWorker;
+import org.example.utils.load.distributed.StatsSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistributedLoadTest {
+
+    private ActivityStubServer stub;
+
+    @BeforeEach
+    void startStub() {
+        stub = new ActivityStubServer().start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    void testProfileSlicesAddUpToTheWholeProfile() {
+        LoadProfile profile = new LoadProfile("split")
+                .stage(LoadStage.rampUsers(1, 10, Duration.ofSeconds(5)))
+                .stage(LoadStage.rate(7, Duration.ofSeconds(5)))
+                .maxConcurrency(5);
+
+        List<LoadProfile> slices = List.of(profile.slice(0, 3), profile.slice(1, 3), profile.slice(2, 3));
+
+        assertEquals(10, slices.stream().mapToInt(slice -> slice.getStages().get(0).getTo()).sum());
+        assertEquals(1, slices.stream().mapToInt(slice -> slice.getStages().get(0).getFrom()).sum());
+        assertEquals(7, slices.stream().mapToInt(slice -> slice.getStages().get(1).getTo()).sum());
+        slices.forEach(slice -> assertEquals(profile.getTotalDuration(), slice.getTotalDuration()));
+        assertEquals(List.of(2, 2, 1), slices.stream().map(LoadProfile::getMaxConcurrency).toList());
+    }
+
+    @Test
+    void testStatsSnapshotRoundTripKeepsTheHistogram() {
+        WorkerStats stats = new WorkerStats();
+        for (int i = 1; i <= 100; i++) {
+            stats.recordResponse(i * 1_000_000L, i % 10 == 0);
+        }
+        RestApiLoadUtils.LoadTestResult result = new RestApiLoadUtils.LoadTestResult(false, stats);
+
+        WorkerStats restored = StatsSnapshot.from(result).toWorkerStats();
+
+        assertEquals(100, restored.getRequests());
+        assertEquals(10, restored.getFailures());
+        assertEquals(stats.getHistogram(), restored.getHistogram());
+        assertEquals(1_000_000L, restored.getMinResponseNanos());
+    }
+
+    @Test
+    void testStatsSnapshotKeepsSubMillisecondTotals() {
+        WorkerStats stats = new WorkerStats();
+        stats.recordResponse(250_000L, false);
+        stats.recordResponse(750_000L, false);
+
+        WorkerStats restored = StatsSnapshot.from(new RestApiLoadUtils.LoadTestResult(true, stats)).toWorkerStats();
+
+        assertEquals(1_000_000L, restored.getTotalResponseNanos());
+        assertEquals(750_000L, restored.getMaxResponseNanos());
+        assertEquals(250_000L, restored.getMinResponseNanos());
+    }
+
+    @Test
+    void testAssignmentKeepsTheBalancing() {
+        EndpointRegistry registry = EndpointRegistry.of(List.of("http://node1/api", "http://node2/api"),
+                BalancingPolicy.EWMA);
+        LoadAssignment assignment = new LoadAssignment();
+        assignment.useTransport(registry.balance(JdkHttpTransport.shared()));
+
+        BalancingTransport transport = assertInstanceOf(BalancingTransport.class, assignment.toTransport());
+
+        assertSame(JdkHttpTransport.shared(), transport.getDelegate());
+        assertEquals(BalancingPolicy.EWMA, transport.getRegistry().getPolicy());
+        assertEquals("http://node2/api", transport.getRegistry().getNodes().get(1).getBaseUrl());
+    }
+
+    @Test
+    void testCoordinatorRejectsOptionsThatOnlyExistLocally() {
+        LoadProfile profile = new LoadProfile("rate").stage(LoadStage.rate(1, Duration.ofSeconds(1)));
+        LoadOptions options = LoadOptions.defaults().validator(ResponseValidators.fieldMatchesRequest("id"), 1.0);
+
+        try (LoadCoordinator coordinator = LoadCoordinator.onLoopback()) {
+            assertThrows(IllegalArgumentException.class, () -> coordinator.run(stub.getUrl("/Activities"), profile,
+                    List.of("{\"id\":1}"), 200, 1, options));
+        }
+    }
+
+    @Test
+    void testInProcessWorkersAreMergedIntoOneResult() throws Exception {
+        LoadProfile profile = new LoadProfile("rate").stage(LoadStage.rate(40, Duration.ofSeconds(1)));
+        LoadOptions options = LoadOptions.defaults().transport(JdkHttpTransport.shared())
+                .executionMode(ExecutionMode.VIRTUAL_THREADS);
+
+        try (LoadCoordinator coordinator = LoadCoordinator.onLoopback()) {
+            CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> LoadWorker.run(coordinator.getAddress(), "a"));
+            CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> LoadWorker.run(coordinator.getAddress(), "b"));
+
+            RestApiLoadUtils.ProfileResult result = coordinator.run(stub.getUrl("/Activities"), profile,
+                    List.of("{\"id\":1}"), 200, 2, options);
+
+            assertTrue(first.get() && second.get());
+            assertTrue(result.success);
+            assertEquals(40, result.totalRequests, 2);
+            assertEquals(result.totalRequests, result.latencyHistogram.getTotalCount());
+            assertEquals(result.totalRequests, result.stages.getFirst().getResult().totalRequests);
+            assertEquals(result.totalRequests, coordinator.getLiveStats().getRequests());
+        }
+    }
+
+    @Test
+    void testWorkerProcessesOnLocalhost() {
+        LoadProfile profile = new LoadProfile("rate").stage(LoadStage.rate(30, Duration.ofSeconds(2)));
+
+        RestApiLoadUtils.ProfileResult result = RestApiLoadUtils.runDistributedLoadProfile(stub.getUrl("/Activities"),
+                () -> "{\"id\":1}", profile, 200, 2, LoadOptions.defaults().transport(JdkHttpTransport.shared()));
+
+        assertTrue(result.success);
+        assertEquals(60, result.totalRequests, 3);
+        assertEquals(stub.getRequestCount(), result.totalRequests);
+        assertTrue(result.cpuTimeNanos > 0);
+    }
+}
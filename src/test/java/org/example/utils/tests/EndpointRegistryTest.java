@@ -0,0 +1,126 @@
+package org.example.utils.tests;
+
+import org.example.stub.ActivityStubServer;
+import org.example.stub.LatencyDistribution;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.balancing.BalancingPolicy;
+import org.example.utils.balancing.BalancingTransport;
+import org.example.utils.balancing.EndpointNode;
+import org.example.utils.balancing.EndpointRegistry;
+import org.example.utils.balancing.NodeStats;
+import org.example.utils.load.ExecutionMode;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadTransport;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndpointRegistryTest {
+
+    @Test
+    void testRoundRobinVisitsNodesInTurnAndRebasesUrls() {
+        EndpointRegistry registry = EndpointRegistry.of(
+                List.of("http://a/api/v1", "http://b/api/v1/", "http://c/api/v1"), BalancingPolicy.ROUND_ROBIN);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            counts.merge(registry.choose().getBaseUrl(), 1, Integer::sum);
+        }
+
+        assertEquals(Map.of("http://a/api/v1", 100, "http://b/api/v1", 100, "http://c/api/v1", 100), counts);
+        assertEquals("http://a/api/v1", registry.getPrimaryBaseUrl());
+        EndpointNode b = registry.getNodes().get(1);
+        assertEquals("http://b/api/v1/Activities/3?x=1", registry.rebase("http://a/api/v1/Activities/3?x=1", b));
+        assertEquals("http://elsewhere/Activities", registry.rebase("http://elsewhere/Activities", b));
+    }
+
+    @Test
+    void testNodeOfOnlyMatchesWholeBaseUrls() {
+        EndpointRegistry registry = EndpointRegistry.of(List.of("http://host:80", "http://host:8080/api"),
+                BalancingPolicy.ROUND_ROBIN);
+        EndpointNode port80 = registry.getNodes().get(0);
+        EndpointNode api = registry.getNodes().get(1);
+
+        assertSame(port80, registry.nodeOf("http://host:80"));
+        assertSame(port80, registry.nodeOf("http://host:80/Activities"));
+        assertSame(port80, registry.nodeOf("http://host:80?x=1"));
+        assertSame(api, registry.nodeOf("http://host:8080/api/Activities"));
+        assertNull(registry.nodeOf("http://host:8080/api2/Activities"));
+        assertEquals("http://host:8080/api2/Activities", registry.rebase("http://host:8080/api2/Activities", port80));
+    }
+
+    @Test
+    void testSingleNodeLeavesTheTransportUnwrapped() {
+        LoadTransport transport = LoadTransport.forName("jdk");
+
+        assertSame(transport, EndpointRegistry.single("http://a/api/v1").balance(transport));
+        assertInstanceOf(BalancingTransport.class, EndpointRegistry.of(List.of("http://a", "http://b"),
+                BalancingPolicy.ROUND_ROBIN).balance(transport));
+    }
+
+    @Test
+    void testLeastOutstandingAvoidsBusyNodes() {
+        EndpointRegistry registry = EndpointRegistry.of(List.of("http://a", "http://b", "http://c"),
+                BalancingPolicy.LEAST_OUTSTANDING);
+        EndpointNode a = registry.getNodes().get(0);
+        EndpointNode c = registry.getNodes().get(2);
+        a.begin();
+        a.begin();
+        c.begin();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("http://b", registry.choose().getBaseUrl());
+        }
+    }
+
+    @Test
+    void testEwmaPrefersTheFasterNodeOnceEveryNodeWasTried() {
+        EndpointRegistry registry = EndpointRegistry.of(List.of("http://slow", "http://fast"), BalancingPolicy.EWMA);
+        EndpointNode slow = registry.getNodes().get(0);
+        EndpointNode fast = registry.getNodes().get(1);
+        slow.begin();
+        slow.complete(Duration.ofMillis(50).toNanos(), false);
+        assertSame(fast, registry.choose(), "A node without samples is tried first");
+        fast.begin();
+        fast.complete(Duration.ofMillis(5).toNanos(), false);
+
+        assertSame(fast, registry.choose());
+        // Ten requests queued on the fast node make it slower than the idle slow node
+        for (int i = 0; i < 10; i++) {
+            fast.begin();
+        }
+        assertSame(slow, registry.choose());
+        assertEquals(BalancingPolicy.EWMA, BalancingPolicy.fromName("EWMA"));
+        assertThrows(IllegalArgumentException.class, () -> BalancingPolicy.fromName("random"));
+    }
+
+    @Test
+    void testLoadRunIsSpreadOverStubsWithPerNodeResults() {
+        LatencyDistribution twentyMillis = LatencyDistribution.fixed(Duration.ofMillis(20));
+        try (ActivityStubServer fast = new ActivityStubServer().start();
+             ActivityStubServer slow = new ActivityStubServer().latency(twentyMillis).start()) {
+            EndpointRegistry registry = EndpointRegistry.of(List.of(fast.getBaseUrl(), slow.getBaseUrl()),
+                    BalancingPolicy.LEAST_OUTSTANDING);
+            LoadOptions options = LoadOptions.defaults()
+                    .executionMode(ExecutionMode.PLATFORM_THREADS)
+                    .transport(registry.balance(LoadTransport.forName("jdk")));
+
+            RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTest(
+                    fast.getUrl("/Activities"), () -> "{\"id\":1}", 4, 50, 200, options);
+
+            assertEquals(0, result.failedRequests);
+            List<NodeStats> nodes = registry.stats();
+            assertEquals(result.totalRequests, nodes.stream().mapToLong(node -> node.requests).sum());
+            assertEquals(fast.getRequestCount(), nodes.get(0).requests);
+            assertEquals(slow.getRequestCount(), nodes.get(1).requests);
+            assertTrue(nodes.get(0).requests > nodes.get(1).requests,
+                    "The fast node should have finished more requests: " + nodes);
+            assertTrue(nodes.get(1).p50Micros >= 20_000, nodes.get(1).toString());
+            assertEquals(0, registry.getNodes().get(0).getOutstanding());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.utils.tests;
+
+import org.example.stub.ActivityStubServer;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.ErrorCounts;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.LogSampler;
+import org.example.utils.load.WorkerStats;
+import org.example.utils.load.distributed.StatsSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorCountsTest {
+
+    @Test
+    void testFailuresAreBucketedByStatusAndException() {
+        WorkerStats first = new WorkerStats();
+        first.recordResponse(1_000_000, 200, false);
+        first.recordResponse(1_000_000, 500, true);
+        first.recordResponse(1_000_000, 500, true);
+        first.recordError(new CompletionException(new ConnectException("refused")));
+        WorkerStats second = new WorkerStats();
+        second.recordResponse(1_000_000, 404, true);
+        second.recordResponse(1_000_000, true);
+        second.recordError();
+
+        WorkerStats merged = WorkerStats.merge(List.of(first, second));
+        Map<String, Long> breakdown = new LoadTestResult(false, merged).errorBreakdown;
+
+        // Most frequent first, ties by name
+        assertEquals(List.of("HTTP 500", "HTTP 404", "java.net.ConnectException", ErrorCounts.UNKNOWN_STATUS,
+                ErrorCounts.UNKNOWN_ERROR), List.copyOf(breakdown.keySet()));
+        assertEquals(2L, breakdown.get("HTTP 500"));
+        assertEquals(merged.getFailures(), merged.getErrorCounts().total());
+    }
+
+    @Test
+    void testBreakdownSurvivesTheWireFormat() {
+        WorkerStats stats = new WorkerStats();
+        stats.recordResponse(2_000_000, 503, true);
+        stats.recordError(new IOException("reset"));
+        LoadTestResult result = new LoadTestResult(false, stats, "jdk", 1_000_000_000L, 0);
+
+        WorkerStats restored = StatsSnapshot.from(result).toWorkerStats();
+
+        assertEquals(result.errorBreakdown, new LoadTestResult(false, restored).errorBreakdown);
+        assertEquals("HTTP 503 x1, java.io.IOException x1", result.errorSummary());
+    }
+
+    @Test
+    void testLogSamplerLimitsAndCountsSuppressedLines() {
+        LogSampler sampler = new LogSampler(3);
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (sampler.tryAcquire()) {
+                allowed++;
+            }
+        }
+        // The loop finishes well within one window
+        assertEquals(3, allowed);
+        assertEquals(97, sampler.takeSuppressed());
+        assertEquals(0, sampler.takeSuppressed());
+    }
+
+    @Test
+    void testInjectedServerErrorsAppearInTheResult() {
+        try (ActivityStubServer stub = new ActivityStubServer().errorRate(1.0, 503).start()) {
+            LoadTestResult result = RestApiLoadUtils.runLoadTest(stub.getUrl("/Activities"), () -> "{}", 2, 20, 200,
+                    LoadOptions.defaults().transport(LoadTransport.forName("jdk")));
+
+            assertFalse(result.success);
+            assertEquals(Map.of("HTTP 503", 40L), result.errorBreakdown);
+        }
+    }
+
+    @Test
+    void testConnectionErrorsAreBucketedByException() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        LoadTestResult result = RestApiLoadUtils.runLoadTest("http://127.0.0.1:" + port + "/api/v1/Activities",
+                () -> "{}", 1, 5, 200, LoadOptions.defaults().transport(LoadTransport.forName("jdk")));
+
+        assertEquals(5, result.failedRequests);
+        assertEquals(Map.of("java.net.ConnectException", 5L), result.errorBreakdown);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.utils.tests;
+
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.HtmlLoadReport;
+import org.example.utils.load.IntervalSnapshot;
+import org.example.utils.load.StepResult;
+import org.example.utils.load.WorkerStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HtmlLoadReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReportContainsChartsErrorsAndSteps() {
+        LoadTestResult step = newResult(90, 10, 503);
+        String html = new HtmlLoadReport("Gradual load <ACTIVITIES>")
+                .result(step)
+                .timeSeries(List.of(
+                        new IntervalSnapshot(1_000, 1_000, 40, 0, 2_000, 4_000, 8_000, 9_000),
+                        new IntervalSnapshot(2_000, 1_000, 60, 10, 3_000, 5_000, 12_000, 15_000)))
+                .steps(List.of(new StepResult(10, step)))
+                .render();
+
+        assertTrue(html.startsWith("<!DOCTYPE html>"));
+        assertTrue(html.contains("<title>Gradual load &lt;ACTIVITIES&gt;</title>"), "title is escaped");
+        assertEquals(2, html.split("<svg", -1).length - 1, "throughput and latency charts");
+        assertEquals(6, html.split("<polyline", -1).length - 1, "two throughput and four latency series");
+        assertTrue(html.contains("<td>HTTP 503</td><td>10</td><td>10.00%</td>"));
+        assertTrue(html.contains("<h2>Steps</h2>"));
+        assertTrue(html.contains("<td>10</td><td>100</td>"));
+        assertFalse(html.contains("<script"), "report must be self-contained and static");
+    }
+
+    @Test
+    void testReportWithoutTimeSeriesHasNoCharts() throws IOException {
+        Path output = new HtmlLoadReport("No samples")
+                .result(newResult(5, 0, 0))
+                .table("Notes", List.of("Key", "Value"), List.of(List.of("a&b", "1")))
+                .writeTo(tempDir.resolve("reports").resolve("report.html"));
+
+        String html = Files.readString(output);
+        assertFalse(html.contains("<svg"));
+        assertTrue(html.contains("<p>No errors</p>"));
+        assertTrue(html.contains("<td>a&amp;b</td><td>1</td>"));
+    }
+
+    private static LoadTestResult newResult(int successes, int failures, int failureStatus) {
+        WorkerStats stats = new WorkerStats();
+        for (int i = 0; i < successes; i++) {
+            stats.recordResponse(TimeUnit.MILLISECONDS.toNanos(2), 200, false);
+        }
+        for (int i = 0; i < failures; i++) {
+            stats.recordResponse(TimeUnit.MILLISECONDS.toNanos(5), failureStatus, true);
+        }
+        return new LoadTestResult(failures == 0, stats, "jdk", TimeUnit.SECONDS.toNanos(1), 0);
+    }
+}
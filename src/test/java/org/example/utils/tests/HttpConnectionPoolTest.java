@@ -0,0 +1,106 @@
+package org.example.utils.tests;
+
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import org.example.stub.ActivityStubServer;
+import org.example.stub.LatencyDistribution;
+import org.example.utils.HttpConnectionPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpConnectionPoolTest {
+
+    private RestAssuredConfig previousConfig;
+    private HttpConnectionPool pool;
+    private ActivityStubServer stub;
+
+    @BeforeEach
+    void saveRestAssuredConfig() {
+        previousConfig = RestAssured.config;
+    }
+
+    @AfterEach
+    void tearDown() {
+        RestAssured.config = previousConfig;
+        if (pool != null) {
+            pool.close();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    void testSequentialRequestsReuseOneConnection() {
+        stub = new ActivityStubServer().start();
+        pool = new HttpConnectionPool(HttpConnectionPool.Settings.defaults()).installIntoRestAssured();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, RestAssured.get(stub.getUrl("/Activities/1")).getStatusCode());
+        }
+
+        HttpConnectionPool.Metrics metrics = pool.metrics();
+        assertEquals(10, metrics.leases);
+        assertEquals(1, metrics.created, metrics.toString());
+        assertEquals(9, metrics.reused);
+        assertEquals(0, metrics.leased);
+        assertEquals(1, metrics.available);
+    }
+
+    @Test
+    void testWorkersWaitWhenThePoolIsSmallerThanTheirConcurrency() throws InterruptedException {
+        stub = new ActivityStubServer().latency(LatencyDistribution.fixed(Duration.ofMillis(50))).start();
+        pool = new HttpConnectionPool(HttpConnectionPool.Settings.defaults().maxTotal(2).maxPerRoute(2))
+                .installIntoRestAssured();
+
+        runConcurrently(4, 3, stub.getUrl("/Activities/1"));
+        HttpConnectionPool.Metrics constrained = pool.metrics();
+        assertEquals(12, constrained.leases);
+        assertTrue(constrained.created <= 2, constrained.toString());
+        assertTrue(constrained.maxWaitNanos >= Duration.ofMillis(20).toNanos(), constrained.toString());
+
+        pool.ensureCapacity(4);
+        assertEquals(4, pool.metrics().max);
+    }
+
+    @Test
+    void testIdleConnectionsAreEvicted() throws InterruptedException {
+        stub = new ActivityStubServer().start();
+        pool = new HttpConnectionPool(HttpConnectionPool.Settings.defaults()
+                .idleTimeout(Duration.ofMillis(100))
+                .evictionInterval(Duration.ofMillis(50)))
+                .installIntoRestAssured();
+
+        RestAssured.get(stub.getUrl("/Activities/1"));
+        assertEquals(1, pool.metrics().available);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (pool.metrics().available > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(0, pool.metrics().available);
+        RestAssured.get(stub.getUrl("/Activities/1"));
+        assertEquals(2, pool.metrics().created);
+    }
+
+    private static void runConcurrently(int threads, int requestsPerThread, String url) throws InterruptedException {
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < requestsPerThread; j++) {
+                    RestAssured.get(url);
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.utils.tests;
+
+import org.example.utils.load.IntervalSnapshot;
+import org.example.utils.load.LiveMetricsSampler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LiveMetricsSamplerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testFinalSnapshotCoversRequestsSinceLastTick() {
+        LiveMetricsSampler sampler = new LiveMetricsSampler(Duration.ofHours(1)).start();
+        for (int i = 1; i <= 100; i++) {
+            sampler.onRequestComplete(0, i * 1_000_000L, i <= 98 ? 200 : 500, i > 98);
+        }
+        sampler.onRequestComplete(0, 5_000_000L, 0, true);
+        sampler.close();
+
+        List<IntervalSnapshot> snapshots = sampler.getSnapshots();
+        assertEquals(1, snapshots.size());
+        IntervalSnapshot snapshot = snapshots.getFirst();
+        assertEquals(101, snapshot.getRequests());
+        assertEquals(3, snapshot.getErrors());
+        assertEquals(50_000, snapshot.getP50Micros(), 50);
+        assertEquals(99_000, snapshot.getP99Micros(), 100);
+        assertEquals(100_000, snapshot.getMaxMicros(), 100);
+    }
+
+    @Test
+    void testSnapshotsAreWrittenAsJsonLines() throws Exception {
+        Path output = tempDir.resolve("metrics/live.jsonl");
+        LiveMetricsSampler sampler = new LiveMetricsSampler(Duration.ofMillis(100), output).start();
+        for (int i = 0; i < 5; i++) {
+            sampler.onRequestComplete(0, 2_000_000L, 200, false);
+            Thread.sleep(60);
+        }
+        sampler.close();
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(sampler.getSnapshots().size(), lines.size());
+        assertTrue(lines.size() >= 2, "Expected at least one periodic and one final snapshot");
+        assertTrue(lines.getFirst().startsWith("{") && lines.getFirst().contains("\"p99Micros\""));
+        assertEquals(5, sampler.getSnapshots().stream().mapToLong(IntervalSnapshot::getRequests).sum());
+    }
+
+    @Test
+    void testSnapshotsAreWrittenAsCsv() throws IOException {
+        Path output = tempDir.resolve("live.csv");
+        LiveMetricsSampler sampler = new LiveMetricsSampler(Duration.ofHours(1), output).start();
+        sampler.onRequestComplete(0, 1_000_000L, 200, false);
+        sampler.close();
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("timestamp,"));
+        assertEquals(9, lines.get(1).split(",").length);
+    }
+
+    @Test
+    void testFinerResolutionKeepsMoreSamplesThanSnapshots() throws InterruptedException {
+        LiveMetricsSampler sampler = new LiveMetricsSampler(Duration.ofHours(1)).resolution(Duration.ofMillis(50))
+                .start();
+        for (int i = 0; i < 6; i++) {
+            sampler.onRequestComplete(0, 2_000_000L, 200, false);
+            Thread.sleep(60);
+        }
+        sampler.close();
+
+        assertEquals(1, sampler.getSnapshots().size(), "Logging stays at the interval");
+        assertEquals(6, sampler.getSnapshots().getFirst().getRequests());
+        assertTrue(sampler.getSamples().size() >= 5, "Expected a sample per resolution tick");
+        assertEquals(6, sampler.getSamples().stream().mapToLong(IntervalSnapshot::getRequests).sum());
+    }
+
+    @Test
+    void testInvalidIntervalIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LiveMetricsSampler(Duration.ZERO));
+    }
+}
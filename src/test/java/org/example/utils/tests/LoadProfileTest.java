@@ -0,0 +1,65 @@
+package org.example.utils.tests;
+
+import org.example.utils.load.LoadProfile;
+import org.example.utils.load.LoadStage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadProfileTest {
+
+    @Test
+    void testLinearStageInterpolatesBetweenTargets() {
+        LoadStage stage = LoadStage.rampUsers(10, 50, Duration.ofSeconds(10));
+
+        assertEquals(10, stage.targetAt(0), 0.001);
+        assertEquals(30, stage.targetAt(Duration.ofSeconds(5).toNanos()), 0.001);
+        assertEquals(50, stage.targetAt(Duration.ofSeconds(20).toNanos()), 0.001);
+    }
+
+    @Test
+    void testStepStageHoldsItsTarget() {
+        LoadStage stage = LoadStage.rate(40, Duration.ofSeconds(5));
+
+        assertEquals(40, stage.targetAt(0), 0.001);
+        assertEquals(40, stage.targetAt(Duration.ofSeconds(4).toNanos()), 0.001);
+        assertEquals(LoadStage.Kind.ARRIVAL_RATE, stage.getKind());
+    }
+
+    @Test
+    void testSpikeReturnsToBaseAfterPeak() {
+        LoadProfile profile = LoadProfile.spike(5, 50, Duration.ofSeconds(20), Duration.ofSeconds(10));
+        List<LoadStage> stages = profile.getStages();
+
+        assertEquals(List.of(5, 50, 5), stages.stream().map(LoadStage::getTo).toList());
+        assertEquals(50, profile.getPeakUsers());
+        assertEquals(Duration.ofSeconds(50), profile.getTotalDuration());
+        assertFalse(profile.hasArrivalRateStages());
+    }
+
+    @Test
+    void testStepDownSpreadsStepsEvenly() {
+        LoadProfile profile = LoadProfile.stepDown(40, 10, 4, Duration.ofSeconds(5));
+
+        assertEquals(List.of(40, 30, 20, 10), profile.getStages().stream().map(LoadStage::getTo).toList());
+    }
+
+    @Test
+    void testNamedProfilesFitTheRequestedDuration() {
+        for (String name : List.of("ramp", "spike", "soak", "step-down")) {
+            LoadProfile profile = LoadProfile.named(name, 2, 20, Duration.ofSeconds(60));
+            assertEquals(Duration.ofSeconds(60), profile.getTotalDuration(), name);
+            assertEquals(20, profile.getPeakUsers(), name);
+        }
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.named("sawtooth", 1, 2, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void testInvalidStagesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> LoadStage.users(-1, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> LoadStage.users(1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.utils.tests;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.load.BodyCorpus;
+import org.example.utils.load.ExecutionMode;
+import org.example.utils.load.IntervalSnapshot;
+import org.example.utils.load.LiveMetricsSampler;
+import org.example.utils.load.JdkHttpTransport;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadProfile;
+import org.example.utils.load.LoadStage;
+import org.example.utils.load.RestAssuredTransport;
+import org.example.utils.load.StepResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the load engine against an in-process HTTP server, so results do not depend on the network.
+ */
+public class LocalServerLoadTest {
+
+    private static HttpServer server;
+    private static String fastUrl;
+    private static String slowUrl;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/fast", exchange -> respond(exchange, 200));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        server.start();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        fastUrl = base + "/fast";
+        slowUrl = base + "/slow";
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void testConstantArrivalRateSendsPlannedRequests() {
+        RestApiLoadUtils.ArrivalRateResult result = RestApiLoadUtils.runConstantArrivalRateTest(
+                fastUrl, () -> "{}", 20, 1, 4, 200);
+
+        assertEquals(20, result.totalRequests);
+        assertEquals(0, result.failedRequests);
+        assertEquals(20, result.targetRequestsPerSecond);
+        assertTrue(result.success);
+        assertTrue(result.minResponseTime <= result.maxResponseTime);
+    }
+
+    @Test
+    void testConstantArrivalRateIncludesQueueingInResponseTime() {
+        // One worker and a 200 ms server cannot sustain 20 req/s, so later requests queue up
+        RestApiLoadUtils.ArrivalRateResult result = RestApiLoadUtils.runConstantArrivalRateTest(
+                slowUrl, () -> "{}", 20, 1, 1, 200);
+
+        assertEquals(20, result.totalRequests);
+        assertFalse(result.keptUpWithSchedule);
+        assertTrue(result.lateRequests > 0);
+        assertTrue(result.totalResponseTime > result.totalServiceTime,
+                "Response time from the intended start should exceed pure service time");
+        assertTrue(result.maxResponseTime >= 2_000, "Last request should have waited for the whole backlog");
+    }
+
+    @Test
+    void testConstantArrivalRateRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RestApiLoadUtils.runConstantArrivalRateTest(fastUrl, () -> "{}", 0, 1, 1, 200));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutionMode.class)
+    void testRunLoadTestInEachExecutionMode(ExecutionMode mode) {
+        RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTest(fastUrl, () -> "{}", 50, 4, 200, mode);
+
+        assertEquals(200, result.totalRequests);
+        assertEquals(0, result.failedRequests);
+        assertEquals(200, result.latencyHistogram.getTotalCount());
+        assertTrue(result.success);
+    }
+
+    @Test
+    void testGradualIncreaseWithVirtualThreads() {
+        RestApiLoadUtils.RampResult result = RestApiLoadUtils.runLoadTestWithGradualIncrease(
+                fastUrl, 100, 300, 2, 100, 0, () -> "{}", 200, ExecutionMode.VIRTUAL_THREADS);
+
+        assertEquals((100 + 200 + 300) * 2, result.totalRequests);
+        assertTrue(result.success);
+        assertEquals(List.of(100, 200, 300), result.steps.stream().map(StepResult::getConcurrency).toList());
+        assertNotNull(result.findSaturationPoint().getKnee());
+    }
+
+    @Test
+    void testConstantArrivalRateWithVirtualThreadsRespectsConcurrencyLimit() {
+        RestApiLoadUtils.ArrivalRateResult result = RestApiLoadUtils.runConstantArrivalRateTest(
+                slowUrl, () -> "{}", 20, 1, 1, 200, ExecutionMode.VIRTUAL_THREADS);
+
+        assertEquals(20, result.totalRequests);
+        assertFalse(result.keptUpWithSchedule);
+        assertTrue(result.maxResponseTime >= 2_000, "Requests should queue behind the single permitted request");
+    }
+
+    @Test
+    void testJdkTransportReportsCpuEfficiency() {
+        try (JdkHttpTransport transport = new JdkHttpTransport()) {
+            RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTest(fastUrl, () -> "{}", 10, 10, 200,
+                    LoadOptions.defaults().executionMode(ExecutionMode.VIRTUAL_THREADS).transport(transport));
+
+            assertEquals(100, result.totalRequests);
+            assertTrue(result.success);
+            assertEquals(JdkHttpTransport.NAME, result.transportName);
+            assertTrue(result.elapsedNanos > 0);
+            assertTrue(result.requestsPerSecond() > 0);
+            assertTrue(result.cpuTimeNanos == 0 || result.requestsPerCpuSecond() > 0);
+        }
+    }
+
+    @Test
+    void testRestAssuredTransportIsStillTheDefault() {
+        RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTest(fastUrl, () -> "{}", 2, 2, 200);
+
+        assertEquals(RestAssuredTransport.NAME, result.transportName);
+        assertTrue(result.success);
+    }
+
+    @Test
+    void testConstantArrivalRateWithNonBlockingTransport() {
+        try (JdkHttpTransport transport = new JdkHttpTransport()) {
+            RestApiLoadUtils.ArrivalRateResult result = RestApiLoadUtils.runConstantArrivalRateTest(
+                    slowUrl, () -> "{}", 20, 1, 1, 200, LoadOptions.defaults().transport(transport));
+
+            assertEquals(20, result.totalRequests);
+            assertFalse(result.keptUpWithSchedule, "A single in-flight request cannot sustain 20 req/s at 200 ms");
+            assertTrue(result.maxResponseTime >= 2_000);
+        }
+    }
+
+    @Test
+    void testLiveMetricsSamplerObservesEveryRequest() {
+        LiveMetricsSampler sampler = new LiveMetricsSampler(Duration.ofMillis(200));
+        RestApiLoadUtils.LoadTestResult result;
+        try {
+            sampler.start();
+            result = RestApiLoadUtils.runLoadTest(fastUrl, () -> "{}", 4, 25, 200,
+                    LoadOptions.defaults().listener(sampler));
+        } finally {
+            // Closing takes the final snapshot, so every request is counted before the assertions below
+            sampler.close();
+        }
+
+        assertEquals(100, result.totalRequests);
+        assertEquals(100, sampler.getSnapshots().stream().mapToLong(IntervalSnapshot::getRequests).sum());
+    }
+
+    @Test
+    void testLoadProfileRunsStagesBackToBack() {
+        LoadProfile profile = new LoadProfile("mixed")
+                .stage(LoadStage.rampUsers(1, 4, Duration.ofMillis(500)))
+                .stage(LoadStage.rate(40, Duration.ofSeconds(1)))
+                .stage(LoadStage.users(2, Duration.ofMillis(500)));
+
+        RestApiLoadUtils.ProfileResult result = RestApiLoadUtils.runLoadProfile(fastUrl, () -> "{}", profile, 200,
+                LoadOptions.defaults().executionMode(ExecutionMode.VIRTUAL_THREADS));
+
+        assertTrue(result.success);
+        assertEquals(3, result.stages.size());
+        result.stages.forEach(stage -> assertTrue(stage.getResult().totalRequests > 0, stage.toString()));
+        assertEquals(40, result.stages.get(1).getResult().totalRequests, 2);
+        assertEquals(result.totalRequests, result.stages.stream().mapToInt(stage -> stage.getResult().totalRequests).sum());
+        assertTrue(result.elapsedNanos >= Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    void testRunCutOffByAwaitTimeoutIsReportedAsFailed() {
+        RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTest(slowUrl, () -> "{}", 1, 3, 200,
+                LoadOptions.defaults().awaitTimeout(Duration.ofMillis(100)));
+
+        assertFalse(result.success);
+    }
+
+    @Test
+    void testBodyCorpusReplacesPerRequestSupplier() {
+        BodyCorpus corpus = BodyCorpus.generate(8, i -> "{\"id\":" + i + "}");
+        RestApiLoadUtils.LoadTestResult result = RestApiLoadUtils.runLoadTest(fastUrl, null, 2, 20, 200,
+                LoadOptions.defaults().bodySource(corpus));
+
+        assertTrue(result.success);
+        assertEquals(40, result.totalRequests);
+    }
+}
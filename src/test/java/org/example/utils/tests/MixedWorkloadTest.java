@@ -0,0 +1,110 @@
+package org.example.utils.tests;
+
+import org.example.data.TestDataFactory;
+import org.example.stub.ActivityStubServer;
+import org.example.utils.RestApiLoadUtils.MixedWorkloadResult;
+import org.example.utils.RestApiUtils;
+import org.example.utils.load.BodyCorpus;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.OperationResult;
+import org.example.utils.load.TransportRequest;
+import org.example.utils.load.Workload;
+import org.example.utils.load.WorkloadOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.example.utils.RestApiLoadUtils.runMixedWorkload;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MixedWorkloadTest {
+
+    private ActivityStubServer stub;
+
+    @AfterEach
+    void tearDown() {
+        if (stub != null) {
+            stub.close();
+        }
+        RestApiUtils.resetBaseUrl();
+    }
+
+    @Test
+    void testOperationsArePickedByWeight() {
+        Workload workload = new Workload("weights")
+                .operation(WorkloadOperation.get("heavy", 3, RestApiUtils.ACTIVITIES))
+                .operation(WorkloadOperation.get("light", 1, RestApiUtils.ACTIVITIES));
+        int[] counts = new int[2];
+        for (int i = 0; i < 40_000; i++) {
+            counts[workload.nextOperationIndex()]++;
+        }
+        assertEquals(4, workload.totalWeight());
+        assertEquals(0.75, counts[0] / 40_000.0, 0.02);
+    }
+
+    @Test
+    void testInvalidWorkloadsAreRejected() {
+        Workload workload = new Workload("empty");
+        assertThrows(IllegalStateException.class, workload::nextOperationIndex);
+        assertThrows(IllegalArgumentException.class, () -> WorkloadOperation.get("zero", 0, RestApiUtils.ACTIVITIES));
+        workload.operation(WorkloadOperation.get("list", 1, RestApiUtils.ACTIVITIES));
+        assertThrows(IllegalArgumentException.class,
+                () -> workload.operation(WorkloadOperation.get("list", 2, RestApiUtils.ACTIVITIES)));
+    }
+
+    @Test
+    void testOperationsFollowTheBaseUrl() {
+        stub = new ActivityStubServer().start();
+        RestApiUtils.setBaseUrl(stub.getBaseUrl());
+
+        TransportRequest request = WorkloadOperation.get("by-id", 1, RestApiUtils.ACTIVITIES_BY_ID,
+                () -> new String[]{"7"}).newRequest();
+        assertEquals("GET", request.getMethod());
+        assertEquals(stub.getUrl("/Activities/7"), request.getUrl());
+        assertNull(request.getBody());
+    }
+
+    @Test
+    void testActivitiesMixReportsEveryOperation() {
+        stub = new ActivityStubServer().start();
+        RestApiUtils.setBaseUrl(stub.getBaseUrl());
+        BodyCorpus bodies = BodyCorpus.generate(16, i -> TestDataFactory.createActivity(i).serialize());
+
+        MixedWorkloadResult result = runMixedWorkload(Workload.activitiesMix(bodies), 4, 100,
+                LoadOptions.defaults().transport(LoadTransport.forName("jdk")));
+
+        assertTrue(result.success, "Expected every request to succeed");
+        assertEquals(400, result.totalRequests);
+        assertEquals(3, result.operations.size());
+        int sum = 0;
+        for (OperationResult operation : result.operations) {
+            sum += operation.getResult().totalRequests;
+            assertEquals(0, operation.getErrorRate());
+        }
+        assertEquals(400, sum);
+        assertTrue(result.getOperation("get-activity").getResult().totalRequests
+                > result.getOperation("list-activities").getResult().totalRequests);
+        assertEquals(400, stub.getRequestCount());
+    }
+
+    @Test
+    void testFailuresAreAttributedToTheirOperation() {
+        stub = new ActivityStubServer().start();
+        RestApiUtils.setBaseUrl(stub.getBaseUrl());
+        Workload workload = new Workload("missing")
+                .operation(WorkloadOperation.get("list", 1, RestApiUtils.ACTIVITIES))
+                .operation(WorkloadOperation.get("missing", 1, RestApiUtils.ACTIVITIES_BY_ID,
+                        () -> new String[]{"999"}));
+
+        MixedWorkloadResult result = runMixedWorkload(workload, 2, 50,
+                LoadOptions.defaults().transport(LoadTransport.forName("jdk")));
+
+        assertFalse(result.success);
+        OperationResult list = result.getOperation("list");
+        OperationResult missing = result.getOperation("missing");
+        assertEquals(0, list.getResult().failedRequests);
+        assertEquals(missing.getResult().totalRequests, missing.getResult().failedRequests);
+        assertEquals(missing.getResult().failedRequests, result.failedRequests);
+        assertEquals(1.0, missing.getErrorRate());
+    }
+}
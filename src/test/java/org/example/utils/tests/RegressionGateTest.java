@@ -0,0 +1,117 @@
+package org.example.utils.tests;
+
+import org.example.utils.load.baseline.BaselineStore;
+import org.example.utils.load.baseline.MannWhitneyU;
+import org.example.utils.load.baseline.RegressionGate;
+import org.example.utils.load.baseline.RunRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegressionGateTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMannWhitneyDetectsShiftedSamples() {
+        double[] baseline = {10, 11, 12, 13, 14, 15, 16, 17};
+        double[] slower = {18, 19, 20, 21, 22, 23, 24, 25};
+
+        assertTrue(MannWhitneyU.pValueGreater(slower, baseline) < 0.001);
+        assertTrue(MannWhitneyU.pValueGreater(baseline, slower) > 0.99);
+        assertEquals(0.5, MannWhitneyU.pValueGreater(baseline, baseline), 0.1);
+        assertEquals(1.0, MannWhitneyU.pValueGreater(new double[]{5, 5}, new double[]{5, 5, 5}));
+    }
+
+    @Test
+    void testConsistentSlowdownFailsTheGate() {
+        List<RunRecord> reference = IntStream.range(0, 5).mapToObj(i -> run(i, 10_000, 100)).toList();
+        RegressionGate.Verdict verdict = new RegressionGate().check(run(9, 15_000, 100), reference);
+
+        assertFalse(verdict.passed());
+        RegressionGate.Finding p99 = verdict.findings.get(0);
+        assertTrue(p99.regressed);
+        assertEquals(0.5, p99.change, 0.01);
+        assertFalse(verdict.findings.get(1).regressed);
+    }
+
+    @Test
+    void testSingleOutlierIntervalDoesNotFailTheGate() {
+        List<RunRecord> reference = IntStream.range(0, 5).mapToObj(i -> run(i, 10_000, 100)).toList();
+        RunRecord blip = run(9, 10_000, 100);
+        // One slow interval drags the run's p99 up, but the other intervals look like the baseline
+        blip.intervalP99Micros[3] = 90_000;
+        blip.p99Micros = 30_000;
+
+        RegressionGate.Verdict verdict = new RegressionGate().check(blip, reference);
+        assertTrue(verdict.passed(), verdict.toString());
+        assertTrue(verdict.findings.get(0).pValue > 0.05);
+    }
+
+    @Test
+    void testThroughputDropAndMissingSamples() {
+        List<RunRecord> reference = List.of(run(0, 10_000, 100));
+        assertFalse(new RegressionGate().check(run(1, 10_000, 60), reference).passed());
+        assertTrue(new RegressionGate().maxThroughputDrop(0.5).check(run(1, 10_000, 60), reference).passed());
+
+        RunRecord shortRun = run(2, 20_000, 50);
+        shortRun.intervalP99Micros = new long[]{20_000};
+        shortRun.intervalThroughput = new double[]{50};
+        RegressionGate.Verdict verdict = new RegressionGate().check(shortRun, reference);
+        assertTrue(verdict.passed());
+        assertTrue(verdict.findings.get(0).isInconclusive());
+        assertTrue(verdict.isInconclusive(), "A pass without a test must be told apart from a real pass");
+
+        assertFalse(new RegressionGate().check(shortRun, List.of()).hasBaseline());
+        assertFalse(new RegressionGate().check(shortRun, List.of()).isInconclusive());
+    }
+
+    @Test
+    void testStoreKeepsHistoryAndPinnedBaselinePerKey() {
+        BaselineStore store = new BaselineStore(tempDir);
+        for (int i = 0; i < 4; i++) {
+            store.append(run(i, 10_000 + i, 100));
+        }
+        RunRecord other = run(7, 1, 1);
+        other.endpoint = "ACTIVITIES_BY_ID";
+        store.append(other);
+        RunRecord remote = run(8, 2, 2);
+        remote.host = "fakerestapi.azurewebsites.net";
+        store.append(remote);
+
+        List<RunRecord> history = store.history("Ramp on stub", "ACTIVITIES", "localhost", 3);
+        assertEquals(List.of(10_001L, 10_002L, 10_003L), history.stream().map(run -> run.p99Micros).toList());
+        assertEquals(5, history.get(0).intervalThroughput.length);
+        assertTrue(store.pinned("Ramp on stub", "ACTIVITIES", "localhost").isEmpty());
+        assertEquals(List.of(2L), store.history("Ramp on stub", "ACTIVITIES", "fakerestapi.azurewebsites.net", 3)
+                .stream().map(run -> run.p99Micros).toList());
+
+        store.pin(history.get(1));
+        assertEquals(10_002, store.pinned("Ramp on stub", "ACTIVITIES", "localhost").orElseThrow().p99Micros);
+        assertTrue(store.pinned("Ramp on stub", "ACTIVITIES", "fakerestapi.azurewebsites.net").isEmpty());
+        assertEquals(List.of(), store.history("Unknown", "ACTIVITIES", "localhost", 3));
+    }
+
+    private static RunRecord run(long timestamp, long p99Micros, double throughput) {
+        RunRecord record = new RunRecord();
+        record.scenario = "Ramp on stub";
+        record.endpoint = "ACTIVITIES";
+        record.host = "localhost";
+        record.timestamp = timestamp;
+        record.requests = 1000;
+        record.p99Micros = p99Micros;
+        record.throughput = throughput;
+        double scale = p99Micros / 10_000.0;
+        record.intervalP99Micros = new long[]{(long) (9_000 * scale), (long) (10_000 * scale), (long) (11_000 * scale),
+                (long) (10_000 * scale), (long) (10_500 * scale)};
+        record.intervalThroughput = new double[]{throughput * 0.95, throughput, throughput * 1.05, throughput,
+                throughput * 0.98};
+        return record;
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.utils.tests;
+
+import org.HdrHistogram.Histogram;
+import org.example.stub.ActivityStubServer;
+import org.example.stub.LatencyDistribution;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.ExecutionMode;
+import org.example.utils.load.IntervalSnapshot;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.journal.JournalReader;
+import org.example.utils.load.journal.RequestJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRecordsRoundTrip() {
+        Path path = tempDir.resolve("round-trip.journal");
+        long start = System.nanoTime();
+        try (RequestJournal journal = RequestJournal.create(path, 1000)) {
+            journal.onRequestComplete(5, 2, start, TimeUnit.MILLISECONDS.toNanos(3), 201, false);
+            journal.onRequestComplete(start, TimeUnit.MILLISECONDS.toNanos(7), 503, true);
+        }
+
+        JournalReader reader = JournalReader.read(path);
+        List<String> records = new ArrayList<>();
+        reader.forEach((startOffset, latency, worker, status, operation, failed) -> records.add(
+                worker + ":" + operation + ":" + status + ":" + TimeUnit.NANOSECONDS.toMillis(latency) + ":" + failed));
+        assertEquals(List.of("5:2:201:3:false", "0:0:503:7:true"), records);
+        assertFalse(reader.isWrapped());
+        assertEquals(1, reader.latencyHistogram(2).getTotalCount());
+        assertTrue(reader.getStartEpochMillis() <= System.currentTimeMillis());
+    }
+
+    @Test
+    void testConcurrentWorkersKeepEveryRecord() throws InterruptedException {
+        Path path = tempDir.resolve("concurrent.journal");
+        int workers = 4;
+        int perWorker = RequestJournal.BATCH_RECORDS * 3 + 17;
+        try (RequestJournal journal = RequestJournal.create(path, 100_000)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                Thread.Builder builder = w % 2 == 0 ? Thread.ofPlatform() : Thread.ofVirtual();
+                // Two threads report each worker index, so batching and the fallback for a busy buffer both run
+                int worker = w / 2;
+                threads.add(builder.start(() -> {
+                    for (int i = 1; i <= perWorker; i++) {
+                        journal.onRequestComplete(worker, 0, System.nanoTime(), TimeUnit.MICROSECONDS.toNanos(i), 200,
+                                false);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        JournalReader reader = JournalReader.read(path);
+        Histogram histogram = reader.latencyHistogram();
+        int[] perWorkerIndex = new int[workers / 2];
+        reader.forEach((start, latency, worker, status, operation, failed) -> perWorkerIndex[worker]++);
+        assertEquals((long) workers * perWorker, reader.recordCount());
+        assertArrayEquals(new int[]{2 * perWorker, 2 * perWorker}, perWorkerIndex);
+        assertEquals(perWorker, histogram.getMaxValue(), histogram.getMaxValue() / 100.0);
+    }
+
+    @Test
+    void testFullJournalKeepsTheNewestRecords() {
+        Path path = tempDir.resolve("ring.journal");
+        try (RequestJournal journal = RequestJournal.create(path, 200)) {
+            for (int i = 0; i < 500; i++) {
+                journal.onRequestComplete(i, System.nanoTime(), i, 200, false);
+            }
+        }
+
+        JournalReader reader = JournalReader.read(path);
+        int[] minOperation = {Integer.MAX_VALUE};
+        reader.forEach((start, latency, worker, status, operation, failed) ->
+                minOperation[0] = Math.min(minOperation[0], operation));
+        assertTrue(reader.isWrapped());
+        assertEquals(200, reader.recordCount());
+        assertEquals(300, minOperation[0]);
+    }
+
+    @Test
+    void testReplayMatchesTheLoadTestResult() {
+        Path path = tempDir.resolve("replay.journal");
+        LoadTestResult result;
+        try (ActivityStubServer stub = new ActivityStubServer().errorRate(0.2, 503).start();
+             RequestJournal journal = RequestJournal.create(path)) {
+            result = RestApiLoadUtils.runLoadTest(stub.getUrl("/Activities"), () -> "{}", 3, 50, 200,
+                    LoadOptions.defaults()
+                            .transport(LoadTransport.forName("jdk"))
+                            .executionMode(ExecutionMode.PLATFORM_THREADS)
+                            .listener(journal));
+        }
+
+        JournalReader reader = JournalReader.read(path);
+        long[] failed = new long[1];
+        long[] perWorker = new long[3];
+        reader.forEach((start, latency, worker, status, operation, isFailed) -> {
+            failed[0] += isFailed ? 1 : 0;
+            perWorker[worker]++;
+        });
+        assertEquals(result.totalRequests, reader.recordCount());
+        assertEquals(result.failedRequests, failed[0]);
+        assertArrayEquals(new long[]{50, 50, 50}, perWorker, "Each record carries the index of the user that sent it");
+
+        List<IntervalSnapshot> series = reader.timeSeries(Duration.ofMillis(100));
+        assertEquals(result.totalRequests, series.stream().mapToLong(IntervalSnapshot::getRequests).sum());
+        assertEquals(result.failedRequests, series.stream().mapToLong(IntervalSnapshot::getErrors).sum());
+
+        List<IntervalSnapshot> fine = reader.timeSeries(Duration.ofNanos(100_000));
+        assertEquals(result.totalRequests, fine.stream().mapToLong(IntervalSnapshot::getRequests).sum());
+        assertTrue(fine.size() > series.size());
+    }
+
+    @Test
+    void testOpenLoopWorkersAreConcurrencySlots() {
+        Path path = tempDir.resolve("slots.journal");
+        try (ActivityStubServer stub = new ActivityStubServer().latency(LatencyDistribution.fixed(Duration.ofMillis(20))).start();
+             RequestJournal journal = RequestJournal.create(path)) {
+            RestApiLoadUtils.runConstantArrivalRateTest(stub.getUrl("/Activities"), () -> "{}", 100, 1, 4, 200,
+                    LoadOptions.defaults()
+                            .transport(LoadTransport.forName("jdk"))
+                            .executionMode(ExecutionMode.VIRTUAL_THREADS)
+                            .listener(journal));
+        }
+
+        int[] maxWorker = {-1};
+        JournalReader reader = JournalReader.read(path);
+        reader.forEach((start, latency, worker, status, operation, failed) ->
+                maxWorker[0] = Math.max(maxWorker[0], worker));
+        assertEquals(100, reader.recordCount());
+        assertTrue(maxWorker[0] >= 0 && maxWorker[0] < 4, "Worker " + maxWorker[0] + " is not a slot below 4");
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.utils.tests;
+
+import io.restassured.response.Response;
+import org.example.stub.ActivityStubServer;
+import org.example.utils.ResponseCache;
+import org.example.utils.RestApiUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseCacheTest {
+
+    private ActivityStubServer stub;
+
+    @BeforeEach
+    void startStub() {
+        stub = new ActivityStubServer().start();
+        RestApiUtils.setBaseUrl(stub.getBaseUrl());
+    }
+
+    @AfterEach
+    void stopStub() {
+        RestApiUtils.setResponseCache(null);
+        RestApiUtils.resetBaseUrl();
+        stub.close();
+    }
+
+    @Test
+    void testFreshEntriesAreServedWithoutTheNetwork() {
+        ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 16);
+        RestApiUtils.setResponseCache(cache);
+
+        Response first = RestApiUtils.performGetRequest(RestApiUtils.ACTIVITIES);
+        Response second = RestApiUtils.performGetRequest(RestApiUtils.ACTIVITIES);
+        RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "5");
+        Response byId = RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "5");
+
+        assertEquals(2, stub.getRequestCount());
+        assertSame(first, second);
+        assertEquals(first.asString(), second.asString());
+        assertEquals(5, byId.jsonPath().getInt("id"));
+        ResponseCache.Stats stats = cache.stats();
+        assertEquals(2, stats.hits);
+        assertEquals(2, stats.misses);
+        assertEquals(0.5, stats.hitRate(), 1e-9);
+        assertTrue(stats.savedNanos > 0);
+    }
+
+    @Test
+    void testExpiredEntriesAreRevalidatedWithTheirEtag() throws InterruptedException {
+        ResponseCache cache = new ResponseCache(Duration.ofMillis(50), 16);
+        RestApiUtils.setResponseCache(cache);
+
+        Response first = RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "7");
+        Thread.sleep(100);
+        Response revalidated = RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "7");
+
+        assertEquals(2, stub.getRequestCount());
+        assertEquals(1, stub.getNotModifiedCount());
+        assertSame(first, revalidated);
+        assertEquals(200, revalidated.getStatusCode());
+        assertEquals(1, cache.stats().revalidations);
+        assertEquals(1, cache.stats().misses);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 2);
+        RestApiUtils.setResponseCache(cache);
+
+        RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "1");
+        RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "2");
+        RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "1");
+        RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "3");
+        RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "1");
+        RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "2");
+
+        // 1 stayed in use, so 2 was evicted for 3 and had to be fetched again
+        assertEquals(4, stub.getRequestCount());
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.stats().evictions);
+    }
+
+    @Test
+    void testOnlySuccessfulResponsesAreCached() {
+        ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 16);
+        RestApiUtils.setResponseCache(cache);
+
+        assertEquals(404, RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "999").getStatusCode());
+        assertEquals(404, RestApiUtils.performGetRequestWithParams(RestApiUtils.ACTIVITIES_BY_ID, "999").getStatusCode());
+
+        assertEquals(2, stub.getRequestCount());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.utils.tests;
+
+import org.example.data.TestDataFactory;
+import org.example.stub.ActivityStubServer;
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.RestApiLoadUtils.LoadTestResult;
+import org.example.utils.load.BodyCorpus;
+import org.example.utils.load.ErrorCounts;
+import org.example.utils.load.LoadOptions;
+import org.example.utils.load.LoadTransport;
+import org.example.utils.load.ResponseValidator;
+import org.example.utils.load.ResponseValidators;
+import org.example.utils.load.TransportRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseValidatorsTest {
+
+    private static final TransportRequest GET = TransportRequest.get("http://localhost/api/v1/Activities/7");
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testFieldEquals() throws IOException {
+        byte[] activity = bytes(TestDataFactory.createActivity(7).serialize());
+
+        assertNull(ResponseValidators.fieldEquals("id", 7).validate(GET, activity));
+        assertEquals("field id is 7, expected 8", ResponseValidators.fieldEquals("id", 8).validate(GET, activity));
+        assertEquals("field missing missing", ResponseValidators.fieldEquals("missing", 1).validate(GET, activity));
+        assertNull(ResponseValidators.fieldEquals("completed", "false").validate(GET, bytes("{\"completed\":false}")));
+        // Nested objects with the same field name are skipped
+        assertEquals("field id missing",
+                ResponseValidators.fieldEquals("id", 7).validate(GET, bytes("{\"inner\":{\"id\":7}}")));
+    }
+
+    @Test
+    void testFieldMatchesRequest() throws IOException {
+        ResponseValidator validator = ResponseValidators.fieldMatchesRequest("id");
+        TransportRequest post = TransportRequest.post("http://localhost/api/v1/Activities",
+                bytes("{\"id\":12,\"title\":\"Posted\"}"));
+
+        assertNull(validator.validate(post, bytes("{\"title\":\"Posted\",\"id\":12}")));
+        assertEquals("field id is 13, request had 12", validator.validate(post, bytes("{\"id\":13}")));
+        assertEquals("field id missing, request had 12", validator.validate(post, bytes("{}")));
+        assertNull(validator.validate(GET, bytes("{\"id\":13}")), "Requests without a body are not checked");
+        assertNull(validator.validate(TransportRequest.post(post.getUrl(), bytes("{\"title\":\"No id\"}")),
+                bytes("{\"id\":13}")), "Requests without the field are not checked");
+
+        TransportRequest textId = TransportRequest.post(post.getUrl(), bytes("{\"id\":\"a-7\"}"));
+        assertNull(validator.validate(textId, bytes("{\"id\":\"a-7\"}")));
+        assertEquals("field id is a-8, request had a-7", validator.validate(textId, bytes("{\"id\":\"a-8\"}")));
+    }
+
+    @Test
+    void testFieldMatchesRequestReadsCorpusBodiesUpFront() throws IOException {
+        BodyCorpus corpus = BodyCorpus.of(List.of("{\"id\":1}", "{\"id\":2}", "{\"title\":\"No id\"}"));
+        ResponseValidator validator = ResponseValidators.fieldMatchesRequest("id", corpus);
+        String url = "http://localhost/api/v1/Activities";
+
+        assertNull(validator.validate(TransportRequest.post(url, corpus.next()), bytes("{\"id\":1}")));
+        assertEquals("field id is 1, request had 2",
+                validator.validate(TransportRequest.post(url, corpus.next()), bytes("{\"id\":1}")));
+        assertNull(validator.validate(TransportRequest.post(url, corpus.next()), bytes("{}")),
+                "Corpus bodies without the field are not checked");
+        assertEquals("field id is 1, request had 9",
+                validator.validate(TransportRequest.post(url, bytes("{\"id\":9}")), bytes("{\"id\":1}")),
+                "Bodies from outside the corpus are parsed per check");
+    }
+
+    @Test
+    void testArrayLength() throws IOException {
+        byte[] array = bytes("[{\"id\":1,\"tags\":[1,2,3]},{\"id\":2},3]");
+
+        assertNull(ResponseValidators.arrayLength(3).validate(GET, array));
+        assertEquals("array has 3 elements, expected 4", ResponseValidators.arrayLength(4).validate(GET, array));
+        assertEquals("array has more than 2 elements", ResponseValidators.arrayLength(2).validate(GET, array));
+        assertEquals("body is not a JSON array", ResponseValidators.arrayLength(0).validate(GET, bytes("{}")));
+    }
+
+    @Test
+    void testAllOfReportsTheFirstFailure() throws IOException {
+        ResponseValidator validator = ResponseValidators.allOf(ResponseValidators.fieldEquals("id", 7),
+                ResponseValidators.fieldEquals("title", "Other"));
+
+        assertTrue(validator.validate(GET, bytes(TestDataFactory.createActivity(7).serialize()))
+                .startsWith("field title is"));
+    }
+
+    @Test
+    void testLoadRunCountsInvalidBodiesAsFailures() {
+        try (ActivityStubServer stub = new ActivityStubServer().start()) {
+            String url = stub.getUrl("/Activities");
+            BodyCorpus bodies = BodyCorpus.generate(8, i -> TestDataFactory.createActivity(i + 1).serialize());
+
+            LoadTestResult echoed = RestApiLoadUtils.runLoadTest(url, null, 2, 25, 200, LoadOptions.defaults()
+                    .transport(LoadTransport.forName("jdk"))
+                    .bodySource(bodies)
+                    .validator(ResponseValidators.fieldMatchesRequest("id", bodies), 1.0));
+            assertTrue(echoed.success, "The stub echoes posted activities");
+
+            LoadTestResult rejected = RestApiLoadUtils.runLoadTest(url, null, 2, 25, 200, LoadOptions.defaults()
+                    .transport(LoadTransport.forName("jdk"))
+                    .bodySource(bodies)
+                    .validator(ResponseValidators.fieldEquals("id", -1), 1.0));
+            assertEquals(50, rejected.failedRequests);
+            assertEquals(Map.of(ErrorCounts.INVALID_BODY, 50L), rejected.errorBreakdown);
+            assertEquals(50, rejected.latencyHistogram.getTotalCount(), "Invalid responses still have a latency");
+
+            LoadTestResult unsampled = RestApiLoadUtils.runLoadTest(url, null, 2, 25, 200, LoadOptions.defaults()
+                    .transport(LoadTransport.forName("jdk"))
+                    .bodySource(bodies)
+                    .validator(ResponseValidators.fieldEquals("id", -1), 0.0));
+            assertTrue(unsampled.success, "A sample rate of 0 never checks bodies");
+        }
+    }
+}
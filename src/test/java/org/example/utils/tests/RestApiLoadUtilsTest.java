@@ -5,6 +5,8 @@ import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.example.utils.RestApiLoadUtils;
 import org.example.utils.RestApiUtils;
+import org.example.utils.load.WorkerStats;
+import org.HdrHistogram.Histogram;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,8 @@ import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -144,6 +148,48 @@ public class RestApiLoadUtilsTest {
         assertEquals(10, result.minResponseTime);
     }
 
+    @Test
+    void testWorkerStatsMergeIntoPercentiles() {
+        WorkerStats first = new WorkerStats();
+        WorkerStats second = new WorkerStats();
+        for (int i = 1; i <= 1000; i++) {
+            (i % 2 == 0 ? first : second).recordResponse(i * 1_000L, false);
+        }
+        second.recordError();
+
+        WorkerStats merged = WorkerStats.merge(List.of(first, second));
+        RestApiLoadUtils.LoadTestResult result = new RestApiLoadUtils.LoadTestResult(false, merged);
+
+        assertEquals(1001, result.totalRequests);
+        assertEquals(1, result.failedRequests);
+        assertEquals(1000, result.latencyHistogram.getTotalCount());
+        assertEquals(500, result.p50Micros, 1);
+        assertEquals(990, result.p99Micros, 1);
+        assertEquals(999, result.p999Micros, 1);
+        assertEquals(1000, result.maxMicros, 1);
+        assertEquals(0, result.minResponseTime);
+        assertEquals(1, result.maxResponseTime);
+    }
+
+    @Test
+    void testHistogramEncodingAllowsRunComparison() {
+        WorkerStats baselineStats = new WorkerStats();
+        WorkerStats slowerStats = new WorkerStats();
+        for (int i = 1; i <= 100; i++) {
+            baselineStats.recordResponse(i * 1_000_000L, false);
+            slowerStats.recordResponse(i * 2_000_000L, false);
+        }
+        RestApiLoadUtils.LoadTestResult baseline = new RestApiLoadUtils.LoadTestResult(true, baselineStats);
+        RestApiLoadUtils.LoadTestResult slower = new RestApiLoadUtils.LoadTestResult(true, slowerStats);
+
+        Histogram decoded = RestApiLoadUtils.LoadTestResult.decodeHistogram(baseline.encodeHistogram());
+        assertEquals(baseline.latencyHistogram, decoded);
+
+        Map<Double, Long> deltas = slower.percentileDeltaMicros(baseline);
+        assertTrue(deltas.get(99.0) > 0);
+        assertEquals(slower.maxMicros - baseline.maxMicros, deltas.get(100.0));
+    }
+
     @Test
     void testRunLoadTestWithException() {
         when(mockRequestSpecification.post(anyString())).thenThrow(new RuntimeException("Test exception"));
@@ -14,6 +14,7 @@ import org.mockito.MockedStatic;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -71,6 +72,21 @@ public class RestApiUtilsTest {
         assertTrue(url.contains("&"));
     }
 
+    @Test
+    void testGetUrlWithNamedParams() {
+        assertEquals(BASE_URL + "/Activities/15", RestApiUtils.ACTIVITIES_BY_ID.getUrlWithParams(Map.of("id", "15")));
+    }
+
+    @Test
+    void testGetUrlWithQueryParamsEncodesUnsafeKeysAndValues() {
+        Map<String, String> queryParams = new LinkedHashMap<>();
+        queryParams.put("page", "2");
+        queryParams.put("title filter", "Activity 30 & more");
+
+        assertEquals(BASE_URL + "/Activities?page=2&title+filter=Activity+30+%26+more",
+                RestApiUtils.ACTIVITIES.getUrlWithQueryParams(queryParams));
+    }
+
     @Test
     void testGetUrlWithQueryParamsReturnsOriginalUrlWhenParamsAreEmpty() {
         String url = RestApiUtils.ACTIVITIES.getUrlWithQueryParams(new HashMap<>());
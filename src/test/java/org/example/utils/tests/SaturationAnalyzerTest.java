@@ -0,0 +1,84 @@
+package org.example.utils.tests;
+
+import org.example.utils.RestApiLoadUtils;
+import org.example.utils.load.SaturationAnalyzer;
+import org.example.utils.load.StepResult;
+import org.example.utils.load.WorkerStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaturationAnalyzerTest {
+
+    /**
+     * Builds a step that completed {@code requests} requests in one second, all taking {@code latencyMillis}.
+     */
+    private static StepResult step(int concurrency, int requests, long latencyMillis, int failures) {
+        WorkerStats stats = new WorkerStats();
+        for (int i = 0; i < requests; i++) {
+            stats.recordResponse(latencyMillis * 1_000_000, i < failures);
+        }
+        return new StepResult(concurrency,
+                new RestApiLoadUtils.LoadTestResult(failures == 0, stats, "test", 1_000_000_000L, 0));
+    }
+
+    @Test
+    void testKneeWhenThroughputStopsScaling() {
+        List<StepResult> steps = List.of(
+                step(10, 100, 100, 0),
+                step(20, 200, 100, 0),
+                step(30, 290, 110, 0),
+                step(40, 300, 130, 0),
+                step(50, 305, 160, 0));
+
+        SaturationAnalyzer.SaturationPoint point = new SaturationAnalyzer().analyze(steps);
+
+        assertTrue(point.isSaturated());
+        assertEquals(30, point.getKnee().getConcurrency());
+        assertEquals(40, point.getFirstSaturatedStep().getConcurrency());
+        assertTrue(point.getReason().contains("throughput"));
+    }
+
+    @Test
+    void testKneeWhenLatencyExceedsFactor() {
+        List<StepResult> steps = List.of(
+                step(10, 100, 100, 0),
+                step(20, 200, 150, 0),
+                step(30, 300, 250, 0));
+
+        SaturationAnalyzer.SaturationPoint point = new SaturationAnalyzer(2.0, 0.5).analyze(steps);
+
+        assertEquals(20, point.getKnee().getConcurrency());
+        assertEquals(30, point.getFirstSaturatedStep().getConcurrency());
+        assertTrue(point.getReason().contains("p99"));
+    }
+
+    @Test
+    void testNoKneeWhenRampKeepsScaling() {
+        List<StepResult> steps = List.of(
+                step(10, 100, 100, 0),
+                step(20, 200, 100, 0));
+
+        SaturationAnalyzer.SaturationPoint point = new SaturationAnalyzer().analyze(steps);
+
+        assertFalse(point.isSaturated());
+        assertEquals(20, point.getKnee().getConcurrency());
+    }
+
+    @Test
+    void testStepResultReportsErrorRateAndThroughput() {
+        StepResult step = step(10, 200, 50, 10);
+
+        assertEquals(0.05, step.getErrorRate(), 1e-9);
+        assertEquals(200.0, step.getThroughput(), 1e-9);
+        assertEquals(50_000, step.getP99Micros(), 50);
+    }
+
+    @Test
+    void testAnalyzerRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new SaturationAnalyzer().analyze(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new SaturationAnalyzer(0.5, 0.5));
+    }
+}
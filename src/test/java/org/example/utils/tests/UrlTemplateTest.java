@@ -0,0 +1,59 @@
+package org.example.utils.tests;
+
+import org.example.utils.UrlTemplate;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class UrlTemplateTest {
+
+    @Test
+    void testCompileSplitsLiteralsAndNamedPlaceholders() {
+        UrlTemplate template = UrlTemplate.compile("/Authors/{authorId}/Books/{bookId}");
+
+        assertEquals(2, template.getPlaceholderCount());
+        assertEquals(List.of("authorId", "bookId"), template.getPlaceholderNames());
+        assertEquals("http://host/Authors/7/Books/a+b", template.expand("http://host", "7", "a b"));
+        assertEquals("http://host/Authors/7/Books/9",
+                template.expand("http://host", Map.of("bookId", "9", "authorId", "7")));
+    }
+
+    @Test
+    void testNamedExpansionRejectsMissingAndUnknownNames() {
+        UrlTemplate template = UrlTemplate.compile("/Activities/{id}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.expand("", Map.of()));
+        Map<String, String> extra = new LinkedHashMap<>(Map.of("id", "1"));
+        extra.put("page", "2");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> template.expand("", extra));
+        assertTrue(e.getMessage().contains("'page'"));
+        assertThrows(IllegalArgumentException.class, () -> UrlTemplate.compile("/Activities/{id"));
+    }
+
+    @Test
+    void testSafeValuesSkipTheEncoder() {
+        try (MockedStatic<URLEncoder> mockedURLEncoder = mockStatic(URLEncoder.class, CALLS_REAL_METHODS)) {
+            assertEquals("/Activities/15", UrlTemplate.compile("/Activities/{id}").expand("", "15"));
+            assertEquals("Ab-9_x.y*", UrlTemplate.encode("Ab-9_x.y*"));
+            mockedURLEncoder.verify(() -> URLEncoder.encode(anyString(), any(Charset.class)), never());
+        }
+    }
+
+    @Test
+    void testEncodeMatchesUrlEncoderForUnsafeValues() {
+        for (String value : List.of("a b", "a/b?c", "x&y=z", "~tilde", "café", "100%", "")) {
+            assertEquals(URLEncoder.encode(value, StandardCharsets.UTF_8), UrlTemplate.encode(value), value);
+        }
+    }
+}